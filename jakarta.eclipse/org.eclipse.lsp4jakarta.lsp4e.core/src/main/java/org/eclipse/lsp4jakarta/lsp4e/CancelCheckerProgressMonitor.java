@@ -0,0 +1,48 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+
+package org.eclipse.lsp4jakarta.lsp4e;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.lsp4j.jsonrpc.CancelChecker;
+
+/**
+ * Progress monitor which is canceled when the JSON-RPC request it was created
+ * for is canceled by the language server.
+ *
+ * <p>
+ * {@link #isCanceled()} never throws, so that JDT and the Jakarta participants
+ * can poll it from any thread and stop their work cleanly. Once the request is
+ * canceled, the monitor stays canceled.
+ * </p>
+ */
+public class CancelCheckerProgressMonitor extends NullProgressMonitor {
+
+    private final CancelChecker cancelChecker;
+
+    public CancelCheckerProgressMonitor(CancelChecker cancelChecker) {
+        this.cancelChecker = cancelChecker;
+    }
+
+    @Override
+    public boolean isCanceled() {
+        if (super.isCanceled()) {
+            return true;
+        }
+        if (cancelChecker.isCanceled()) {
+            setCanceled(true);
+            return true;
+        }
+        return false;
+    }
+}
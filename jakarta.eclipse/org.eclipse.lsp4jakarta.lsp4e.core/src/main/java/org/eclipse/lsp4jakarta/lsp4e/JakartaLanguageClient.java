@@ -16,9 +16,9 @@ package org.eclipse.lsp4jakarta.lsp4e;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4e.LanguageClientImpl;
 import org.eclipse.lsp4j.CodeAction;
@@ -33,6 +33,7 @@ import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaProjectLabelsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
 import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
@@ -49,13 +50,7 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
     }
 
     private IProgressMonitor getProgressMonitor(CancelChecker cancelChecker) {
-        IProgressMonitor monitor = new NullProgressMonitor() {
-            public boolean isCanceled() {
-                cancelChecker.checkCanceled();
-                return false;
-            };
-        };
-        return monitor;
+        return new CancelCheckerProgressMonitor(cancelChecker);
     }
 
     /**
@@ -117,13 +112,14 @@ public class JakartaLanguageClient extends LanguageClientImpl implements Jakarta
      * {@inheritDoc}
      */
     @Override
-    public CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(
-                                                                                JakartaJavaDiagnosticsParams javaParams) {
+    public CompletableFuture<List<JakartaPublishDiagnosticsParams>> getJavaDiagnostics(
+                                                                                       JakartaJavaDiagnosticsParams javaParams) {
         return CompletableFutures.computeAsync((cancelChecker) -> {
             IProgressMonitor monitor = getProgressMonitor(cancelChecker);
             try {
-                return PropertiesManagerForJava.getInstance().diagnostics(javaParams, JDTUtilsLSImpl.getInstance(),
-                                                                          monitor);
+                List<PublishDiagnosticsParams> diagnostics = PropertiesManagerForJava.getInstance().diagnostics(javaParams, JDTUtilsLSImpl.getInstance(),
+                                                                                                                monitor);
+                return diagnostics.stream().map(diagnostic -> diagnostic instanceof JakartaPublishDiagnosticsParams ? (JakartaPublishDiagnosticsParams) diagnostic : new JakartaPublishDiagnosticsParams(diagnostic.getUri(), diagnostic.getDiagnostics())).collect(Collectors.toList());
             } catch (JavaModelException e) {
                 return Collections.emptyList();
             }
@@ -0,0 +1,199 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+/**
+ * Parameters to fix one diagnostic code in all the Java files of a project.
+ *
+ * <p>
+ * The Java files of the project are fixed by chunks of at most
+ * {@link #getLimit()} files, starting at {@link #getOffset()} in the path
+ * order of the files. The next chunk starts at
+ * {@link JakartaJavaBulkQuickFixResult#getNextOffset()}.
+ * </p>
+ */
+public class JakartaJavaBulkQuickFixParams {
+
+    private String uri;
+
+    private String code;
+
+    private String source;
+
+    private int offset;
+
+    private int limit;
+
+    private int parallelism;
+
+    private boolean resourceOperationSupported;
+
+    private boolean commandConfigurationUpdateSupported;
+
+    /**
+     * Returns the uri of the project or of a Java file of the project.
+     *
+     * @return the uri of the project or of a Java file of the project.
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Set the uri of the project or of a Java file of the project.
+     *
+     * @param uri the uri of the project or of a Java file of the project.
+     */
+    public void setUri(String uri) {
+        this.uri = uri;
+    }
+
+    /**
+     * Returns the code of the diagnostics to fix.
+     *
+     * @return the code of the diagnostics to fix.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Set the code of the diagnostics to fix.
+     *
+     * @param code the code of the diagnostics to fix.
+     */
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    /**
+     * Returns the source of the diagnostics to fix, or null to fix the
+     * diagnostics of all sources with the code.
+     *
+     * @return the source of the diagnostics to fix, or null.
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Set the source of the diagnostics to fix, or null to fix the diagnostics of
+     * all sources with the code.
+     *
+     * @param source the source of the diagnostics to fix.
+     */
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * Returns the index of the first Java file of the chunk.
+     *
+     * @return the index of the first Java file of the chunk.
+     */
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Set the index of the first Java file of the chunk.
+     *
+     * @param offset the index of the first Java file of the chunk.
+     */
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the maximum number of Java files of the chunk. A value lower than
+     * or equal to 0 means all the remaining Java files.
+     *
+     * @return the maximum number of Java files of the chunk.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Set the maximum number of Java files of the chunk, 0 for all the remaining
+     * Java files.
+     *
+     * @param limit the maximum number of Java files of the chunk.
+     */
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the maximum number of Java files fixed concurrently. A value lower
+     * than or equal to 0 uses the number of processors.
+     *
+     * @return the maximum number of Java files fixed concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the maximum number of Java files fixed concurrently, 0 for the number
+     * of processors.
+     *
+     * @param parallelism the maximum number of Java files fixed concurrently.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns true if the client supports file create, rename and delete
+     * operations in workspace edits and false otherwise.
+     *
+     * @return true if the client supports resource operations.
+     */
+    public boolean isResourceOperationSupported() {
+        return resourceOperationSupported;
+    }
+
+    /**
+     * Set true if the client supports file create, rename and delete operations
+     * in workspace edits and false otherwise.
+     *
+     * @param resourceOperationSupported true if the client supports resource
+     *            operations.
+     */
+    public void setResourceOperationSupported(boolean resourceOperationSupported) {
+        this.resourceOperationSupported = resourceOperationSupported;
+    }
+
+    /**
+     * Returns true if the client supports the command to update the
+     * configuration and false otherwise.
+     *
+     * @return true if the client supports the command to update the
+     *         configuration.
+     */
+    public boolean isCommandConfigurationUpdateSupported() {
+        return commandConfigurationUpdateSupported;
+    }
+
+    /**
+     * Set true if the client supports the command to update the configuration
+     * and false otherwise.
+     *
+     * @param commandConfigurationUpdateSupported true if the client supports the
+     *            command to update the configuration.
+     */
+    public void setCommandConfigurationUpdateSupported(boolean commandConfigurationUpdateSupported) {
+        this.commandConfigurationUpdateSupported = commandConfigurationUpdateSupported;
+    }
+}
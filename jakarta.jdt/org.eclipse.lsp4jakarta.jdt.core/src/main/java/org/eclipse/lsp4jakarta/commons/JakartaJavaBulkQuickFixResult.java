@@ -0,0 +1,90 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import org.eclipse.lsp4j.WorkspaceEdit;
+
+/**
+ * Edit of one chunk of Java files computed for
+ * {@link JakartaJavaBulkQuickFixParams}.
+ */
+public class JakartaJavaBulkQuickFixResult {
+
+    private WorkspaceEdit edit;
+
+    private int fixedDiagnostics;
+
+    private int fixedFiles;
+
+    private int totalFiles;
+
+    private int nextOffset;
+
+    public JakartaJavaBulkQuickFixResult() {
+        this(null, 0, 0, 0, -1);
+    }
+
+    public JakartaJavaBulkQuickFixResult(WorkspaceEdit edit, int fixedDiagnostics, int fixedFiles, int totalFiles, int nextOffset) {
+        this.edit = edit;
+        this.fixedDiagnostics = fixedDiagnostics;
+        this.fixedFiles = fixedFiles;
+        this.totalFiles = totalFiles;
+        this.nextOffset = nextOffset;
+    }
+
+    /**
+     * Returns the edit which fixes the Java files of the chunk.
+     *
+     * @return the edit which fixes the Java files of the chunk.
+     */
+    public WorkspaceEdit getEdit() {
+        return edit;
+    }
+
+    /**
+     * Returns the number of diagnostics fixed by the edit.
+     *
+     * @return the number of diagnostics fixed by the edit.
+     */
+    public int getFixedDiagnostics() {
+        return fixedDiagnostics;
+    }
+
+    /**
+     * Returns the number of Java files modified by the edit.
+     *
+     * @return the number of Java files modified by the edit.
+     */
+    public int getFixedFiles() {
+        return fixedFiles;
+    }
+
+    /**
+     * Returns the number of Java files of the project.
+     *
+     * @return the number of Java files of the project.
+     */
+    public int getTotalFiles() {
+        return totalFiles;
+    }
+
+    /**
+     * Returns the index of the first Java file of the next chunk, and -1 when all
+     * the Java files of the project were processed.
+     *
+     * @return the index of the first Java file of the next chunk, or -1.
+     */
+    public int getNextOffset() {
+        return nextOffset;
+    }
+}
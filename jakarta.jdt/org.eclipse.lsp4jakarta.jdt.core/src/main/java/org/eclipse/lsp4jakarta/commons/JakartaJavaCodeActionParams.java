@@ -35,6 +35,10 @@ public class JakartaJavaCodeActionParams extends CodeActionParams {
 
     private boolean resolveSupported;
 
+    private JakartaJavaDiagnosticsSettings diagnosticsSettings;
+
+    private DocumentFormat documentFormat;
+
     public JakartaJavaCodeActionParams() {
         super();
     }
@@ -71,4 +75,32 @@ public class JakartaJavaCodeActionParams extends CodeActionParams {
     public void setResolveSupported(boolean resolveSupported) {
         this.resolveSupported = resolveSupported;
     }
+
+    /**
+     * Returns the client settings of the diagnostics which the code actions
+     * collect, such as the fix all code action, and null otherwise.
+     *
+     * @return the client settings of the diagnostics and null otherwise.
+     */
+    public JakartaJavaDiagnosticsSettings getDiagnosticsSettings() {
+        return diagnosticsSettings;
+    }
+
+    public void setDiagnosticsSettings(JakartaJavaDiagnosticsSettings diagnosticsSettings) {
+        this.diagnosticsSettings = diagnosticsSettings;
+    }
+
+    /**
+     * Returns the client document format of the diagnostics which the code
+     * actions collect and null otherwise.
+     *
+     * @return the client document format of the diagnostics and null otherwise.
+     */
+    public DocumentFormat getDocumentFormat() {
+        return documentFormat;
+    }
+
+    public void setDocumentFormat(DocumentFormat documentFormat) {
+        this.documentFormat = documentFormat;
+    }
 }
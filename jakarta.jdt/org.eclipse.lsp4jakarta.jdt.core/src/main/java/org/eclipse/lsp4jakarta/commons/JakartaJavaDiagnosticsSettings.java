@@ -30,6 +30,12 @@ public class JakartaJavaDiagnosticsSettings {
 
     private List<String> patterns;
 
+    private boolean parallelParticipants;
+
+    private int parallelism;
+
+    private int timeBudget;
+
     /**
      * Returns a list of patterns representing the properties to ignore validation
      * when adding diagnostics for properties without
@@ -43,4 +49,68 @@ public class JakartaJavaDiagnosticsSettings {
         return patterns == null ? Collections.emptyList() : this.patterns;
     }
 
+    /**
+     * Returns true if the diagnostics participants must collect their
+     * diagnostics in parallel and false otherwise.
+     *
+     * @return true if the diagnostics participants must collect their
+     *         diagnostics in parallel and false otherwise.
+     */
+    public boolean isParallelParticipants() {
+        return parallelParticipants;
+    }
+
+    /**
+     * Set true if the diagnostics participants must collect their diagnostics in
+     * parallel and false otherwise.
+     *
+     * @param parallelParticipants true if the diagnostics participants must
+     *            collect their diagnostics in parallel.
+     */
+    public void setParallelParticipants(boolean parallelParticipants) {
+        this.parallelParticipants = parallelParticipants;
+    }
+
+    /**
+     * Returns the maximum number of documents validated concurrently. A value
+     * lower than or equal to 1 validates the documents one after the other.
+     *
+     * @return the maximum number of documents validated concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the maximum number of documents validated concurrently.
+     *
+     * @param parallelism the maximum number of documents validated concurrently.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the time budget in milliseconds to collect the diagnostics of one
+     * Java file. Once the budget is spent, the remaining diagnostics participants
+     * are not called and the diagnostics are marked as partial. A value lower
+     * than or equal to 0 means no budget.
+     *
+     * @return the time budget in milliseconds to collect the diagnostics of one
+     *         Java file.
+     */
+    public int getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Set the time budget in milliseconds to collect the diagnostics of one Java
+     * file, 0 for no budget.
+     *
+     * @param timeBudget the time budget in milliseconds.
+     */
+    public void setTimeBudget(int timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
 }
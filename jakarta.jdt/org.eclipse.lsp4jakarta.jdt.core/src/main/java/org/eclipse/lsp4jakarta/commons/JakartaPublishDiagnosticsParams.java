@@ -0,0 +1,59 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.commons;
+
+import java.util.List;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+
+/**
+ * Diagnostics of a Java file returned by the Jakarta JDT component.
+ *
+ * <p>
+ * The diagnostics are partial when the time budget of the diagnostics settings
+ * was spent before all the diagnostics participants were called.
+ * </p>
+ */
+public class JakartaPublishDiagnosticsParams extends PublishDiagnosticsParams {
+
+    private boolean partial;
+
+    public JakartaPublishDiagnosticsParams() {
+    }
+
+    public JakartaPublishDiagnosticsParams(String uri, List<Diagnostic> diagnostics) {
+        super(uri, diagnostics);
+    }
+
+    /**
+     * Returns true if some diagnostics participants were not called because the
+     * time budget was spent and false otherwise.
+     *
+     * @return true if the diagnostics are partial and false otherwise.
+     */
+    public boolean isPartial() {
+        return partial;
+    }
+
+    /**
+     * Set true if some diagnostics participants were not called because the time
+     * budget was spent and false otherwise.
+     *
+     * @param partial true if the diagnostics are partial.
+     */
+    public void setPartial(boolean partial) {
+        this.partial = partial;
+    }
+}
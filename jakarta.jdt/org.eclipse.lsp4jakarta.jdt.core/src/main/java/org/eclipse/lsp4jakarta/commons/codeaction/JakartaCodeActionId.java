@@ -77,7 +77,9 @@ public enum JakartaCodeActionId implements ICodeActionId {
     CDIRemoveInjectAnnotation,
     CDIRemoveScopeDeclarationAnnotationsButOne,
     CDIReplaceScopeAnnotations,
-    CDIRemoveStatelessAnnotation;
+    CDIRemoveStatelessAnnotation,
+    // Fix all
+    FixAllJakartaProblems;
 
     @Override
     public String getId() {
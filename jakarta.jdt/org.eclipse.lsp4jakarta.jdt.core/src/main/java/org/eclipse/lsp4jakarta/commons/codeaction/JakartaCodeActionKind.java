@@ -0,0 +1,30 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.commons.codeaction;
+
+import org.eclipse.lsp4j.CodeActionKind;
+
+/**
+ * LSP4Jakarta code action kinds.
+ */
+public class JakartaCodeActionKind {
+
+    /**
+     * Source action which applies the quick fixes of all the Jakarta problems of
+     * a Java file at once.
+     */
+    public static final String SOURCE_FIX_ALL = CodeActionKind.SourceFixAll + ".jakarta";
+
+    private JakartaCodeActionKind() {
+    }
+}
@@ -18,26 +18,22 @@ import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 
 public class ASTUtils {
 
     /**
-     * Converts a given compilation unit to an ASTNode.
+     * Converts a given compilation unit to an ASTNode. The AST is shared by
+     * {@link SharedASTProvider} and must not be modified.
      *
      * @param unit
      * @return ASTNode parsed from the compilation unit
      */
     public static ASTNode getASTNode(ICompilationUnit unit) {
-        ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
-        parser.setKind(ASTParser.K_COMPILATION_UNIT);
-        parser.setSource(unit);
-        parser.setResolveBindings(true);
-        return parser.createAST(null);
+        return SharedASTProvider.getInstance().getAST(unit, null);
     }
 
     /**
@@ -48,6 +44,9 @@ public class ASTUtils {
      */
     public static List<MethodInvocation> getMethodInvocations(ICompilationUnit unit) {
         ASTNode node = getASTNode(unit);
+        if (node == null) {
+            return Collections.emptyList();
+        }
         MethodInvocationVisitor visitor = new ASTUtils().new MethodInvocationVisitor();
         node.accept(visitor);
         return visitor.getMethodInvocations();
@@ -14,8 +14,25 @@
 
 package org.eclipse.lsp4jakarta.jdt.core;
 
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.DeclaredTypeIndex;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.MetaAnnotationCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ParticipantMetrics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.TypeResolutionCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionHandler;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IncrementalJavaDiagnostics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.CompilationUnitConsistency;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -24,6 +41,8 @@ import org.osgi.framework.BundleContext;
  */
 public class JakartaCorePlugin implements BundleActivator {
 
+    private static final Logger LOGGER = Logger.getLogger(JakartaCorePlugin.class.getName());
+
     // The plug-in ID
     public static final String PLUGIN_ID = "org.eclipse.lsp4jakarta.jdt.core"; //$NON-NLS-1$
 
@@ -33,9 +52,34 @@ public class JakartaCorePlugin implements BundleActivator {
     public void start(BundleContext context) throws Exception {
 //    	super.start(context);
         plugin = this;
+        JavaCore.addElementChangedListener(JavaDiagnosticsCache.getInstance(),
+                                           ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+        JavaDiagnosticsCache.getInstance().addStructureChangeListener(MetaAnnotationCache.getInstance());
+        JavaDiagnosticsCache.getInstance().addStructureChangeListener(DeclaredTypeIndex.getInstance());
+        JavaCore.addElementChangedListener(CompilationUnitConsistency.getInstance(),
+                                           ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
     }
 
     public void stop(BundleContext context) throws Exception {
+        JavaCore.removeElementChangedListener(JavaDiagnosticsCache.getInstance());
+        JavaDiagnosticsCache.getInstance().removeStructureChangeListener(MetaAnnotationCache.getInstance());
+        JavaDiagnosticsCache.getInstance().removeStructureChangeListener(DeclaredTypeIndex.getInstance());
+        JavaCore.removeElementChangedListener(CompilationUnitConsistency.getInstance());
+        JavaDiagnosticsCache.getInstance().clear();
+        IncrementalJavaDiagnostics.getInstance().clear();
+        ImportResolutionTable.clear();
+        TypeResolutionCache.getInstance().clear();
+        SharedASTProvider.getInstance().clear();
+        CodeActionCache.getInstance().clear();
+        CodeActionHandler.shutdown();
+        PropertiesManagerForJava.getInstance().shutdown();
+        MetaAnnotationCache.getInstance().clear();
+        SupertypeHierarchyCache.getInstance().clear();
+        DeclaredTypeIndex.getInstance().clear();
+        if (LOGGER.isLoggable(Level.FINE)) {
+            ParticipantMetrics.getAll().forEach(metrics -> LOGGER.fine(metrics.toString()));
+            LOGGER.fine(CompilationUnitConsistency.getInstance().toString());
+        }
         plugin = null;
 //		super.stop(context);
     }
@@ -13,9 +13,22 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.core;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -38,7 +51,6 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
@@ -47,20 +59,27 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.validation.NonNull;
 import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextKind;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.jdt.core.java.completion.JavaCompletionContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.BulkQuickFixHandler;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionHandler;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.completion.JavaCompletionDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IncrementalJavaDiagnostics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
 
 /**
@@ -73,16 +92,59 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnostic
  */
 public class PropertiesManagerForJava {
 
+    private static final Logger LOGGER = Logger.getLogger(PropertiesManagerForJava.class.getName());
+
+    /** Upper bound of threads used to collect diagnostics or validate documents in parallel. */
+    private static final int MAX_DIAGNOSTICS_PARALLELISM = 8;
+
     private static final PropertiesManagerForJava INSTANCE = new PropertiesManagerForJava();
 
     private final CodeActionHandler codeActionHandler;
 
+    private final BulkQuickFixHandler bulkQuickFixHandler;
+
+    /** Pool which collects the diagnostics participants in parallel, created on first use. */
+    private ForkJoinPool diagnosticsPool;
+
+    /** Pool which validates the documents in parallel, created on first use. */
+    private ForkJoinPool documentsPool;
+
     public static PropertiesManagerForJava getInstance() {
         return INSTANCE;
     }
 
     private PropertiesManagerForJava() {
         this.codeActionHandler = new CodeActionHandler();
+        this.bulkQuickFixHandler = new BulkQuickFixHandler();
+    }
+
+    private synchronized ForkJoinPool getDiagnosticsPool() {
+        if (diagnosticsPool == null) {
+            diagnosticsPool = new ForkJoinPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_DIAGNOSTICS_PARALLELISM)));
+        }
+        return diagnosticsPool;
+    }
+
+    private synchronized ForkJoinPool getDocumentsPool() {
+        if (documentsPool == null) {
+            documentsPool = new ForkJoinPool(MAX_DIAGNOSTICS_PARALLELISM);
+        }
+        return documentsPool;
+    }
+
+    /**
+     * Shuts down the pools which collect the diagnostics participants and
+     * validate the documents in parallel.
+     */
+    public synchronized void shutdown() {
+        if (diagnosticsPool != null) {
+            diagnosticsPool.shutdownNow();
+            diagnosticsPool = null;
+        }
+        if (documentsPool != null) {
+            documentsPool.shutdownNow();
+            documentsPool = null;
+        }
     }
 
     /**
@@ -149,7 +211,7 @@ public class PropertiesManagerForJava {
         if (typeRoot == null) {
             return new JavaCursorContextResult(JavaCursorContextKind.IN_EMPTY_FILE, "");
         }
-        CompilationUnit ast = ASTResolving.createQuickFixAST((ICompilationUnit) typeRoot, monitor);
+        CompilationUnit ast = SharedASTProvider.getInstance().getAST((ICompilationUnit) typeRoot, monitor);
 
         JavaCursorContextKind kind = getJavaCursorContextKind(params, typeRoot, ast, utils, monitor);
         String prefix = getJavaCursorPrefix(params, typeRoot, ast, utils, monitor);
@@ -306,6 +368,22 @@ public class PropertiesManagerForJava {
         return codeActionHandler.resolveCodeAction(unresolved, utils, monitor);
     }
 
+    /**
+     * Returns the edit which fixes the diagnostics with the given code in the
+     * requested chunk of the Java files of a project.
+     *
+     * @param params the bulk quick fix parameters
+     * @param utils the utilities class
+     * @param monitor the monitor
+     * @return the edit of the requested chunk, or null if the project cannot be
+     *         found.
+     * @throws JavaModelException
+     */
+    public JakartaJavaBulkQuickFixResult bulkQuickFix(JakartaJavaBulkQuickFixParams params, IJDTUtils utils,
+                                                      IProgressMonitor monitor) throws JavaModelException {
+        return bulkQuickFixHandler.bulkQuickFix(params, utils, monitor);
+    }
+
     /**
      * Returns diagnostics for the given uris list.
      *
@@ -316,48 +394,286 @@ public class PropertiesManagerForJava {
      */
     public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
                                                       IProgressMonitor monitor) throws JavaModelException {
+        return diagnostics(params, utils, null, monitor);
+    }
+
+    /**
+     * Returns diagnostics for the given uris list.
+     *
+     * <p>
+     * When the settings define a parallelism greater than 1, the uris are
+     * validated concurrently by at most that number of threads. The given
+     * consumer, when not null, receives each diagnostics as soon as the uri is
+     * validated and must be thread safe.
+     * </p>
+     *
+     * <p>
+     * Each returned diagnostics is a {@link JakartaPublishDiagnosticsParams}
+     * which is marked as partial when the time budget of the settings was spent
+     * before all the participants were called.
+     * </p>
+     *
+     * @param params the diagnostics parameters
+     * @param utils the utilities class
+     * @param onDiagnostics the consumer notified for each validated uri, or null
+     * @param monitor the progress monitor
+     * @return diagnostics for the given uris list, in the order of the uris.
+     * @throws JavaModelException
+     */
+    public List<PublishDiagnosticsParams> diagnostics(JakartaJavaDiagnosticsParams params, IJDTUtils utils,
+                                                      Consumer<PublishDiagnosticsParams> onDiagnostics, IProgressMonitor monitor) throws JavaModelException {
         List<String> uris = params.getUris();
         if (uris == null) {
             return Collections.emptyList();
         }
         DocumentFormat documentFormat = params.getDocumentFormat();
-        List<PublishDiagnosticsParams> publishDiagnostics = new ArrayList<PublishDiagnosticsParams>();
-        for (String uri : uris) {
-            List<Diagnostic> diagnostics = new ArrayList<>();
-            PublishDiagnosticsParams publishDiagnostic = new PublishDiagnosticsParams(uri, diagnostics);
-            publishDiagnostics.add(publishDiagnostic);
-            collectDiagnostics(uri, utils, documentFormat, params.getSettings(), diagnostics, monitor);
+        JakartaJavaDiagnosticsSettings settings = params.getSettings();
+        PublishDiagnosticsParams[] publishDiagnostics = new PublishDiagnosticsParams[uris.size()];
+        int parallelism = settings != null ? Math.min(settings.getParallelism(), uris.size()) : 1;
+        if (parallelism <= 1) {
+            for (int i = 0; i < uris.size() && !monitor.isCanceled(); i++) {
+                publishDiagnostics[i] = diagnostics(uris.get(i), utils, documentFormat, settings, onDiagnostics, monitor);
+            }
+        } else {
+            // Each worker takes the next uri to validate until all uris are validated or
+            // the monitor is canceled
+            AtomicInteger nextIndex = new AtomicInteger();
+            ForkJoinPool pool = getDocumentsPool();
+            List<ForkJoinTask<?>> workers = new ArrayList<>(parallelism);
+            for (int w = 0; w < parallelism; w++) {
+                workers.add(pool.submit(() -> {
+                    int i;
+                    while (!monitor.isCanceled() && (i = nextIndex.getAndIncrement()) < uris.size()) {
+                        publishDiagnostics[i] = diagnostics(uris.get(i), utils, documentFormat, settings, onDiagnostics, monitor);
+                    }
+                }));
+            }
+            for (ForkJoinTask<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    workers.forEach(w -> w.cancel(true));
+                    return Collections.emptyList();
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e.getCause());
+                }
+            }
         }
         if (monitor.isCanceled()) {
             return Collections.emptyList();
         }
-        return publishDiagnostics;
+        List<PublishDiagnosticsParams> result = new ArrayList<>(publishDiagnostics.length);
+        for (int i = 0; i < publishDiagnostics.length; i++) {
+            result.add(publishDiagnostics[i] != null ? publishDiagnostics[i] : new JakartaPublishDiagnosticsParams(uris.get(i), new ArrayList<>()));
+        }
+        return result;
     }
 
-    private void collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
-                                    JakartaJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
+    private PublishDiagnosticsParams diagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
+                                                 JakartaJavaDiagnosticsSettings settings, Consumer<PublishDiagnosticsParams> onDiagnostics, IProgressMonitor monitor) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        JakartaPublishDiagnosticsParams publishDiagnostic = new JakartaPublishDiagnosticsParams(uri, diagnostics);
+        List<Diagnostic> cachedDiagnostics = JavaDiagnosticsCache.getInstance().get(uri, utils, documentFormat, settings);
+        if (cachedDiagnostics != null) {
+            diagnostics.addAll(cachedDiagnostics);
+        } else {
+            boolean complete = collectDiagnostics(uri, utils, documentFormat, settings, diagnostics, monitor);
+            publishDiagnostic.setPartial(!complete);
+        }
+        if (onDiagnostics != null && !monitor.isCanceled()) {
+            onDiagnostics.accept(publishDiagnostic);
+        }
+        return publishDiagnostic;
+    }
+
+    /**
+     * Collects the diagnostics of the given uri.
+     *
+     * @return true if all the adapted diagnostics participants were called and
+     *         false if the time budget of the settings was spent before.
+     */
+    private boolean collectDiagnostics(String uri, IJDTUtils utils, DocumentFormat documentFormat,
+                                       JakartaJavaDiagnosticsSettings settings, List<Diagnostic> diagnostics, IProgressMonitor monitor) {
         ITypeRoot typeRoot = resolveTypeRoot(uri, utils, monitor);
         if (typeRoot == null) {
-            return;
+            return true;
+        }
+
+        JavaDiagnosticsCache.Key cacheKey = null;
+        if (typeRoot instanceof ICompilationUnit) {
+            cacheKey = JavaDiagnosticsCache.getInstance().createKey(uri, (ICompilationUnit) typeRoot, documentFormat, settings);
         }
 
-        // Collect all adapted diagnostics participant
-        JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils, documentFormat, settings);
-        List<JavaDiagnosticsDefinition> definitions = JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions().stream().filter(definition -> definition.isAdaptedForDiagnostics(context,
-                                                                                                                                                                                          monitor)).collect(Collectors.toList());
+        // Collect all adapted diagnostics participant, skipping the participants
+        // whose trigger tokens don't appear in the source. The ranges of the
+        // diagnostics are computed with a line start table built once, and the
+        // Jakarta model of the compilation unit is built once by the first
+        // participant which needs it.
+        JavaDiagnosticsContext context = new JavaDiagnosticsContext(uri, typeRoot, utils.withLineStartTables(), documentFormat, settings);
+        List<JavaDiagnosticsDefinition> definitions = getTriggeredDiagnosticsDefinitions(uri, typeRoot).stream().filter(definition -> definition.isAdaptedForDiagnostics(context,
+                                                                                                                                                                        monitor)).collect(Collectors.toList());
         if (definitions.isEmpty()) {
-            return;
+            if (cacheKey != null && !monitor.isCanceled()) {
+                JavaDiagnosticsCache.getInstance().put(cacheKey, diagnostics);
+            }
+            return true;
+        }
+
+        // Reuse the diagnostics of the participants which only read the
+        // declarations when only the bodies changed since the previous pass
+        IncrementalJavaDiagnostics incrementalDiagnostics = IncrementalJavaDiagnostics.getInstance();
+        IncrementalJavaDiagnostics.Outline outline = cacheKey != null ? incrementalDiagnostics.createOutline(uri, (ICompilationUnit) typeRoot, cacheKey) : null;
+        Map<JavaDiagnosticsDefinition, List<Diagnostic>> collectedDiagnostics = new HashMap<>();
+        List<JavaDiagnosticsDefinition> definitionsToCollect = new ArrayList<>(definitions.size());
+        for (JavaDiagnosticsDefinition definition : definitions) {
+            List<Diagnostic> reusedDiagnostics = incrementalDiagnostics.get(outline, definition);
+            if (reusedDiagnostics != null) {
+                collectedDiagnostics.put(definition, reusedDiagnostics);
+            } else {
+                definitionsToCollect.add(definition);
+            }
         }
 
         // Begin, collect, end participants
-        definitions.forEach(definition -> definition.beginDiagnostics(context, monitor));
-        definitions.forEach(definition -> {
-            List<Diagnostic> collectedDiagnostics = definition.collectDiagnostics(context, monitor);
-            if (collectedDiagnostics != null && !collectedDiagnostics.isEmpty()) {
-                diagnostics.addAll(collectedDiagnostics);
+        boolean complete = true;
+        definitionsToCollect.forEach(definition -> definition.beginDiagnostics(context, monitor));
+        // Walk the AST once for the node callbacks registered by the participants
+        context.visitAST();
+        // The time budget starts with the participants, so that the wait for the
+        // consistency of the compilation unit and the AST walk don't spend it
+        long deadline = settings != null && settings.getTimeBudget() > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(settings.getTimeBudget()) : 0;
+        if (context.getSettings().isParallelParticipants() && definitionsToCollect.size() > 1) {
+            complete = collectDiagnosticsInParallel(definitionsToCollect, context, collectedDiagnostics, deadline, monitor);
+        } else {
+            boolean started = false;
+            for (JavaDiagnosticsDefinition definition : definitionsToCollect) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                // At least one participant is called whatever the budget
+                if (started && isExpired(deadline)) {
+                    complete = false;
+                    break;
+                }
+                started = true;
+                collectedDiagnostics.put(definition, definition.collectDiagnostics(context, monitor));
             }
-        });
-        definitions.forEach(definition -> definition.endDiagnostics(context, monitor));
+        }
+        definitionsToCollect.forEach(definition -> definition.endDiagnostics(context, monitor));
+
+        // Merge the diagnostics in the order of the registry
+        for (JavaDiagnosticsDefinition definition : definitions) {
+            List<Diagnostic> definitionDiagnostics = collectedDiagnostics.get(definition);
+            if (definitionDiagnostics != null && !definitionDiagnostics.isEmpty()) {
+                diagnostics.addAll(definitionDiagnostics);
+            }
+        }
+        if (!complete) {
+            LOGGER.log(Level.INFO, "Time budget of " + settings.getTimeBudget() + "ms spent while collecting the diagnostics of '" + uri + "', the diagnostics are partial");
+            // Partial diagnostics must not be cached
+            return false;
+        }
+        if (!monitor.isCanceled() && !Thread.currentThread().isInterrupted()) {
+            if (cacheKey != null) {
+                JavaDiagnosticsCache.getInstance().put(cacheKey, diagnostics);
+            }
+            if (outline != null) {
+                incrementalDiagnostics.put(outline, collectedDiagnostics);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the given deadline, from {@link System#nanoTime()}, is
+     * passed and false otherwise or if there is no deadline (0).
+     */
+    private static boolean isExpired(long deadline) {
+        return deadline != 0 && System.nanoTime() - deadline > 0;
+    }
+
+    /**
+     * Returns the diagnostics definitions which have no trigger token or which
+     * have a trigger token in the source of the given type root. All the
+     * definitions are returned if the source is not available.
+     *
+     * @param uri the Java file URI
+     * @param typeRoot the type root
+     * @return the diagnostics definitions triggered by the source of the given
+     *         type root
+     */
+    private static List<JavaDiagnosticsDefinition> getTriggeredDiagnosticsDefinitions(String uri, ITypeRoot typeRoot) {
+        JavaFeaturesRegistry registry = JavaFeaturesRegistry.getInstance();
+        List<JavaDiagnosticsDefinition> definitions = registry.getJavaDiagnosticsDefinitions();
+        char[] source = null;
+        try {
+            IBuffer buffer = typeRoot.getBuffer();
+            source = buffer != null ? buffer.getCharacters() : null;
+        } catch (JavaModelException e) {
+            LOGGER.log(Level.WARNING, "Unable to read the source of '" + uri + "'", e);
+        }
+        if (source == null) {
+            return definitions;
+        }
+        BitSet triggered = registry.getDiagnosticsTriggerMatcher().match(CharBuffer.wrap(source));
+        List<JavaDiagnosticsDefinition> triggeredDefinitions = new ArrayList<>(triggered.cardinality());
+        for (int i = triggered.nextSetBit(0); i >= 0; i = triggered.nextSetBit(i + 1)) {
+            triggeredDefinitions.add(definitions.get(i));
+        }
+        return triggeredDefinitions;
+    }
+
+    /**
+     * Collects the diagnostics of the given participants on the diagnostics pool.
+     * The caller merges them in the order of the registry, so that the published
+     * list doesn't depend on which participant finishes first.
+     *
+     * <p>
+     * A participant which has not started when the deadline is passed or when
+     * the monitor is canceled is not called, except the first participant to
+     * start, which is always called.
+     * </p>
+     *
+     * @param definitions the adapted diagnostics participants
+     * @param context the diagnostics context
+     * @param collectedDiagnostics the map to fill with the diagnostics of each
+     *            participant
+     * @param deadline the deadline from {@link System#nanoTime()}, 0 for none
+     * @param monitor the progress monitor
+     * @return true if all the participants were called and false otherwise.
+     */
+    private boolean collectDiagnosticsInParallel(List<JavaDiagnosticsDefinition> definitions,
+                                                 JavaDiagnosticsContext context, Map<JavaDiagnosticsDefinition, List<Diagnostic>> collectedDiagnostics, long deadline,
+                                                 IProgressMonitor monitor) {
+        AtomicBoolean complete = new AtomicBoolean(true);
+        AtomicBoolean started = new AtomicBoolean();
+        ForkJoinPool pool = getDiagnosticsPool();
+        List<ForkJoinTask<List<Diagnostic>>> tasks = new ArrayList<>(definitions.size());
+        for (JavaDiagnosticsDefinition definition : definitions) {
+            tasks.add(pool.submit(() -> {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                if (started.getAndSet(true) && isExpired(deadline)) {
+                    complete.set(false);
+                    return null;
+                }
+                return definition.collectDiagnostics(context, monitor);
+            }));
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                collectedDiagnostics.put(definitions.get(i), tasks.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(t -> t.cancel(true));
+                return complete.get();
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e.getCause());
+            }
+        }
+        return complete.get();
     }
 
     /**
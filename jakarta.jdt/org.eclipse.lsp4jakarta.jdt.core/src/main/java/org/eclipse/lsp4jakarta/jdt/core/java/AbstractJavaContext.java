@@ -20,8 +20,8 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 
 /**
  * Abstract class for Java context for a given compilation unit.
@@ -70,7 +70,7 @@ public abstract class AbstractJavaContext {
      * @param key the key.
      * @param value the value.
      */
-    public void put(String key, Object value) {
+    public synchronized void put(String key, Object value) {
         if (cache == null) {
             cache = new HashMap<>();
         }
@@ -85,16 +85,16 @@ public abstract class AbstractJavaContext {
      * @return the value to which the specified key is mapped, or {@code null} if
      *         this map contains no mapping for the key.
      */
-    public Object get(String key) {
+    public synchronized Object get(String key) {
         if (cache == null) {
             return null;
         }
         return cache.get(key);
     }
 
-    public CompilationUnit getASTRoot() {
+    public synchronized CompilationUnit getASTRoot() {
         if (fASTRoot == null) {
-            fASTRoot = ASTResolving.createQuickFixAST((ICompilationUnit) getTypeRoot(), null);
+            fASTRoot = SharedASTProvider.getInstance().getAST((ICompilationUnit) getTypeRoot(), null);
         }
         return fASTRoot;
     }
@@ -102,7 +102,7 @@ public abstract class AbstractJavaContext {
     /**
      * @param root The ASTRoot to set.
      */
-    public void setASTRoot(CompilationUnit root) {
+    public synchronized void setASTRoot(CompilationUnit root) {
         fASTRoot = root;
     }
 
@@ -0,0 +1,129 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+
+/**
+ * AST visitor which dispatches the nodes of one traversal to the callbacks
+ * registered by several checks for the node types they are interested in.
+ *
+ * <p>
+ * A callback registered for an abstract node class (e.g.
+ * {@link org.eclipse.jdt.core.dom.Annotation}) is called for all its concrete
+ * node types. The callbacks are indexed by node type, so a node without
+ * callback costs one array lookup. A callback which fails is logged and
+ * doesn't stop the traversal.
+ * </p>
+ */
+public class FusedASTVisitor extends ASTVisitor {
+
+    private static final Logger LOGGER = Logger.getLogger(FusedASTVisitor.class.getName());
+
+    /** Node classes indexed by node type, null for the unused node types. */
+    private static final Class<?>[] NODE_CLASSES = createNodeClasses();
+
+    private final List<Consumer<ASTNode>>[] callbacks;
+
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public FusedASTVisitor() {
+        super(false);
+        this.callbacks = new List[NODE_CLASSES.length];
+    }
+
+    private static Class<?>[] createNodeClasses() {
+        List<Class<?>> nodeClasses = new ArrayList<>();
+        nodeClasses.add(null);
+        for (int nodeType = 1; nodeType < 256; nodeType++) {
+            try {
+                nodeClasses.add(ASTNode.nodeClassForType(nodeType));
+            } catch (IllegalArgumentException e) {
+                nodeClasses.add(null);
+            }
+        }
+        // trim the unused node types at the end
+        int length = nodeClasses.size();
+        while (length > 1 && nodeClasses.get(length - 1) == null) {
+            length--;
+        }
+        return nodeClasses.subList(0, length).toArray(new Class<?>[length]);
+    }
+
+    /**
+     * Registers the given callback for the nodes of the given class and of its
+     * subclasses.
+     *
+     * @param <T> the node class.
+     * @param nodeClass the node class.
+     * @param callback the callback.
+     */
+    public <T extends ASTNode> void register(Class<T> nodeClass, Consumer<? super T> callback) {
+        Consumer<ASTNode> nodeCallback = node -> callback.accept(nodeClass.cast(node));
+        for (int nodeType = 1; nodeType < NODE_CLASSES.length; nodeType++) {
+            Class<?> candidate = NODE_CLASSES[nodeType];
+            if (candidate != null && nodeClass.isAssignableFrom(candidate)) {
+                if (callbacks[nodeType] == null) {
+                    callbacks[nodeType] = new ArrayList<>(2);
+                }
+                callbacks[nodeType].add(nodeCallback);
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Returns true if no callback is registered and false otherwise.
+     *
+     * @return true if no callback is registered.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Traverses the given AST once and calls the registered callbacks. Nothing
+     * is done if no callback is registered.
+     *
+     * @param root the AST root.
+     */
+    public void visit(ASTNode root) {
+        if (root != null && !isEmpty()) {
+            root.accept(this);
+        }
+    }
+
+    @Override
+    public boolean preVisit2(ASTNode node) {
+        int nodeType = node.getNodeType();
+        List<Consumer<ASTNode>> nodeCallbacks = nodeType < callbacks.length ? callbacks[nodeType] : null;
+        if (nodeCallbacks != null) {
+            for (Consumer<ASTNode> callback : nodeCallbacks) {
+                try {
+                    callback.accept(node);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Error while visiting AST node", e);
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -14,6 +14,7 @@
 package org.eclipse.lsp4jakarta.jdt.core.java.codeaction;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -28,6 +29,7 @@ import org.eclipse.lsp4jakarta.jdt.core.java.AbstractJavaContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.corrections.proposal.ChangeCorrectionProposal;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ChangeUtil;
+import org.eclipse.ltk.core.refactoring.Change;
 
 /**
  * Java codeAction context for a given compilation unit.
@@ -42,6 +44,7 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
 
     private final JakartaJavaCodeActionParams params;
     private NodeFinder fNodeFinder;
+    private List<Change> changeCollector;
 
     public JavaCodeActionContext(ITypeRoot typeRoot, int selectionOffset, int selectionLength, IJDTUtils utils,
                                  JakartaJavaCodeActionParams params) {
@@ -55,6 +58,18 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
         return params;
     }
 
+    /**
+     * Sets the list which collects the changes of the proposals given to
+     * {@link #convertToWorkspaceEdit(ChangeCorrectionProposal)} instead of
+     * converting them, so that several quick fixes are applied with one edit.
+     *
+     * @param changeCollector the list which collects the changes, or null to
+     *            convert them.
+     */
+    public void setChangeCollector(List<Change> changeCollector) {
+        this.changeCollector = changeCollector;
+    }
+
     @Override
     public ICompilationUnit getCompilationUnit() {
         return (ICompilationUnit) getTypeRoot();
@@ -112,6 +127,11 @@ public class JavaCodeActionContext extends AbstractJavaContext implements IInvoc
     }
 
     public WorkspaceEdit convertToWorkspaceEdit(ChangeCorrectionProposal proposal) throws CoreException {
+        if (changeCollector != null) {
+            // the change is applied with the changes of other proposals
+            changeCollector.add(proposal.getChange());
+            return null;
+        }
         WorkspaceEdit edit = ChangeUtil.convertToWorkspaceEdit(proposal.getChange(), getUri(), getUtils(),
                                                                params.isResourceOperationSupported());
         if (!ChangeUtil.hasChanges(edit)) {
@@ -27,8 +27,8 @@ import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 
 /**
  * Code action proposal for adding a no-arg constructor to a class
@@ -79,7 +79,7 @@ public class AddConstructorProposal extends ASTRewriteCorrectionProposal {
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = SharedASTProvider.getInstance().getAST(getCompilationUnit(), null);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
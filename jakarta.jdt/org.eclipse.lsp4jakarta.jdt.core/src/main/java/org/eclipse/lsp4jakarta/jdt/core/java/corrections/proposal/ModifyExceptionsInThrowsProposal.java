@@ -25,8 +25,8 @@ import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Type;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ListRewrite;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 
 /**
  * Code action proposal for removing exceptions of a method.
@@ -60,7 +60,7 @@ public class ModifyExceptionsInThrowsProposal extends ASTRewriteCorrectionPropos
         if (boundNode != null) {
             declNode = boundNode;
         } else {
-            CompilationUnit newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            CompilationUnit newRoot = SharedASTProvider.getInstance().getAST(getCompilationUnit(), null);
             declNode = newRoot.findDeclaringNode(binding.getKey());
         }
 
@@ -32,9 +32,9 @@ import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
 import org.eclipse.jdt.core.dom.rewrite.ASTRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite;
 import org.eclipse.jdt.core.dom.rewrite.ImportRewrite.ImportRewriteContext;
-import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
 import org.eclipse.jdt.internal.corext.codemanipulation.ContextSensitiveImportRewriteContext;
 import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 
 /**
  *
@@ -78,7 +78,7 @@ public class RemoveAnnotationProposal extends ASTRewriteCorrectionProposal {
         ASTNode boundNode = fInvocationNode.findDeclaringNode(fBinding);
         CompilationUnit newRoot = fInvocationNode;
         if (boundNode == null) {
-            newRoot = ASTResolving.createQuickFixAST(getCompilationUnit(), null);
+            newRoot = SharedASTProvider.getInstance().getAST(getCompilationUnit(), null);
         }
         ImportRewrite imports = createImportRewrite(newRoot);
         if (declNode instanceof VariableDeclarationFragment) {
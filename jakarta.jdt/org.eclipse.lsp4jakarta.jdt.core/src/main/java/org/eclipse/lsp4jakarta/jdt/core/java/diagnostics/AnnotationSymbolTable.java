@@ -0,0 +1,181 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Global table which interns the fully qualified names of the known Jakarta
+ * annotations to dense int ids.
+ *
+ * <p>
+ * The annotations of a {@link JakartaElementModel} are resolved once to a
+ * {@link BitSet} of ids (see {@link JakartaElementModel#getAnnotationMask()}),
+ * so that checks such as "has more than one scope annotation" or "has both
+ * <code>@Produces</code> and <code>@Inject</code>" are mask intersections
+ * which don't allocate.
+ * </p>
+ *
+ * <p>
+ * Ids are never released. They are typically interned when the constants
+ * class of a diagnostics participant is initialized.
+ * </p>
+ */
+public class AnnotationSymbolTable {
+
+    private static final AnnotationSymbolTable INSTANCE = new AnnotationSymbolTable();
+
+    public static AnnotationSymbolTable getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<String, Integer> ids;
+
+    private volatile String[] names;
+
+    private AnnotationSymbolTable() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new String[0];
+    }
+
+    /**
+     * Returns the id of the given fully qualified annotation name, interning it
+     * if needed.
+     *
+     * @param annotationFQName the annotation fully qualified name.
+     * @return the id of the given fully qualified annotation name.
+     */
+    public int intern(String annotationFQName) {
+        Integer id = ids.get(annotationFQName);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(annotationFQName);
+            if (id != null) {
+                return id;
+            }
+            String[] oldNames = names;
+            int newId = oldNames.length;
+            String[] newNames = Arrays.copyOf(oldNames, newId + 1);
+            newNames[newId] = annotationFQName;
+            // publish the name before the ids, so that a reader which gets an id
+            // always finds its name
+            names = newNames;
+            ids.put(annotationFQName, newId);
+            return newId;
+        }
+    }
+
+    /**
+     * Returns the id of the given fully qualified annotation name and -1 if it
+     * is not interned.
+     *
+     * @param annotationFQName the annotation fully qualified name.
+     * @return the id of the given fully qualified annotation name and -1 if it
+     *         is not interned.
+     */
+    public int getId(String annotationFQName) {
+        Integer id = ids.get(annotationFQName);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Returns the fully qualified annotation name of the given id.
+     *
+     * @param id the id.
+     * @return the fully qualified annotation name of the given id.
+     */
+    public String getName(int id) {
+        return names[id];
+    }
+
+    /**
+     * Returns the number of interned names. Ids are in <code>[0, size())</code>.
+     *
+     * @return the number of interned names.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns a new mask of the given fully qualified annotation names,
+     * interning them if needed.
+     *
+     * @param annotationFQNames the annotation fully qualified names.
+     * @return a new mask of the given fully qualified annotation names.
+     */
+    public BitSet mask(String... annotationFQNames) {
+        BitSet mask = new BitSet();
+        for (String annotationFQName : annotationFQNames) {
+            mask.set(intern(annotationFQName));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a new mask of the given fully qualified annotation names,
+     * interning them if needed.
+     *
+     * @param annotationFQNames the annotation fully qualified names.
+     * @return a new mask of the given fully qualified annotation names.
+     */
+    public BitSet mask(Collection<String> annotationFQNames) {
+        BitSet mask = new BitSet();
+        for (String annotationFQName : annotationFQNames) {
+            mask.set(intern(annotationFQName));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the number of bits set in both given masks, without allocating
+     * their intersection.
+     *
+     * @param mask1 the first mask.
+     * @param mask2 the second mask.
+     * @return the number of bits set in both given masks.
+     */
+    public static int countIntersection(BitSet mask1, BitSet mask2) {
+        int count = 0;
+        for (int i = mask1.nextSetBit(0); i >= 0; i = mask1.nextSetBit(i + 1)) {
+            if (mask2.get(i)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true if all the bits of <code>subset</code> are set in
+     * <code>mask</code>, without allocating, and false otherwise.
+     *
+     * @param mask the mask.
+     * @param subset the bits to check.
+     * @return true if all the bits of <code>subset</code> are set in
+     *         <code>mask</code>.
+     */
+    public static boolean containsAll(BitSet mask, BitSet subset) {
+        for (int i = subset.nextSetBit(0); i >= 0; i = subset.nextSetBit(i + 1)) {
+            if (!mask.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
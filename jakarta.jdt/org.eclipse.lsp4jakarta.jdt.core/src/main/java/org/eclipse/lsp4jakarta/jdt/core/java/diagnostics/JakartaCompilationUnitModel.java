@@ -0,0 +1,140 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable;
+
+/**
+ * Jakarta semantic model of a compilation unit shared by all the diagnostics
+ * participants of a validation pass.
+ *
+ * <p>
+ * The model is built on first use by
+ * {@link JavaDiagnosticsContext#getCompilationUnitModel()}, once per pass, and
+ * gives access to the types of the compilation unit with their fields, methods,
+ * constructors, parameters, flags and annotations, so that participants don't
+ * have to walk the Java model again.
+ * </p>
+ */
+public class JakartaCompilationUnitModel {
+
+    private final ICompilationUnit unit;
+
+    private final IType[] allTypes;
+
+    private final List<JakartaTypeModel> types;
+
+    private final Map<IType, JakartaTypeModel> typesByElement;
+
+    private JakartaCompilationUnitModel(ICompilationUnit unit, IType[] allTypes, List<JakartaTypeModel> types) {
+        this.unit = unit;
+        this.allTypes = allTypes;
+        this.types = Collections.unmodifiableList(types);
+        this.typesByElement = new HashMap<>();
+        for (JakartaTypeModel type : types) {
+            typesByElement.put(type.getType(), type);
+        }
+    }
+
+    /**
+     * Builds the model of the given compilation unit.
+     *
+     * @param unit the compilation unit.
+     * @return the model of the given compilation unit.
+     * @throws JavaModelException
+     */
+    public static JakartaCompilationUnitModel create(ICompilationUnit unit) throws JavaModelException {
+        IType[] allTypes = unit.getAllTypes();
+        ImportResolutionTable imports = ImportResolutionTable.get(unit);
+        List<JakartaTypeModel> types = new ArrayList<>(allTypes.length);
+        for (IType type : allTypes) {
+            types.add(JakartaTypeModel.create(type, imports));
+        }
+        return new JakartaCompilationUnitModel(unit, allTypes, types);
+    }
+
+    /**
+     * Returns the compilation unit.
+     *
+     * @return the compilation unit.
+     */
+    public ICompilationUnit getCompilationUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns all the types of the compilation unit (top-level and nested), in
+     * the order of {@link ICompilationUnit#getAllTypes()}. The returned array
+     * is shared and must not be modified.
+     *
+     * @return all the types of the compilation unit.
+     */
+    public IType[] getAllTypes() {
+        return allTypes;
+    }
+
+    /**
+     * Returns the type models, in the order of {@link #getAllTypes()}.
+     *
+     * @return the type models.
+     */
+    public List<JakartaTypeModel> getTypes() {
+        return types;
+    }
+
+    /**
+     * Returns the model of the given type and null if the type doesn't belong to
+     * the compilation unit.
+     *
+     * @param type the type.
+     * @return the model of the given type.
+     */
+    public JakartaTypeModel getType(IType type) {
+        return typesByElement.get(type);
+    }
+
+    /**
+     * Returns the model of the given field or method and null if the member
+     * doesn't belong to the compilation unit.
+     *
+     * @param member the field or method.
+     * @return the model of the given field or method.
+     */
+    public JakartaElementModel getMember(IMember member) {
+        JakartaTypeModel type = getType(member.getDeclaringType());
+        if (type == null) {
+            return null;
+        }
+        for (JakartaElementModel field : type.getFields()) {
+            if (field.getElement().equals(member)) {
+                return field;
+            }
+        }
+        for (JakartaElementModel method : type.getMethods()) {
+            if (method.getElement().equals(member)) {
+                return method;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,320 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdt.core.IAnnotatable;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.TypeResolutionCache;
+
+/**
+ * Snapshot of an annotated Java element (type, field, method or method
+ * parameter) of a {@link JakartaCompilationUnitModel}.
+ *
+ * <p>
+ * The annotations, their names and the flags of the element are read once
+ * when the model is built, and the annotation names are resolved to fully
+ * qualified names with the import table of the compilation unit, falling back
+ * to {@link IType#resolveType(String)}. Matching an annotation is then a
+ * string comparison, or a bit test in the mask of the ids of the
+ * {@link AnnotationSymbolTable}.
+ * </p>
+ */
+public class JakartaElementModel {
+
+    private static final String[] NO_NAMES = new String[0];
+
+    /** Annotation mask computed for the first <code>size</code> ids of the symbol table. */
+    private static class AnnotationMask {
+
+        private final int size;
+
+        private final BitSet bits;
+
+        private AnnotationMask(int size, BitSet bits) {
+            this.size = size;
+            this.bits = bits;
+        }
+    }
+
+    private final IJavaElement element;
+
+    private final int flags;
+
+    private final IAnnotation[] annotations;
+
+    private final String[] annotationNames;
+
+    private final String[] annotationFQNames;
+
+    private final List<JakartaElementModel> parameters;
+
+    private final boolean constructor;
+
+    private JakartaTypeModel declaringType;
+
+    private volatile AnnotationMask annotationMask;
+
+    JakartaElementModel(IJavaElement element, int flags, List<JakartaElementModel> parameters,
+                        boolean constructor, IType contextType, ImportResolutionTable imports) throws JavaModelException {
+        this.element = element;
+        this.flags = flags;
+        if (element instanceof IAnnotatable) {
+            this.annotations = ((IAnnotatable) element).getAnnotations();
+            this.annotationNames = new String[annotations.length];
+            this.annotationFQNames = new String[annotations.length];
+            for (int i = 0; i < annotations.length; i++) {
+                annotationNames[i] = annotations[i].getElementName();
+                annotationFQNames[i] = resolveAnnotationName(annotationNames[i], contextType, imports);
+            }
+        } else {
+            this.annotations = new IAnnotation[0];
+            this.annotationNames = NO_NAMES;
+            this.annotationFQNames = NO_NAMES;
+        }
+        this.parameters = parameters != null ? parameters : Collections.emptyList();
+        this.constructor = constructor;
+    }
+
+    /**
+     * Returns the fully qualified name of the given annotation name, as written
+     * in the given type, and the name itself if it cannot be resolved.
+     */
+    private static String resolveAnnotationName(String annotationName, IType contextType,
+                                                ImportResolutionTable imports) throws JavaModelException {
+        if (annotationName.indexOf('.') >= 0) {
+            // already qualified
+            return annotationName;
+        }
+        String annotationFQName = imports != null ? imports.resolve(annotationName) : null;
+        if (annotationFQName != null) {
+            return annotationFQName;
+        }
+        String[][] resolved = TypeResolutionCache.getInstance().resolveType(contextType, annotationName);
+        if (resolved != null && resolved.length == 1) {
+            return resolved[0][0].isEmpty() ? resolved[0][1] : resolved[0][0] + '.' + resolved[0][1];
+        }
+        return annotationName;
+    }
+
+    void setDeclaringType(JakartaTypeModel declaringType) {
+        this.declaringType = declaringType;
+        for (JakartaElementModel parameter : parameters) {
+            parameter.setDeclaringType(declaringType);
+        }
+    }
+
+    /**
+     * Returns the Java element.
+     *
+     * @return the Java element.
+     */
+    public IJavaElement getElement() {
+        return element;
+    }
+
+    /**
+     * Returns the modifier flags of the element (0 for method parameters).
+     *
+     * @return the modifier flags of the element.
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Returns the annotations of the element.
+     *
+     * @return the annotations of the element.
+     */
+    public IAnnotation[] getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * Returns the annotation names as written in the source (simple or fully
+     * qualified).
+     *
+     * @return the annotation names as written in the source.
+     */
+    public String[] getAnnotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * Returns the fully qualified names of the annotations, in the order of
+     * {@link #getAnnotations()}. A name which cannot be resolved is returned as
+     * written in the source. The returned array is shared and must not be
+     * modified.
+     *
+     * @return the fully qualified names of the annotations.
+     */
+    public String[] getAnnotationFQNames() {
+        return annotationFQNames;
+    }
+
+    /**
+     * Returns the parameters of a method element and an empty list otherwise.
+     *
+     * @return the parameters of a method element.
+     */
+    public List<JakartaElementModel> getParameters() {
+        return parameters;
+    }
+
+    /**
+     * Returns true if the element is a constructor and false otherwise.
+     *
+     * @return true if the element is a constructor and false otherwise.
+     */
+    public boolean isConstructor() {
+        return constructor;
+    }
+
+    /**
+     * Returns the type model which declares this element. For a type model, the
+     * type model itself.
+     *
+     * @return the type model which declares this element.
+     */
+    public JakartaTypeModel getDeclaringType() {
+        return declaringType;
+    }
+
+    /**
+     * Returns the annotation of this element which matches the given fully
+     * qualified name and null otherwise.
+     *
+     * @param annotationFQName the annotation fully qualified name.
+     * @return the matching annotation and null otherwise.
+     */
+    public IAnnotation getAnnotation(String annotationFQName) {
+        for (int i = 0; i < annotationFQNames.length; i++) {
+            if (annotationFQNames[i].equals(annotationFQName)) {
+                return annotations[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if this element is annotated with the given fully qualified
+     * annotation name and false otherwise.
+     *
+     * @param annotationFQName the annotation fully qualified name.
+     * @return true if this element is annotated with the given annotation.
+     */
+    public boolean hasAnnotation(String annotationFQName) {
+        return getAnnotation(annotationFQName) != null;
+    }
+
+    /**
+     * Returns true if this element is annotated with the annotation of the given
+     * {@link AnnotationSymbolTable} id and false otherwise.
+     *
+     * @param annotationId the annotation id.
+     * @return true if this element is annotated with the given annotation.
+     */
+    public boolean hasAnnotation(int annotationId) {
+        return getAnnotationMask().get(annotationId);
+    }
+
+    /**
+     * Returns true if this element is annotated with at least one annotation of
+     * the given mask and false otherwise.
+     *
+     * @param mask the annotation mask.
+     * @return true if this element is annotated with one of the given
+     *         annotations.
+     */
+    public boolean hasAnyAnnotation(BitSet mask) {
+        return getAnnotationMask().intersects(mask);
+    }
+
+    /**
+     * Returns true if this element is annotated with all the annotations of the
+     * given mask and false otherwise.
+     *
+     * @param mask the annotation mask.
+     * @return true if this element is annotated with all the given annotations.
+     */
+    public boolean hasAllAnnotations(BitSet mask) {
+        return AnnotationSymbolTable.containsAll(getAnnotationMask(), mask);
+    }
+
+    /**
+     * Returns the number of annotations of the given mask which annotate this
+     * element.
+     *
+     * @param mask the annotation mask.
+     * @return the number of annotations of the given mask which annotate this
+     *         element.
+     */
+    public int countAnnotations(BitSet mask) {
+        return AnnotationSymbolTable.countIntersection(getAnnotationMask(), mask);
+    }
+
+    /**
+     * Returns the mask of the {@link AnnotationSymbolTable} ids of the
+     * annotations of this element. The mask is shared and must not be modified.
+     *
+     * <p>
+     * The mask is computed on first use and again only if names have been
+     * interned since.
+     * </p>
+     *
+     * @return the mask of the annotations of this element.
+     */
+    public BitSet getAnnotationMask() {
+        AnnotationSymbolTable table = AnnotationSymbolTable.getInstance();
+        int size = table.size();
+        AnnotationMask mask = annotationMask;
+        if (mask == null || mask.size != size) {
+            BitSet bits = new BitSet(size);
+            for (String annotationFQName : annotationFQNames) {
+                int id = table.getId(annotationFQName);
+                if (id >= 0 && id < size) {
+                    bits.set(id);
+                }
+            }
+            mask = new AnnotationMask(size, bits);
+            annotationMask = mask;
+        }
+        return mask.bits;
+    }
+
+    /**
+     * Returns the given fully qualified annotation names which match an
+     * annotation of this element, in the given order.
+     *
+     * @param annotationFQNames the annotation fully qualified names.
+     * @return the matching fully qualified annotation names.
+     */
+    public List<String> getMatchedAnnotationNames(String... annotationFQNames) {
+        List<String> matches = new ArrayList<>();
+        for (String annotationFQName : annotationFQNames) {
+            if (hasAnnotation(annotationFQName)) {
+                matches.add(annotationFQName);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.IField;
+import org.eclipse.jdt.core.ILocalVariable;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable;
+
+/**
+ * Snapshot of a type of a {@link JakartaCompilationUnitModel} with its fields,
+ * methods, constructors and their annotations.
+ *
+ * <p>
+ * Matching a Java element name, such as the name of a field type, against a
+ * fully qualified name is resolved once per type and name and shared by all
+ * the diagnostics participants.
+ * </p>
+ */
+public class JakartaTypeModel extends JakartaElementModel {
+
+    private static final Logger LOGGER = Logger.getLogger(JakartaTypeModel.class.getName());
+
+    private final IType type;
+
+    private final List<JakartaElementModel> fields;
+
+    private final List<JakartaElementModel> methods;
+
+    private final List<JakartaElementModel> constructors;
+
+    private final Map<String, Boolean> matches;
+
+    private JakartaTypeModel(IType type, List<JakartaElementModel> fields, List<JakartaElementModel> methods,
+                             ImportResolutionTable imports) throws JavaModelException {
+        super(type, type.getFlags(), null, false, type, imports);
+        this.type = type;
+        this.fields = Collections.unmodifiableList(fields);
+        this.methods = Collections.unmodifiableList(methods);
+        List<JakartaElementModel> constructors = new ArrayList<>();
+        for (JakartaElementModel method : methods) {
+            if (method.isConstructor()) {
+                constructors.add(method);
+            }
+        }
+        this.constructors = Collections.unmodifiableList(constructors);
+        this.matches = new ConcurrentHashMap<>();
+        setDeclaringType(this);
+        for (JakartaElementModel field : fields) {
+            field.setDeclaringType(this);
+        }
+        for (JakartaElementModel method : methods) {
+            method.setDeclaringType(this);
+        }
+    }
+
+    static JakartaTypeModel create(IType type, ImportResolutionTable imports) throws JavaModelException {
+        List<JakartaElementModel> fields = new ArrayList<>();
+        for (IField field : type.getFields()) {
+            fields.add(new JakartaElementModel(field, field.getFlags(), null, false, type, imports));
+        }
+        List<JakartaElementModel> methods = new ArrayList<>();
+        for (IMethod method : type.getMethods()) {
+            List<JakartaElementModel> parameters = new ArrayList<>();
+            for (ILocalVariable parameter : method.getParameters()) {
+                parameters.add(new JakartaElementModel(parameter, parameter.getFlags(), null, false, type, imports));
+            }
+            methods.add(new JakartaElementModel(method, method.getFlags(), Collections.unmodifiableList(parameters),
+                                                DiagnosticUtils.isConstructorMethod(method), type, imports));
+        }
+        return new JakartaTypeModel(type, fields, methods, imports);
+    }
+
+    /**
+     * Returns the type.
+     *
+     * @return the type.
+     */
+    public IType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the field models of the type.
+     *
+     * @return the field models of the type.
+     */
+    public List<JakartaElementModel> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the method models of the type, constructors included.
+     *
+     * @return the method models of the type.
+     */
+    public List<JakartaElementModel> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Returns the constructor models of the type.
+     *
+     * @return the constructor models of the type.
+     */
+    public List<JakartaElementModel> getConstructors() {
+        return constructors;
+    }
+
+    /**
+     * Returns true if the given Java element name, as written in this type,
+     * matches the given fully qualified name and false otherwise.
+     *
+     * <p>
+     * Same semantic as
+     * {@link DiagnosticUtils#isMatchedJavaElement(IType, String, String)}, but
+     * the result is computed once per type.
+     * </p>
+     *
+     * @param javaElementName the Java element name.
+     * @param javaElementFQName the Java element fully qualified name.
+     * @return true if the name matches the fully qualified name.
+     */
+    public boolean isMatched(String javaElementName, String javaElementFQName) {
+        if (!DiagnosticUtils.nameEndsWith(javaElementFQName, javaElementName)) {
+            return false;
+        }
+        return matches.computeIfAbsent(javaElementName + '#' + javaElementFQName, k -> {
+            try {
+                return DiagnosticUtils.isMatchedJavaElement(type, javaElementName, javaElementFQName);
+            } catch (JavaModelException e) {
+                LOGGER.log(Level.WARNING, "Unable to match '" + javaElementName + "' with '" + javaElementFQName + "'", e);
+                return Boolean.FALSE;
+            }
+        });
+    }
+}
@@ -14,14 +14,21 @@
 package org.eclipse.lsp4jakarta.jdt.core.java.diagnostics;
 
 import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.commons.DocumentFormat;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
 import org.eclipse.lsp4jakarta.jdt.core.java.AbstractJavaContext;
+import org.eclipse.lsp4jakarta.jdt.core.java.FusedASTVisitor;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 
 /**
@@ -32,10 +39,16 @@ import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
  */
 public class JavaDiagnosticsContext extends AbstractJavaContext {
 
+    private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsContext.class.getName());
+
     private final DocumentFormat documentFormat;
 
     private final JakartaJavaDiagnosticsSettings settings;
 
+    private JakartaCompilationUnitModel compilationUnitModel;
+
+    private FusedASTVisitor astVisitor;
+
     public JavaDiagnosticsContext(String uri, ITypeRoot typeRoot, IJDTUtils utils, DocumentFormat documentFormat,
                                   JakartaJavaDiagnosticsSettings settings) {
         super(uri, typeRoot, utils);
@@ -62,6 +75,58 @@ public class JavaDiagnosticsContext extends AbstractJavaContext {
         return this.settings;
     }
 
+    /**
+     * Returns the Jakarta model of the compilation unit shared by all the
+     * diagnostics participants and null if the type root is not a compilation
+     * unit. The model is built by the first participant which asks for it, so
+     * that a pass whose participants are all filtered out doesn't build it.
+     *
+     * @return the Jakarta model of the compilation unit.
+     */
+    public synchronized JakartaCompilationUnitModel getCompilationUnitModel() {
+        if (compilationUnitModel == null && getTypeRoot() instanceof ICompilationUnit) {
+            try {
+                compilationUnitModel = JakartaCompilationUnitModel.create((ICompilationUnit) getTypeRoot());
+            } catch (JavaModelException e) {
+                LOGGER.log(Level.SEVERE, "Error while building the Jakarta model of '" + getUri() + "'", e);
+            }
+        }
+        return compilationUnitModel;
+    }
+
+    /**
+     * Registers the given callback for the AST nodes of the given class. The
+     * callbacks registered by the participants in
+     * {@link IJavaDiagnosticsParticipant#beginDiagnostics} are called during one
+     * traversal of the AST of the compilation unit, before the diagnostics are
+     * collected.
+     *
+     * @param <T> the node class.
+     * @param nodeClass the node class.
+     * @param callback the callback.
+     */
+    public synchronized <T extends ASTNode> void registerASTCallback(Class<T> nodeClass, Consumer<? super T> callback) {
+        if (astVisitor == null) {
+            astVisitor = new FusedASTVisitor();
+        }
+        astVisitor.register(nodeClass, callback);
+    }
+
+    /**
+     * Traverses the AST of the compilation unit once and calls the registered
+     * callbacks. Nothing is done if no callback is registered.
+     */
+    public void visitAST() {
+        FusedASTVisitor visitor;
+        synchronized (this) {
+            visitor = astVisitor;
+            astVisitor = null;
+        }
+        if (visitor != null && !visitor.isEmpty() && getTypeRoot() instanceof ICompilationUnit) {
+            visitor.visit(getASTRoot());
+        }
+    }
+
     public Diagnostic createDiagnostic(String uri, String message, Range range, String source, IJavaErrorCode code) {
         return createDiagnostic(uri, message, range, source, code, DiagnosticSeverity.Warning);
     }
@@ -72,6 +72,35 @@ public interface IJDTUtils {
      */
     Range toRange(IOpenable openable, int offset, int length) throws JavaModelException;
 
+    /**
+     * Returns the line start table of the current buffer of the given
+     * {@link IOpenable} and null if it has no buffer.
+     *
+     * @param openable the openable.
+     * @return the line start table of the given openable and null otherwise.
+     * @throws JavaModelException
+     */
+    default LineStartTable getLineStartTable(IOpenable openable) throws JavaModelException {
+        IBuffer buffer = openable != null ? openable.getBuffer() : null;
+        if (buffer == null) {
+            return null;
+        }
+        String contents = buffer.getContents();
+        return contents != null ? LineStartTable.create(contents) : null;
+    }
+
+    /**
+     * Returns JDT utilities for one pass (diagnostics, code action) which build
+     * a {@link LineStartTable} once per openable, so that
+     * {@link #toRange(IOpenable, int, int)} becomes a binary search without
+     * buffer access. The buffers must not change during the pass.
+     *
+     * @return JDT utilities for one pass.
+     */
+    default IJDTUtils withLineStartTables() {
+        return new LineStartTableJDTUtils(this);
+    }
+
     /**
      * Format URIs to be consumed by clients. On Windows platforms, UNC (Universal
      * Naming Convention) URIs are transformed to follow the <code>file://</code>
@@ -86,6 +115,37 @@ public interface IJDTUtils {
 
     void waitForLifecycleJobs(IProgressMonitor monitor);
 
+    /**
+     * Returns true if document life cycle jobs (open, change, save...) are
+     * pending and false otherwise. Doesn't wait for them.
+     *
+     * <p>
+     * The default implementation doesn't track the life cycle jobs and returns
+     * false.
+     * </p>
+     *
+     * @return true if document life cycle jobs are pending and false otherwise.
+     */
+    default boolean hasPendingLifecycleJobs() {
+        return false;
+    }
+
+    /**
+     * Returns the compilation unit of the given URI without waiting for it to be
+     * consistent with its buffer, and null if there is none.
+     *
+     * <p>
+     * The default implementation delegates to
+     * {@link #resolveCompilationUnit(String)}.
+     * </p>
+     *
+     * @param uri the URI of the compilation unit.
+     * @return the compilation unit of the given URI and null otherwise.
+     */
+    default ICompilationUnit findCompilationUnit(String uri) {
+        return resolveCompilationUnit(uri);
+    }
+
     int toOffset(IBuffer buffer, int line, int column);
 
     Location toLocation(IJavaElement element) throws JavaModelException;
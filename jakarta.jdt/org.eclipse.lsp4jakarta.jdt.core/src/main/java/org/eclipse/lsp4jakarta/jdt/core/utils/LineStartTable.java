@@ -0,0 +1,121 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.utils;
+
+import java.util.Arrays;
+
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+
+/**
+ * Offsets of the line starts of a text, built once, which converts offsets to
+ * LSP positions with a binary search.
+ *
+ * <p>
+ * Lines are delimited by <code>\n</code>, <code>\r\n</code> or
+ * <code>\r</code>, like the documents used by {@link IJDTUtils#toRange}.
+ * </p>
+ */
+public class LineStartTable {
+
+    private final int[] lineStarts;
+
+    private final int length;
+
+    private LineStartTable(int[] lineStarts, int length) {
+        this.lineStarts = lineStarts;
+        this.length = length;
+    }
+
+    /**
+     * Returns the line start table of the given text.
+     *
+     * @param text the text.
+     * @return the line start table of the given text.
+     */
+    public static LineStartTable create(CharSequence text) {
+        int length = text.length();
+        int[] lineStarts = new int[16];
+        int lines = 1;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c == '\r' && i + 1 < length && text.charAt(i + 1) == '\n') {
+                i++;
+            } else if (c != '\r' && c != '\n') {
+                continue;
+            }
+            if (lines == lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lines * 2);
+            }
+            lineStarts[lines++] = i + 1;
+        }
+        return new LineStartTable(Arrays.copyOf(lineStarts, lines), length);
+    }
+
+    /**
+     * Returns the number of lines.
+     *
+     * @return the number of lines.
+     */
+    public int getLineCount() {
+        return lineStarts.length;
+    }
+
+    /**
+     * Returns the offset of the start of the given line and -1 if the line is out
+     * of the text.
+     *
+     * @param line the line.
+     * @return the offset of the start of the given line and -1 otherwise.
+     */
+    public int getLineStart(int line) {
+        return line >= 0 && line < lineStarts.length ? lineStarts[line] : -1;
+    }
+
+    /**
+     * Returns the position of the given offset and null if the offset is out of
+     * the text.
+     *
+     * @param offset the offset.
+     * @return the position of the given offset and null otherwise.
+     */
+    public Position toPosition(int offset) {
+        if (offset < 0 || offset > length) {
+            return null;
+        }
+        int line = Arrays.binarySearch(lineStarts, offset);
+        if (line < 0) {
+            line = -line - 2;
+        }
+        return new Position(line, offset - lineStarts[line]);
+    }
+
+    /**
+     * Returns the range of the given offset and length. Same result as
+     * {@link IJDTUtils#toRange} on the text of this table: an offset out of the
+     * text is converted to the position 0:0.
+     *
+     * @param offset the offset.
+     * @param length the length.
+     * @return the range of the given offset and length.
+     */
+    public Range toRange(int offset, int length) {
+        Position start = null;
+        Position end = null;
+        if (offset > 0 || length > 0) {
+            start = toPosition(offset);
+            end = toPosition(offset + length);
+        }
+        return new Range(start != null ? start : new Position(0, 0), end != null ? end : new Position(0, 0));
+    }
+}
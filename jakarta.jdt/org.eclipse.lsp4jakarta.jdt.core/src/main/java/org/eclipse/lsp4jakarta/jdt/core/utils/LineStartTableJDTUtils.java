@@ -0,0 +1,138 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.IClassFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Location;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+
+/**
+ * {@link IJDTUtils} of one pass, which converts offsets to ranges with a
+ * {@link LineStartTable} built once per openable, and delegates the other
+ * methods.
+ *
+ * @see IJDTUtils#withLineStartTables()
+ */
+class LineStartTableJDTUtils implements IJDTUtils {
+
+    private final IJDTUtils delegate;
+
+    private final Map<IOpenable, LineStartTable> tables;
+
+    LineStartTableJDTUtils(IJDTUtils delegate) {
+        this.delegate = delegate;
+        this.tables = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Range toRange(IOpenable openable, int offset, int length) throws JavaModelException {
+        LineStartTable table = getLineStartTable(openable);
+        if (table == null) {
+            return delegate.toRange(openable, offset, length);
+        }
+        return table.toRange(offset, length);
+    }
+
+    @Override
+    public LineStartTable getLineStartTable(IOpenable openable) throws JavaModelException {
+        if (openable == null) {
+            return null;
+        }
+        LineStartTable table = tables.get(openable);
+        if (table == null) {
+            table = delegate.getLineStartTable(openable);
+            if (table != null) {
+                tables.putIfAbsent(openable, table);
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public IJDTUtils withLineStartTables() {
+        return this;
+    }
+
+    @Override
+    public IFile findFile(String uriString) {
+        return delegate.findFile(uriString);
+    }
+
+    @Override
+    public ICompilationUnit resolveCompilationUnit(String uriString) {
+        return delegate.resolveCompilationUnit(uriString);
+    }
+
+    @Override
+    public IClassFile resolveClassFile(String uri) {
+        return delegate.resolveClassFile(uri);
+    }
+
+    @Override
+    public boolean isHiddenGeneratedElement(IJavaElement element) {
+        return delegate.isHiddenGeneratedElement(element);
+    }
+
+    @Override
+    public String toClientUri(String uri) {
+        return delegate.toClientUri(uri);
+    }
+
+    @Override
+    public String toUri(ITypeRoot typeRoot) {
+        return delegate.toUri(typeRoot);
+    }
+
+    @Override
+    public void waitForLifecycleJobs(IProgressMonitor monitor) {
+        delegate.waitForLifecycleJobs(monitor);
+    }
+
+    @Override
+    public boolean hasPendingLifecycleJobs() {
+        return delegate.hasPendingLifecycleJobs();
+    }
+
+    @Override
+    public ICompilationUnit findCompilationUnit(String uri) {
+        return delegate.findCompilationUnit(uri);
+    }
+
+    @Override
+    public int toOffset(IBuffer buffer, int line, int column) {
+        return delegate.toOffset(buffer, line, column);
+    }
+
+    @Override
+    public Location toLocation(IJavaElement element) throws JavaModelException {
+        return delegate.toLocation(element);
+    }
+
+    @Override
+    public String getJavadoc(IMember member, DocumentFormat documentFormat) throws JavaModelException {
+        return delegate.getJavadoc(member, documentFormat);
+    }
+}
@@ -14,28 +14,20 @@
 package org.eclipse.lsp4jakarta.jdt.core.utils;
 
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.jdt.core.search.IJavaSearchConstants;
-import org.eclipse.jdt.core.search.IJavaSearchScope;
-import org.eclipse.jdt.core.search.SearchEngine;
-import org.eclipse.jdt.core.search.SearchMatch;
-import org.eclipse.jdt.core.search.SearchParticipant;
-import org.eclipse.jdt.core.search.SearchPattern;
-import org.eclipse.jdt.core.search.SearchRequestor;
-import org.eclipse.jdt.internal.core.DefaultWorkingCopyOwner;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.DeclaredTypeIndex;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache.Supertypes;
 
 /**
  * This class provides type hierarchy utilities for checking the
  * type hierarchy of {@code IType}.
  */
-@SuppressWarnings("restriction")
 public class TypeHierarchyUtils {
 
     public static final int HAS_SUPERTYPE = 1;
@@ -57,65 +49,24 @@ public class TypeHierarchyUtils {
             return 1;
         }
 
-        ITypeHierarchy typeHierarchy = type.newSupertypeHierarchy(DefaultWorkingCopyOwner.PRIMARY, null);
-        int r = 0;
-
-        // Check if the type's supertypes contain the superType
-        IType[] parents = typeHierarchy.getAllSupertypes(type);
-        for (IType parentType : parents) {
-            if (isSuperType(parentType, superType)) {
-                r = 1;
-                break;
-            }
+        // Check if the type's supertypes, cached until the next structural change,
+        // contain the superType
+        Supertypes supertypes = SupertypeHierarchyCache.getInstance().getSupertypes(type);
+        if (supertypes.contains(superType)) {
+            return 1;
         }
 
         // If we haven't found the supertype, check if the type indeed does not extend
         // superType, or if we don't know.
         // We don't know if we don't have the class declaration for ANY of the super
         // types
-        if (r == 0) {
-            boolean unknown = false;
-            for (IType parentType : parents) {
-                if (!parentType.getFullyQualifiedName().startsWith("java.") && !hasKnownDeclaration(parentType)) {
-                    unknown = true;
-                    break;
-                }
-            }
-            if (!unknown) {
-                r = -1;
-            }
-        }
-        return r;
+        return supertypes.isComplete(TypeHierarchyUtils::hasKnownDeclaration) ? -1 : 0;
     }
 
     private static boolean hasKnownDeclaration(IType type) throws CoreException {
-        String typeName = type.getElementName();
-        final AtomicInteger references = new AtomicInteger(0);
-        SearchEngine engine = new SearchEngine();
-        SearchPattern pattern = SearchPattern.createPattern(typeName, IJavaSearchConstants.CLASS,
-                                                            IJavaSearchConstants.DECLARATIONS, SearchPattern.R_EXACT_MATCH);
-        engine.search(pattern, new SearchParticipant[] { SearchEngine.getDefaultSearchParticipant() },
-                      createSearchScope(type.getJavaProject()), new SearchRequestor() {
-
-                          @Override
-                          public void acceptSearchMatch(SearchMatch match) throws CoreException {
-                              Object o = match.getElement();
-                              if (o instanceof IType) {
-                                  IType t = (IType) o;
-                                  if (t.getElementName().equals(typeName)) {
-                                      references.incrementAndGet();
-                                  }
-                              }
-                          }
-                      }, null);
-        if (references.get() > 0) {
-            return true;
-        }
-        return false;
-    }
-
-    private static IJavaSearchScope createSearchScope(IJavaProject javaProject) throws CoreException {
-        return SearchEngine.createJavaSearchScope(new IJavaProject[] { javaProject }, IJavaSearchScope.SOURCES);
+        // look up the incrementally maintained index instead of searching the sources
+        IJavaProject javaProject = type.getJavaProject();
+        return javaProject != null && DeclaredTypeIndex.getInstance().isDeclared(javaProject, type.getElementName());
     }
 
     /**
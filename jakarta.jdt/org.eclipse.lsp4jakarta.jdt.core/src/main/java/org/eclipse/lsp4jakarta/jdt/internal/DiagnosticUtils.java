@@ -15,24 +15,24 @@ package org.eclipse.lsp4jakarta.jdt.internal;
 import java.beans.Introspector;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.IImportContainer;
-import org.eclipse.jdt.core.IImportDeclaration;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.corext.util.JavaModelUtil;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ImportResolutionTable.Resolution;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache.Supertypes;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.TypeResolutionCache;
 
 /**
  *
@@ -63,16 +63,28 @@ public class DiagnosticUtils {
     public static boolean isMatchedAnnotation(ICompilationUnit unit, IAnnotation annotation, String annotationFQName) throws JavaModelException {
         String elementName = annotation.getElementName();
         if (nameEndsWith(annotationFQName, elementName) && unit != null) {
-            // For performance reason, we check if the import of annotation name is
-            // declared
-            if (isImportedJavaElement(unit, annotationFQName) == true)
+            // For performance reason, we resolve the name with the import table of
+            // the compilation unit
+            ImportResolutionTable imports = ImportResolutionTable.get(unit);
+            Resolution resolution = null;
+            if (isSimpleName(elementName)) {
+                // a simple name is resolved by the table, as a type declared in the unit
+                // shadows an import of the same simple name
+                resolution = imports.resolve(elementName, annotationFQName, false);
+                if (resolution == Resolution.MATCHED) {
+                    return true;
+                }
+            } else if (imports.isImported(annotationFQName) == true) {
                 return true;
-            // only check fully qualified annotations
-            if (annotationFQName.equals(elementName)) {
+            }
+            // only check fully qualified annotations and simple names which the import
+            // table doesn't match: they may be resolved by a member type inherited by
+            // the declaring type, which the table doesn't know
+            if (annotationFQName.equals(elementName) || resolution != null) {
                 IJavaElement parent = annotation.getParent();
                 IType declaringType = (parent instanceof IType) ? (IType) parent : ((parent instanceof IMember) ? ((IMember) parent).getDeclaringType() : null);
                 if (declaringType != null) {
-                    String[][] fqName = declaringType.resolveType(elementName); // the call could be expensive
+                    String[][] fqName = TypeResolutionCache.getInstance().resolveType(declaringType, elementName); // the call could be expensive
                     if (fqName != null && fqName.length == 1) {
                         return annotationFQName.equals(JavaModelUtil.concatenateName(fqName[0][0], fqName[0][1]));
                     }
@@ -94,14 +106,26 @@ public class DiagnosticUtils {
      */
     public static boolean isMatchedJavaElement(IType type, String javaElementName, String javaElementFQName) throws JavaModelException {
         if (nameEndsWith(javaElementFQName, javaElementName)) {
-            // For performance reason, we check if the import of annotation name is
-            // declared
-            if (isImportedJavaElement(type.getCompilationUnit(), javaElementFQName) == true)
-                return true;
-            // only check fully qualified java element
-            // The second condition handles implicit java.lang types, which don't require explicit imports.
-            if (javaElementFQName.equals(javaElementName) || javaElementFQName.startsWith("java.lang")) {
-                String[][] fqName = type.resolveType(javaElementName); // the call could be expensive
+            // For performance reason, we resolve the name with the import table of
+            // the compilation unit
+            ICompilationUnit unit = type.getCompilationUnit();
+            Resolution resolution = null;
+            if (unit != null) {
+                ImportResolutionTable imports = ImportResolutionTable.get(unit);
+                if (isSimpleName(javaElementName)) {
+                    resolution = imports.resolve(javaElementName, javaElementFQName, true);
+                    if (resolution == Resolution.MATCHED) {
+                        return true;
+                    }
+                } else if (imports.isImported(javaElementFQName) == true) {
+                    return true;
+                }
+            }
+            // only check fully qualified java elements and simple names which the import
+            // table doesn't match, as they may be resolved by an inherited member type.
+            // The last condition handles implicit java.lang types, which don't require explicit imports.
+            if (javaElementFQName.equals(javaElementName) || resolution != null || (unit == null && javaElementFQName.startsWith("java.lang"))) {
+                String[][] fqName = TypeResolutionCache.getInstance().resolveType(type, javaElementName); // the call could be expensive
                 if (fqName != null && fqName.length == 1) {
                     return javaElementFQName.equals(JavaModelUtil.concatenateName(fqName[0][0], fqName[0][1]));
                 }
@@ -120,30 +144,7 @@ public class DiagnosticUtils {
      *         otherwise.
      */
     public static boolean isImportedJavaElement(ICompilationUnit unit, String javaElementFQName) throws JavaModelException {
-
-        if (!unit.isOpen()) {
-            unit.open(null);
-        }
-
-        IImportContainer container = unit.getImportContainer();
-        if (container == null) {
-            return false;
-        }
-
-        IImportDeclaration[] importDeclArray = unit.getImports();
-
-        for (IImportDeclaration importDeclaration : importDeclArray) {
-            if (importDeclaration.isOnDemand()) {
-                String fqn = importDeclaration.getElementName();
-                String qualifier = fqn.substring(0, fqn.lastIndexOf('.'));
-                if (qualifier.equals(javaElementFQName.substring(0, javaElementFQName.lastIndexOf('.')))) {
-                    return true;
-                }
-            } else if (importDeclaration.getElementName().equals(javaElementFQName)) {
-                return true;
-            }
-        }
-        return false;
+        return ImportResolutionTable.get(unit).isImported(javaElementFQName);
     }
 
     /**
@@ -156,35 +157,8 @@ public class DiagnosticUtils {
      *         false otherwise.
      */
     protected static boolean isImportedJavaElement(ICompilationUnit unit, String[] javaElementFQNames) throws JavaModelException {
-        if (!unit.isOpen()) {
-            unit.open(null);
-        }
-
-        IImportContainer container = unit.getImportContainer();
-        if (container == null) {
-            return false;
-        }
-
-        IImportDeclaration[] importDeclArray = unit.getImports();
-
-        for (IImportDeclaration importDeclaration : importDeclArray) {
-            if (importDeclaration.isOnDemand()) {
-                String fqn = importDeclaration.getElementName();
-                String qualifier = fqn.substring(0, fqn.lastIndexOf('.'));
-                boolean imports = Stream.of(javaElementFQNames).anyMatch(elementFQName -> {
-                    return qualifier.equals(elementFQName.substring(0, elementFQName.lastIndexOf('.')));
-                });
-                if (imports == true) {
-                    return true;
-                }
-            } else {
-                String importName = importDeclaration.getElementName();
-                if (Stream.of(javaElementFQNames).anyMatch(elementFQName -> importName.equals(elementFQName)) == true)
-                    return true;
-            }
-        }
-        return false;
-
+        ImportResolutionTable imports = ImportResolutionTable.get(unit);
+        return Stream.of(javaElementFQNames).anyMatch(imports::isImported);
     }
 
     /**
@@ -203,11 +177,9 @@ public class DiagnosticUtils {
 
         // check super hierarchy
         if (interfaceNames.length > 0) { // the type implements interface(s)
-            ITypeHierarchy typeHierarchy = type.newSupertypeHierarchy(new NullProgressMonitor());
-            IType[] interfaces = typeHierarchy.getAllInterfaces();
-            for (IType interfase : interfaces) {
-                String fqName = interfase.getFullyQualifiedName();
-                if (Stream.of(interfaceFQNames).anyMatch(name -> fqName.equals(name)) == true)
+            Supertypes supertypes = SupertypeHierarchyCache.getInstance().getSupertypes(type);
+            for (String interfaceFQName : interfaceFQNames) {
+                if (supertypes.containsInterface(interfaceFQName))
                     return true;
             }
         }
@@ -241,17 +213,20 @@ public class DiagnosticUtils {
      */
     public static List<String> getMatchedJavaElementNames(IType type, String[] javaElementNames,
                                                           String[] javaElementFQNames) {
-        return Stream.of(javaElementFQNames).filter(fqName -> {
-            boolean anyMatch = Stream.of(javaElementNames).anyMatch(name -> {
+        List<String> matches = new ArrayList<>();
+        for (String fqName : javaElementFQNames) {
+            for (String name : javaElementNames) {
                 try {
-                    return isMatchedJavaElement(type, name, fqName);
+                    if (isMatchedJavaElement(type, name, fqName)) {
+                        matches.add(fqName);
+                        break;
+                    }
                 } catch (JavaModelException e) {
                     JakartaCorePlugin.logException("Failed to get matched Java element FQ names", e);
-                    return false;
                 }
-            });
-            return anyMatch;
-        }).collect(Collectors.toList());
+            }
+        }
+        return matches;
     }
 
     /**
@@ -284,6 +259,10 @@ public class DiagnosticUtils {
         return fqName;
     }
 
+    private static boolean isSimpleName(String name) {
+        return name.indexOf('.') == -1;
+    }
+
     /**
      * Returns true if the given method is a constructor and false otherwise.
      *
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -39,15 +40,16 @@ import org.eclipse.lsp4j.jsonrpc.messages.Tuple;
 import org.eclipse.lsp4j.jsonrpc.messages.Tuple.Two;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.CommonErrorCode;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -67,13 +69,14 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit != null) {
             ArrayList<Tuple.Two<IAnnotation, IAnnotatable>> annotatables = new ArrayList<Two<IAnnotation, IAnnotatable>>();
+            // fully qualified names of the annotations of annotatables, in the same order
+            List<String> annotationFQNames = new ArrayList<>();
             String[] validAnnotations = { Constants.GENERATED_FQ_NAME };
             String[] validTypeAnnotations = { Constants.GENERATED_FQ_NAME,
                                               Constants.RESOURCE_FQ_NAME,
@@ -91,54 +94,48 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
             for (IPackageDeclaration p : packages) {
                 IAnnotation[] annotations = p.getAnnotations();
                 for (IAnnotation annotation : annotations) {
-                    if (isValidAnnotation(annotation.getElementName(), validAnnotations))
+                    // package annotations are not part of the Jakarta model
+                    if (isValidAnnotation(annotation.getElementName(), validAnnotations)
+                        && DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.GENERATED_FQ_NAME)) {
                         annotatables.add(new Tuple.Two<>(annotation, p));
+                        annotationFQNames.add(Constants.GENERATED_FQ_NAME);
+                    }
                 }
             }
 
-            IType[] types = unit.getAllTypes();
-            for (IType type : types) {
-                // Type
-                IAnnotation[] annotations = type.getAnnotations();
-                for (IAnnotation annotation : annotations) {
-                    if (isValidAnnotation(annotation.getElementName(), validTypeAnnotations))
-                        annotatables.add(new Tuple.Two<>(annotation, type));
+            for (JakartaTypeModel typeModel : model.getTypes()) {
+                if (monitor.isCanceled()) {
+                    return null;
                 }
+                // Type
+                collectAnnotatables(typeModel, validTypeAnnotations, annotatables, annotationFQNames);
                 // Method
-                IMethod[] methods = type.getMethods();
-                for (IMethod method : methods) {
-                    annotations = method.getAnnotations();
-                    for (IAnnotation annotation : annotations) {
-                        if (isValidAnnotation(annotation.getElementName(), validMethodAnnotations))
-                            annotatables.add(new Tuple.Two<>(annotation, method));
+                for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                    if (monitor.isCanceled()) {
+                        return null;
                     }
+                    collectAnnotatables(methodModel, validMethodAnnotations, annotatables, annotationFQNames);
                     // method parameters
-                    ILocalVariable[] parameters = method.getParameters();
-                    for (ILocalVariable parameter : parameters) {
-                        annotations = parameter.getAnnotations();
-                        for (IAnnotation annotation : annotations) {
-                            if (isValidAnnotation(annotation.getElementName(), validMethodParamAnnotations))
-                                annotatables.add(new Tuple.Two<>(annotation, parameter));
-                        }
+                    for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                        collectAnnotatables(paramModel, validMethodParamAnnotations, annotatables, annotationFQNames);
                     }
                 }
                 // Field
-                IField[] fields = type.getFields();
-                for (IField field : fields) {
-                    annotations = field.getAnnotations();
-                    for (IAnnotation annotation : annotations) {
-                        if (isValidAnnotation(annotation.getElementName(), validFieldAnnotations))
-                            annotatables.add(new Tuple.Two<>(annotation, field));
+                for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                    if (monitor.isCanceled()) {
+                        return null;
                     }
+                    collectAnnotatables(fieldModel, validFieldAnnotations, annotatables, annotationFQNames);
                 }
             }
 
-            for (Tuple.Two<IAnnotation, IAnnotatable> annotatable : annotatables) {
-                IAnnotation annotation = annotatable.getFirst();
-                IAnnotatable element = annotatable.getSecond();
+            for (int i = 0; i < annotatables.size(); i++) {
+                IAnnotation annotation = annotatables.get(i).getFirst();
+                IAnnotatable element = annotatables.get(i).getSecond();
+                String annotationFQName = annotationFQNames.get(i);
 
                 // process Types? (class declarations)
-                if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.GENERATED_FQ_NAME)) {
+                if (Constants.GENERATED_FQ_NAME.equals(annotationFQName)) {
                     for (IMemberValuePair pair : annotation.getMemberValuePairs()) {
                         if ("value".equals(pair.getMemberName())) {
                             validateGeneratedName(annotation, pair, context, diagnostics);
@@ -164,7 +161,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                             }
                         }
                     }
-                } else if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.RESOURCE_FQ_NAME)) {
+                } else if (Constants.RESOURCE_FQ_NAME.equals(annotationFQName)) {
                     Range annotationRange = PositionUtils.toNameRange(annotation, context.getUtils());
                     if (element instanceof IType) {
                         IType type = (IType) element;
@@ -179,7 +176,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                         validateResourceField(context, uri, diagnostics, annotation, field, annotationRange);
                     }
 
-                } else if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.RESOURCES_FQ_NAME)) {
+                } else if (Constants.RESOURCES_FQ_NAME.equals(annotationFQName)) {
                     if (element instanceof IType) {
                         for (IMemberValuePair internalAnnotation : annotation.getMemberValuePairs()) {
                             Object[] valuePairs = (Object[]) internalAnnotation.getValue();
@@ -244,12 +241,12 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                             }
                         }
                     }
-                } else if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.PRIORITY_FQ_NAME)) {
+                } else if (Constants.PRIORITY_FQ_NAME.equals(annotationFQName)) {
                     validatePriority(context, uri, diagnostics, annotation, element);
                 }
 
                 // process methods now?
-                if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.POST_CONSTRUCT_FQ_NAME)) {
+                if (Constants.POST_CONSTRUCT_FQ_NAME.equals(annotationFQName)) {
                     if (element instanceof IMethod) {
                         IMethod method = (IMethod) element;
                         Range methodRange = PositionUtils.toNameRange(method, context.getUtils());
@@ -285,8 +282,7 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
                         }
 
                     }
-                } else if (DiagnosticUtils.isMatchedAnnotation(unit, annotation,
-                                                               Constants.PRE_DESTROY_FQ_NAME)) {
+                } else if (Constants.PRE_DESTROY_FQ_NAME.equals(annotationFQName)) {
                     if (element instanceof IMethod) {
                         IMethod method = (IMethod) element;
                         Range methodRange = PositionUtils.toNameRange(method, context.getUtils());
@@ -538,6 +534,22 @@ public class AnnotationDiagnosticsParticipant implements IJavaDiagnosticsPartici
      *
      * @return True if the input annotation is valid. False, otherwise.
      */
+    /**
+     * Adds the annotations of the given element model which are in the given
+     * valid annotations, with their fully qualified names.
+     */
+    private static void collectAnnotatables(JakartaElementModel elementModel, String[] validAnnotations,
+                                            List<Tuple.Two<IAnnotation, IAnnotatable>> annotatables, List<String> annotationFQNames) {
+        IAnnotation[] annotations = elementModel.getAnnotations();
+        String[] fqNames = elementModel.getAnnotationFQNames();
+        for (int i = 0; i < annotations.length; i++) {
+            if (ArrayUtils.contains(validAnnotations, fqNames[i])) {
+                annotatables.add(new Tuple.Two<>(annotations[i], (IAnnotatable) elementModel.getElement()));
+                annotationFQNames.add(fqNames[i]);
+            }
+        }
+    }
+
     private static boolean isValidAnnotation(String annotationName, String[] validAnnotations) {
         for (String fqName : validAnnotations) {
             if (fqName.endsWith(annotationName)) {
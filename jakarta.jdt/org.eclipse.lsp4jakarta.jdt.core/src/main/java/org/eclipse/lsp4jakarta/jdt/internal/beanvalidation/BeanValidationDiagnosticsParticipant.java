@@ -65,14 +65,15 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Bean validation diagnostics participant that manages the use of validation
@@ -88,66 +89,36 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
      */
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes;
-        IField[] allFields;
-        IAnnotation[] annotations;
-        IMethod[] allMethods;
-
-        alltypes = unit.getAllTypes();
-        for (IType type : alltypes) {
-            allFields = type.getFields();
-            for (IField field : allFields) {
-                annotations = field.getAnnotations();
-                // Check for conflicting constraints on fields
-                checkConflictingConstraints(context, uri, field, annotations, diagnostics);
-
-                for (IAnnotation annotation : annotations) {
-                    String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                         annotation.getElementName(),
-                                                                                         SET_OF_ANNOTATIONS.toArray(new String[0]));
-                    if (matchedAnnotation != null) {
-                        validAnnotation(context, uri, field, annotation, matchedAnnotation, diagnostics);
-                    }
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                if (monitor.isCanceled()) {
+                    return null;
                 }
+                // Check for conflicting constraints on fields
+                validateElement(context, uri, fieldModel, diagnostics);
             }
-            allMethods = type.getMethods();
-            for (IMethod method : allMethods) {
-                annotations = method.getAnnotations();
-                // Check for conflicting constraints on methods
-                checkConflictingConstraints(context, uri, method, annotations, diagnostics);
-
-                for (IAnnotation annotation : annotations) {
-                    String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                         annotation.getElementName(),
-                                                                                         SET_OF_ANNOTATIONS.toArray(new String[0]));
-                    if (matchedAnnotation != null) {
-                        validAnnotation(context, uri, method, annotation, matchedAnnotation, diagnostics);
-                    }
+            for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                if (monitor.isCanceled()) {
+                    return null;
                 }
+                // Check for conflicting constraints on methods
+                validateElement(context, uri, methodModel, diagnostics);
                 // parameter level annotations
-                for (ILocalVariable param : method.getParameters()) {
-                    IAnnotation[] paramAnnotations = param.getAnnotations();
+                for (JakartaElementModel paramModel : methodModel.getParameters()) {
                     // Check for conflicting constraints on parameters
-                    checkConflictingConstraints(context, uri, param, paramAnnotations, diagnostics);
-
-                    for (IAnnotation annotation : paramAnnotations) {
-                        String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                             annotation.getElementName(),
-                                                                                             SET_OF_ANNOTATIONS.toArray(new String[0]));
-
-                        if (matchedAnnotation != null) {
-                            validAnnotation(context, uri, param, annotation, matchedAnnotation, diagnostics);
-                        }
-                    }
+                    validateElement(context, uri, paramModel, diagnostics);
                 }
             }
         }
@@ -155,6 +126,20 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
         return diagnostics;
     }
 
+    private void validateElement(JavaDiagnosticsContext context, String uri, JakartaElementModel elementModel,
+                                 List<Diagnostic> diagnostics) throws CoreException {
+        IJavaElement element = elementModel.getElement();
+        IAnnotation[] annotations = elementModel.getAnnotations();
+        String[] annotationFQNames = elementModel.getAnnotationFQNames();
+        checkConflictingConstraints(context, uri, element, annotations, annotationFQNames, diagnostics);
+
+        for (int i = 0; i < annotations.length; i++) {
+            if (SET_OF_ANNOTATIONS.contains(annotationFQNames[i])) {
+                validAnnotation(context, uri, element, annotations[i], annotationFQNames[i], diagnostics);
+            }
+        }
+    }
+
     private void validAnnotation(JavaDiagnosticsContext context, String uri, IJavaElement element,
                                  IAnnotation annotation,
                                  String matchedAnnotation,
@@ -378,24 +363,18 @@ public class BeanValidationDiagnosticsParticipant implements IJavaDiagnosticsPar
      * Check for conflicting constraint annotations (e.g., @Min > @Max, @DecimalMin > @DecimalMax, @Size min > max).
      */
     private void checkConflictingConstraints(JavaDiagnosticsContext context, String uri, IJavaElement element,
-                                             IAnnotation[] annotations, List<Diagnostic> diagnostics) throws JavaModelException {
-        IType declaringType = element instanceof IMember ? ((IMember) element).getDeclaringType() : element instanceof ILocalVariable ? ((IMethod) ((ILocalVariable) element).getDeclaringMember()).getDeclaringType() : null;
-        if (declaringType == null)
-            return;
-
+                                             IAnnotation[] annotations, String[] annotationFQNames,
+                                             List<Diagnostic> diagnostics) throws JavaModelException {
         IAnnotation minAnnotation = null, maxAnnotation = null, decMinAnnotation = null, decMaxAnnotation = null, sizeAnnotation = null;
 
-        for (IAnnotation annotation : annotations) {
-            String matched = DiagnosticUtils.getMatchedJavaElementName(declaringType, annotation.getElementName(),
-                                                                       new String[] { MIN, MAX, DECIMAL_MIN, DECIMAL_MAX, SIZE });
-            if (matched != null) {
-                switch (matched) {
-                    case MIN -> minAnnotation = annotation;
-                    case MAX -> maxAnnotation = annotation;
-                    case DECIMAL_MIN -> decMinAnnotation = annotation;
-                    case DECIMAL_MAX -> decMaxAnnotation = annotation;
-                    case SIZE -> sizeAnnotation = annotation;
-                }
+        for (int i = 0; i < annotations.length; i++) {
+            IAnnotation annotation = annotations[i];
+            switch (annotationFQNames[i]) {
+                case MIN -> minAnnotation = annotation;
+                case MAX -> maxAnnotation = annotation;
+                case DECIMAL_MIN -> decMinAnnotation = annotation;
+                case DECIMAL_MAX -> decMaxAnnotation = annotation;
+                case SIZE -> sizeAnnotation = annotation;
             }
         }
 
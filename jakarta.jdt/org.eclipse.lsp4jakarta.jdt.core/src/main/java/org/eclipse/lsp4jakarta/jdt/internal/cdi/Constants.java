@@ -14,9 +14,12 @@
 package org.eclipse.lsp4jakarta.jdt.internal.cdi;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.AnnotationSymbolTable;
+
 /**
  * Context and Dependency Injection (CDI) diagnostic constants.
  */
@@ -60,4 +63,12 @@ public class Constants {
                                                                                        "jakarta.Interceptor", "jakarta.Decorator", "jakarta.enterprise.inject.Stereotype"));
 
     public static final Set<String> INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS = Set.of(OBSERVES_FQ_NAME, OBSERVES_ASYNC_FQ_NAME);
+
+    /* Annotation ids and masks of the AnnotationSymbolTable, the masks must not be modified */
+    public static final int PRODUCES_ID = AnnotationSymbolTable.getInstance().intern(PRODUCES_FQ_NAME);
+    public static final int INJECT_ID = AnnotationSymbolTable.getInstance().intern(INJECT_FQ_NAME);
+    public static final int DEPENDENT_ID = AnnotationSymbolTable.getInstance().intern(DEPENDENT_FQ_NAME);
+    public static final BitSet SCOPE_MASK = AnnotationSymbolTable.getInstance().mask(SCOPE_FQ_NAMES);
+    public static final BitSet INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS_MASK = AnnotationSymbolTable.getInstance().mask(INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS);
+    public static final BitSet INVALID_INITIALIZER_PARAMS_MASK = AnnotationSymbolTable.getInstance().mask(INVALID_INITIALIZER_PARAMS_FQ);
 }
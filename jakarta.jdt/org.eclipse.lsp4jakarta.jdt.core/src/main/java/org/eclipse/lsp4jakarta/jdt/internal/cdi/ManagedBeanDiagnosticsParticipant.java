@@ -15,11 +15,9 @@ package org.eclipse.lsp4jakarta.jdt.internal.cdi;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -27,7 +25,6 @@ import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
-import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
@@ -35,12 +32,13 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 import com.google.gson.Gson;
 
@@ -51,32 +49,32 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
         String uri = context.getUri();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
         String[] scopeFQNames = Constants.SCOPE_FQ_NAMES.toArray(String[]::new);
-        for (IType type : types) {
-            String[] typeAnnotations = Stream.of(type.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-            List<String> managedBeanAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations, scopeFQNames);
-            boolean isManagedBean = managedBeanAnnotations.size() > 0;
-            boolean isDependent = managedBeanAnnotations.stream().anyMatch(annotation -> Constants.DEPENDENT_FQ_NAME.equals(annotation));
-            boolean hasMultipleScopes = managedBeanAnnotations.size() > 1;
-
-            String[] injectAnnotations = { Constants.PRODUCES_FQ_NAME, Constants.INJECT_FQ_NAME };
-            IField fields[] = type.getFields();
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
+            boolean isManagedBean = typeModel.hasAnyAnnotation(Constants.SCOPE_MASK);
+            boolean isDependent = typeModel.hasAnnotation(Constants.DEPENDENT_ID);
+            boolean hasMultipleScopes = typeModel.countAnnotations(Constants.SCOPE_MASK) > 1;
+
             boolean nonStaticPublicFieldPresent = false;
-            for (IField field : fields) {
-                int fieldFlags = field.getFlags();
-                String[] annotationNames = Stream.of(field.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                List<String> fieldScopes = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                      scopeFQNames);
+            for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                IField field = (IField) fieldModel.getElement();
+                int fieldFlags = fieldModel.getFlags();
 
                 // If a managed bean has a non-static public field, it must have
                 // scope @Dependent. If a managed bean with a non-static public field declares
@@ -101,16 +99,10 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // treats it as a definition error.
                 //
                 // Here we only look at the fields.
-                List<String> fieldInjects = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                       injectAnnotations);
-                boolean isProducerField = false, isInjectField = false;
-                for (String annotation : fieldInjects) {
-                    if (Constants.PRODUCES_FQ_NAME.equals(annotation))
-                        isProducerField = true;
-                    else if (Constants.INJECT_FQ_NAME.equals(annotation))
-                        isInjectField = true;
-                }
-                if (isProducerField && fieldScopes.size() > 1) {
+                boolean isProducerField = fieldModel.hasAnnotation(Constants.PRODUCES_ID);
+                boolean isInjectField = fieldModel.hasAnnotation(Constants.INJECT_ID);
+                if (isProducerField && fieldModel.countAnnotations(Constants.SCOPE_MASK) > 1) {
+                    List<String> fieldScopes = fieldModel.getMatchedAnnotationNames(scopeFQNames);
                     fieldScopes.add(Constants.PRODUCES_FQ_NAME);
                     Range range = PositionUtils.toNameRange(field, context.getUtils());
                     diagnostics.add(context.createDiagnostic(uri,
@@ -145,13 +137,12 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
             }
 
-            IMethod[] methods = type.getMethods();
-            List<IMethod> constructorMethods = new ArrayList<IMethod>();
-            for (IMethod method : methods) {
-
-                // Find all methods on the type that are constructors.
-                if (DiagnosticUtils.isConstructorMethod(method))
-                    constructorMethods.add(method);
+            List<JakartaElementModel> constructorMethods = typeModel.getConstructors();
+            for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                IMethod method = (IMethod) methodModel.getElement();
 
                 // https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#declaring_bean_scope
                 // A bean class or producer method or field may specify at most one scope type
@@ -160,20 +151,11 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // treats it as a definition error.
                 //
                 // Here we only look at the methods.
-                String[] annotationNames = Stream.of(method.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                List<String> methodScopes = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                       scopeFQNames);
-                List<String> methodInjects = DiagnosticUtils.getMatchedJavaElementNames(type, annotationNames,
-                                                                                        injectAnnotations);
-                boolean isProducerMethod = false, isInjectMethod = false;
-                for (String annotation : methodInjects) {
-                    if (Constants.PRODUCES_FQ_NAME.equals(annotation))
-                        isProducerMethod = true;
-                    else if (Constants.INJECT_FQ_NAME.equals(annotation))
-                        isInjectMethod = true;
-                }
+                boolean isProducerMethod = methodModel.hasAnnotation(Constants.PRODUCES_ID);
+                boolean isInjectMethod = methodModel.hasAnnotation(Constants.INJECT_ID);
 
-                if (isProducerMethod && methodScopes.size() > 1) {
+                if (isProducerMethod && methodModel.countAnnotations(Constants.SCOPE_MASK) > 1) {
+                    List<String> methodScopes = methodModel.getMatchedAnnotationNames(scopeFQNames);
                     methodScopes.add(Constants.PRODUCES_FQ_NAME);
                     Range range = PositionUtils.toNameRange(method, context.getUtils());
                     diagnostics.add(context.createDiagnostic(uri,
@@ -210,12 +192,9 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // see: https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0#
                 // observer_methods
                 Set<String> conflictParams = new HashSet<>();
-                for (ILocalVariable param : method.getParameters()) {
-                    String[] annotationQualifiedNames = Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new);
-                    String[] conflictedParamAnnotations = Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS.toArray(String[]::new);
-                    Set<String> observesObservesAsync = new HashSet<>(DiagnosticUtils.getMatchedJavaElementNames(type, annotationQualifiedNames, conflictedParamAnnotations));
-                    if (observesObservesAsync.equals(Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS)) {
-                        conflictParams.add(param.getElementName());
+                for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                    if (paramModel.hasAllAnnotations(Constants.INVALID_OBSERVES_OBSERVES_ASYNC_CONFLICTED_PARAMS_MASK)) {
+                        conflictParams.add(paramModel.getElement().getElementName());
                     }
                 }
                 if (!conflictParams.isEmpty()) {
@@ -236,26 +215,18 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // If there are no constructor methods, there is an implicit empty constructor
                 // generated by the compiler.
                 List<IMethod> methodsNeedingDiagnostics = new ArrayList<IMethod>();
-                for (IMethod m : constructorMethods) {
-                    if (m.getNumberOfParameters() == 0) {
+                for (JakartaElementModel constructorModel : constructorMethods) {
+                    if (constructorModel.getParameters().isEmpty()) {
                         methodsNeedingDiagnostics.clear();
                         break;
                     }
-                    IAnnotation[] annotations = m.getAnnotations();
-                    boolean hasParameterizedInjectConstructor = false;
                     // look up '@Inject' annotation
-                    for (IAnnotation annotation : annotations) {
-                        if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                                 Constants.INJECT_FQ_NAME)) {
-                            hasParameterizedInjectConstructor = true;
-                            break;
-                        }
-                    }
+                    boolean hasParameterizedInjectConstructor = constructorModel.hasAnnotation(Constants.INJECT_FQ_NAME);
                     if (hasParameterizedInjectConstructor) {
                         methodsNeedingDiagnostics.clear();
                         break;
                     } else
-                        methodsNeedingDiagnostics.add(m);
+                        methodsNeedingDiagnostics.add((IMethod) constructorModel.getElement());
                 }
 
                 // Deliver a diagnostic on all parameterized constructors that they must add an
@@ -271,8 +242,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
             if (isManagedBean) {
                 // Check if the class is a stateless session bean
-                boolean isStateless = DiagnosticUtils.getMatchedJavaElementNames(type, typeAnnotations,
-                                                                                 new String[] { Constants.STATELESS_FQ_NAME }).size() > 0;
+                boolean isStateless = typeModel.hasAnnotation(Constants.STATELESS_FQ_NAME);
                 boolean isClassGeneric = type.getTypeParameters().length != 0;
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
 
@@ -300,6 +270,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
 
                     // Scope type annotations must be specified by a managed bean class at most once.
                 } else if (hasMultipleScopes) {
+                    List<String> managedBeanAnnotations = typeModel.getMatchedAnnotationNames(scopeFQNames);
                     diagnostics.add(context.createDiagnostic(uri,
                                                              Messages.getMessage("ScopeTypeAnnotationsManagedBean"), range,
                                                              Constants.DIAGNOSTIC_SOURCE, (new Gson().toJsonTree(managedBeanAnnotations)),
@@ -318,7 +289,7 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
             // https://jakarta.ee/specifications/cdi/3.0/jakarta-cdi-spec-3.0.html#
             // declaring_initializer
 
-            invalidParamsCheck(context, uri, unit, diagnostics, type, Constants.INJECT_FQ_NAME);
+            invalidParamsCheck(context, uri, unit, diagnostics, typeModel, Constants.INJECT_FQ_NAME);
 
             if (isManagedBean) {
 
@@ -333,24 +304,23 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
                 // note:
                 // we need to check for bean defining annotations first to make sure the
                 // managed bean is discovered.
-                invalidParamsCheck(context, uri, unit, diagnostics, type, Constants.PRODUCES_FQ_NAME);
+                invalidParamsCheck(context, uri, unit, diagnostics, typeModel, Constants.PRODUCES_FQ_NAME);
 
-                for (IMethod method : methods) {
+                for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                    IMethod method = (IMethod) methodModel.getElement();
                     int numDisposes = 0;
                     Set<String> invalidAnnotations = new TreeSet<>();
-                    ILocalVariable[] params = method.getParameters();
-
-                    for (ILocalVariable param : params) {
-                        IAnnotation[] annotations = param.getAnnotations();
-                        for (IAnnotation annotation : annotations) {
-                            String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                                 annotation.getElementName(),
-                                                                                                 Constants.INVALID_PRODUCER_PARAMS_FQ);
+
+                    for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                        IAnnotation[] annotations = paramModel.getAnnotations();
+                        String[] annotationFQNames = paramModel.getAnnotationFQNames();
+                        for (int i = 0; i < annotations.length; i++) {
+                            String matchedAnnotation = annotationFQNames[i];
                             if (Constants.DISPOSES_FQ_NAME.equals(matchedAnnotation)) {
                                 numDisposes++;
                             } else if (Constants.OBSERVES_FQ_NAME.equals(matchedAnnotation)
                                        || Constants.OBSERVES_ASYNC_FQ_NAME.equals(matchedAnnotation)) {
-                                invalidAnnotations.add("@" + DiagnosticUtils.getSimpleName(annotation.getElementName()));
+                                invalidAnnotations.add("@" + DiagnosticUtils.getSimpleName(annotations[i].getElementName()));
                             }
                         }
                     }
@@ -380,45 +350,32 @@ public class ManagedBeanDiagnosticsParticipant implements IJavaDiagnosticsPartic
     }
 
     private void invalidParamsCheck(JavaDiagnosticsContext context, String uri, ICompilationUnit unit,
-                                    List<Diagnostic> diagnostics, IType type, String target) throws JavaModelException {
+                                    List<Diagnostic> diagnostics, JakartaTypeModel typeModel, String target) throws JavaModelException {
         // this method will be called to scan all methods looking for either @Produces annotations OR @Inject annotations. In either
         // scenario this method will then check for disallowed parameter annotations and add diagnostics to be displayed if detected.
-        Set<String> paramScopesSet;
-
-        for (IMethod method : type.getMethods()) {
-            IAnnotation targetAnnotation = null;
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            IMethod method = (IMethod) methodModel.getElement();
+            IAnnotation targetAnnotation = methodModel.getAnnotation(target);
             boolean mutuallyExclusive = false;
-            for (IAnnotation annotation : method.getAnnotations()) {
-                if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), target)) {
-                    targetAnnotation = annotation;
-                    break;
-                }
-            }
 
             if (targetAnnotation == null)
                 continue;
 
             Set<String> invalidAnnotations = new TreeSet<>();
-            ILocalVariable[] params = method.getParameters();
 
-            for (ILocalVariable param : params) {
+            for (JakartaElementModel paramModel : methodModel.getParameters()) {
                 List<String> paramScopes;
                 // look at the params of any method annotated @Produces - check for invalid parameter annotations
                 if (Constants.PRODUCES_FQ_NAME.equals(target)) {
-                    paramScopes = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                             Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                             Constants.INVALID_PRODUCER_PARAMS_FQ);
+                    paramScopes = paramModel.getMatchedAnnotationNames(Constants.INVALID_PRODUCER_PARAMS_FQ);
                 } else { // look at the params of any method annotated @Inject - check for invalid parameter annotations
-                    paramScopes = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                             Stream.of(param.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                             Constants.INVALID_INITIALIZER_PARAMS_FQ);
+                    paramScopes = paramModel.getMatchedAnnotationNames(Constants.INVALID_INITIALIZER_PARAMS_FQ);
                 }
                 for (String annotation : paramScopes) {
                     invalidAnnotations.add("@" + DiagnosticUtils.getSimpleName(annotation));
                 }
 
-                paramScopesSet = new LinkedHashSet<>(paramScopes);
-                if (paramScopesSet.size() == Constants.INVALID_INITIALIZER_PARAMS_FQ.length && paramScopesSet.equals(Set.of(Constants.INVALID_INITIALIZER_PARAMS_FQ))) {
+                if (paramModel.hasAllAnnotations(Constants.INVALID_INITIALIZER_PARAMS_MASK)) {
                     mutuallyExclusive = true;
                 }
 
@@ -25,13 +25,25 @@ public abstract class AbstractJavaFeatureDefinition<T> {
 
     private final IConfigurationElement element;
 
+    private final ParticipantMetrics metrics;
+
     private T participant;
 
     public AbstractJavaFeatureDefinition(IConfigurationElement element) {
         this.element = element;
+        this.metrics = ParticipantMetrics.get(element.getName(), element.getAttribute(CLASS_ATTR));
+    }
+
+    /**
+     * Returns the metrics of the participant.
+     *
+     * @return the metrics of the participant.
+     */
+    public ParticipantMetrics getMetrics() {
+        return metrics;
     }
 
-    protected T getParticipant() throws CoreException {
+    protected synchronized T getParticipant() throws CoreException {
         if (participant == null) {
             participant = (T) element.createExecutableExtension(CLASS_ATTR);
         }
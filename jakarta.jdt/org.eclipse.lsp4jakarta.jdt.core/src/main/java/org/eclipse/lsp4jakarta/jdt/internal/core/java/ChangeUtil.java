@@ -55,6 +55,21 @@ public class ChangeUtil {
         return edit;
     }
 
+    /**
+     * Converts the given text edit of the given compilation unit to
+     * WorkspaceEdit.
+     *
+     * @param unit the compilation unit modified by the text edit.
+     * @param textEdit the text edit to convert.
+     * @return {@link WorkspaceEdit} converted from the text edit
+     */
+    public static WorkspaceEdit convertToWorkspaceEdit(ICompilationUnit unit, TextEdit textEdit, String uri, IJDTUtils utils,
+                                                       boolean resourceOperationSupported) {
+        WorkspaceEdit edit = new WorkspaceEdit();
+        convertTextEdit(edit, unit, textEdit, uri, utils, resourceOperationSupported);
+        return edit;
+    }
+
     private static void convertCompositeChange(CompositeChange change, WorkspaceEdit edit, String uri, IJDTUtils utils,
                                                boolean resourceOperationSupported) throws CoreException {
         Change[] changes = change.getChildren();
@@ -0,0 +1,188 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameRequestor;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IJavaStructureChangeListener;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Per Java project index of the simple names of the classes declared in the
+ * sources of the project.
+ *
+ * <p>
+ * The index of a project is built on first use with one search of all the
+ * type names of its sources, and then maintained from the structure changes
+ * dispatched by {@link JavaDiagnosticsCache}:
+ * a compilation unit which changes structurally is indexed again, a removed
+ * compilation unit is removed. The index of a project is dropped, and built
+ * again on next use, when a package or a classpath entry of the project
+ * changes.
+ * </p>
+ */
+public class DeclaredTypeIndex implements IJavaStructureChangeListener {
+
+    private static final DeclaredTypeIndex INSTANCE = new DeclaredTypeIndex();
+
+    public static DeclaredTypeIndex getInstance() {
+        return INSTANCE;
+    }
+
+    private static class ProjectIndex {
+
+        /** Class simple names declared by each compilation unit, keyed by path. */
+        private final Map<String, Set<String>> namesByPath = new HashMap<>();
+
+        /** Number of compilation units which declare each class simple name. */
+        private final Map<String, Integer> counts = new HashMap<>();
+
+        private synchronized boolean contains(String simpleName) {
+            return counts.containsKey(simpleName);
+        }
+
+        private synchronized void add(String path, String simpleName) {
+            if (namesByPath.computeIfAbsent(path, k -> new HashSet<>()).add(simpleName)) {
+                counts.merge(simpleName, 1, Integer::sum);
+            }
+        }
+
+        private synchronized void update(String path, Set<String> simpleNames) {
+            remove(path);
+            if (!simpleNames.isEmpty()) {
+                namesByPath.put(path, simpleNames);
+                for (String simpleName : simpleNames) {
+                    counts.merge(simpleName, 1, Integer::sum);
+                }
+            }
+        }
+
+        private synchronized void remove(String path) {
+            Set<String> oldNames = namesByPath.remove(path);
+            if (oldNames != null) {
+                for (String simpleName : oldNames) {
+                    counts.computeIfPresent(simpleName, (k, count) -> count > 1 ? count - 1 : null);
+                }
+            }
+        }
+    }
+
+    private final Map<String, ProjectIndex> projects;
+
+    private DeclaredTypeIndex() {
+        this.projects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns true if a class with the given simple name is declared in the
+     * sources of the given project and false otherwise.
+     *
+     * @param project the Java project.
+     * @param simpleName the class simple name.
+     * @return true if a class with the given simple name is declared in the
+     *         sources of the given project.
+     * @throws CoreException
+     */
+    public boolean isDeclared(IJavaProject project, String simpleName) throws CoreException {
+        ProjectIndex index = projects.get(project.getElementName());
+        if (index == null) {
+            index = createIndex(project);
+            ProjectIndex existing = projects.putIfAbsent(project.getElementName(), index);
+            if (existing != null) {
+                index = existing;
+            }
+        }
+        return index.contains(simpleName);
+    }
+
+    private static ProjectIndex createIndex(IJavaProject project) throws CoreException {
+        ProjectIndex index = new ProjectIndex();
+        IJavaSearchScope scope = SearchEngine.createJavaSearchScope(new IJavaProject[] { project }, IJavaSearchScope.SOURCES);
+        new SearchEngine().searchAllTypeNames(null, 0, null, 0, IJavaSearchConstants.CLASS, scope, new TypeNameRequestor() {
+
+            @Override
+            public void acceptType(int modifiers, char[] packageName, char[] simpleTypeName, char[][] enclosingTypeNames,
+                                   String path) {
+                index.add(path, new String(simpleTypeName));
+            }
+        }, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, null);
+        return index;
+    }
+
+    /**
+     * Clears the index.
+     */
+    public void clear() {
+        projects.clear();
+    }
+
+    @Override
+    public void classpathChanged(IJavaProject project) {
+        removeProject(project);
+    }
+
+    @Override
+    public void packageChanged(IJavaProject project) {
+        removeProject(project);
+    }
+
+    @Override
+    public void compilationUnitChanged(ICompilationUnit unit, boolean removed) {
+        updateUnit(unit, removed);
+    }
+
+    private void removeProject(IJavaProject project) {
+        if (project != null) {
+            projects.remove(project.getElementName());
+        }
+    }
+
+    private void updateUnit(ICompilationUnit unit, boolean removed) {
+        IJavaProject project = unit.getJavaProject();
+        ProjectIndex index = project != null ? projects.get(project.getElementName()) : null;
+        if (index == null) {
+            // not built yet, it will be built from the current sources
+            return;
+        }
+        String path = unit.getPath().toString();
+        if (removed || !unit.exists()) {
+            index.remove(path);
+            return;
+        }
+        try {
+            Set<String> simpleNames = new HashSet<>();
+            for (IType type : unit.getAllTypes()) {
+                if (type.isClass()) {
+                    simpleNames.add(type.getElementName());
+                }
+            }
+            index.update(path, simpleNames);
+        } catch (JavaModelException e) {
+            // the unit can't be read, build the index again on next use
+            removeProject(project);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IPackageDeclaration;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Immutable table which resolves the simple names used in a compilation unit
+ * to fully qualified names from its single-type imports, on-demand imports,
+ * package and <code>java.lang</code>.
+ *
+ * <p>
+ * The table is built once per compilation unit and kept while the stamp of
+ * its project doesn't change (the stamp is incremented by any import change,
+ * added or removed compilation unit). Names which the table cannot resolve
+ * alone, such as a type declared in the unit which shadows an import, are
+ * reported as ambiguous so that the caller falls back to
+ * {@link IType#resolveType(String)}.
+ * </p>
+ */
+public class ImportResolutionTable {
+
+    private static final int MAX_ENTRIES = 64;
+
+    private static final String JAVA_LANG = "java.lang";
+
+    /** Result of {@link #resolve(String, String, boolean)}. */
+    public enum Resolution {
+        MATCHED, NOT_MATCHED, AMBIGUOUS
+    }
+
+    private static class Entry {
+
+        private final long stamp;
+
+        private final ImportResolutionTable table;
+
+        private Entry(long stamp, ImportResolutionTable table) {
+            this.stamp = stamp;
+            this.table = table;
+        }
+    }
+
+    private static final Map<ICompilationUnit, Entry> TABLES = new LinkedHashMap<ICompilationUnit, Entry>(16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ICompilationUnit, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /** Simple name to fully qualified name of the single-type imports, null value if two imports clash. */
+    private final Map<String, String> singleTypeImports;
+
+    /** Fully qualified names of the single-type imports. */
+    private final Set<String> importedNames;
+
+    /** Simple names of the single-static imports, which may import a member type. */
+    private final Set<String> staticImports;
+
+    /** Qualifiers of the on-demand imports. */
+    private final Set<String> onDemandQualifiers;
+
+    /** Simple names of the types declared in the compilation unit. */
+    private final Set<String> declaredTypes;
+
+    /** Simple names of the top-level types of the package, from the compilation unit names. */
+    private final Set<String> packageTypes;
+
+    private final String packageName;
+
+    private ImportResolutionTable(Map<String, String> singleTypeImports, Set<String> importedNames, Set<String> staticImports,
+                                  Set<String> onDemandQualifiers, Set<String> declaredTypes, Set<String> packageTypes, String packageName) {
+        this.singleTypeImports = singleTypeImports;
+        this.importedNames = importedNames;
+        this.staticImports = staticImports;
+        this.onDemandQualifiers = onDemandQualifiers;
+        this.declaredTypes = declaredTypes;
+        this.packageTypes = packageTypes;
+        this.packageName = packageName;
+    }
+
+    /**
+     * Returns the table of the given compilation unit in its current state.
+     *
+     * @param unit the compilation unit.
+     * @return the table of the given compilation unit.
+     * @throws JavaModelException
+     */
+    public static ImportResolutionTable get(ICompilationUnit unit) throws JavaModelException {
+        long stamp = unit.getJavaProject() != null ? JavaDiagnosticsCache.getInstance().getProjectStamp(unit.getJavaProject()) : 0;
+        synchronized (TABLES) {
+            Entry entry = TABLES.get(unit);
+            if (entry != null && entry.stamp == stamp) {
+                return entry.table;
+            }
+        }
+        ImportResolutionTable table = create(unit);
+        synchronized (TABLES) {
+            TABLES.put(unit, new Entry(stamp, table));
+        }
+        return table;
+    }
+
+    /**
+     * Clears the tables.
+     */
+    public static void clear() {
+        synchronized (TABLES) {
+            TABLES.clear();
+        }
+    }
+
+    private static ImportResolutionTable create(ICompilationUnit unit) throws JavaModelException {
+        if (!unit.isOpen()) {
+            unit.open(null);
+        }
+
+        Map<String, String> singleTypeImports = new HashMap<>();
+        Set<String> importedNames = new HashSet<>();
+        Set<String> staticImports = new HashSet<>();
+        Set<String> onDemandQualifiers = new HashSet<>();
+        for (IImportDeclaration importDeclaration : unit.getImports()) {
+            String name = importDeclaration.getElementName();
+            int index = name.lastIndexOf('.');
+            if (importDeclaration.isOnDemand()) {
+                onDemandQualifiers.add(name.substring(0, index));
+            } else {
+                importedNames.add(name);
+                String simpleName = name.substring(index + 1);
+                if (Flags.isStatic(importDeclaration.getFlags())) {
+                    staticImports.add(simpleName);
+                } else if (singleTypeImports.containsKey(simpleName) && !name.equals(singleTypeImports.get(simpleName))) {
+                    singleTypeImports.put(simpleName, null);
+                } else {
+                    singleTypeImports.put(simpleName, name);
+                }
+            }
+        }
+
+        Set<String> declaredTypes = new HashSet<>();
+        for (IType type : unit.getAllTypes()) {
+            declaredTypes.add(type.getElementName());
+        }
+
+        IPackageDeclaration[] packageDeclarations = unit.getPackageDeclarations();
+        String packageName = packageDeclarations.length > 0 ? packageDeclarations[0].getElementName() : "";
+        Set<String> packageTypes = new HashSet<>();
+        IJavaElement parent = unit.getParent();
+        if (parent instanceof IPackageFragment) {
+            for (ICompilationUnit packageUnit : ((IPackageFragment) parent).getCompilationUnits()) {
+                String unitName = packageUnit.getElementName();
+                int index = unitName.lastIndexOf('.');
+                packageTypes.add(index > 0 ? unitName.substring(0, index) : unitName);
+            }
+        }
+
+        return new ImportResolutionTable(singleTypeImports, Collections.unmodifiableSet(importedNames), Collections.unmodifiableSet(staticImports),
+                                         Collections.unmodifiableSet(onDemandQualifiers), Collections.unmodifiableSet(declaredTypes),
+                                         Collections.unmodifiableSet(packageTypes), packageName);
+    }
+
+    /**
+     * Returns true if the compilation unit imports the given fully qualified
+     * name, with a single-type import or an on-demand import of its qualifier,
+     * and false otherwise.
+     *
+     * @param fqName the fully qualified name.
+     * @return true if the compilation unit imports the given fully qualified
+     *         name.
+     */
+    public boolean isImported(String fqName) {
+        if (importedNames.contains(fqName)) {
+            return true;
+        }
+        int index = fqName.lastIndexOf('.');
+        return index > 0 && onDemandQualifiers.contains(fqName.substring(0, index));
+    }
+
+    /**
+     * Returns whether the given simple name, used in the compilation unit,
+     * refers to the given fully qualified name.
+     *
+     * <p>
+     * The name is resolved, in that order, by the single-type imports, the
+     * package of the unit, the on-demand imports and, when
+     * <code>implicitJavaLang</code> is true, <code>java.lang</code>. A type
+     * declared in the unit with the same simple name shadows the imports, so the
+     * resolution is ambiguous, as well as a single-static import with the same
+     * simple name, which may import a member type.
+     * </p>
+     *
+     * @param simpleName the simple name used in the compilation unit.
+     * @param fqName the fully qualified name.
+     * @param implicitJavaLang true if the types of <code>java.lang</code> are
+     *            resolved.
+     * @return whether the given simple name refers to the given fully qualified
+     *         name.
+     */
+    public Resolution resolve(String simpleName, String fqName, boolean implicitJavaLang) {
+        if (declaredTypes.contains(simpleName)) {
+            return Resolution.AMBIGUOUS;
+        }
+        if (singleTypeImports.containsKey(simpleName)) {
+            String importedName = singleTypeImports.get(simpleName);
+            if (importedName == null) {
+                return Resolution.AMBIGUOUS;
+            }
+            return importedName.equals(fqName) ? Resolution.MATCHED : Resolution.NOT_MATCHED;
+        }
+        if (staticImports.contains(simpleName)) {
+            return Resolution.AMBIGUOUS;
+        }
+        int index = fqName.lastIndexOf('.');
+        String qualifier = index > 0 ? fqName.substring(0, index) : "";
+        if (packageTypes.contains(simpleName)) {
+            return packageName.equals(qualifier) ? Resolution.MATCHED : Resolution.NOT_MATCHED;
+        }
+        if (onDemandQualifiers.contains(qualifier)) {
+            return Resolution.MATCHED;
+        }
+        if (implicitJavaLang && JAVA_LANG.equals(qualifier)) {
+            return Resolution.MATCHED;
+        }
+        return Resolution.NOT_MATCHED;
+    }
+
+    /**
+     * Returns the fully qualified name which the given simple name, used in the
+     * compilation unit, refers to and null if the table cannot resolve it alone.
+     *
+     * <p>
+     * The name is resolved, in that order, by the single-type imports, the
+     * package of the unit and <code>java.lang</code>. Null is returned for a
+     * type declared in the unit, for clashing single-type imports, for a
+     * single-static import with the same simple name and, when the
+     * unit has on-demand imports, for the names which are not imported or
+     * declared in the package, so that the caller falls back to
+     * {@link IType#resolveType(String)}.
+     * </p>
+     *
+     * @param simpleName the simple name used in the compilation unit.
+     * @return the fully qualified name which the given simple name refers to and
+     *         null if the table cannot resolve it alone.
+     */
+    public String resolve(String simpleName) {
+        if (declaredTypes.contains(simpleName)) {
+            return null;
+        }
+        if (singleTypeImports.containsKey(simpleName)) {
+            return singleTypeImports.get(simpleName);
+        }
+        if (staticImports.contains(simpleName)) {
+            return null;
+        }
+        if (packageTypes.contains(simpleName)) {
+            return packageName.isEmpty() ? simpleName : packageName + '.' + simpleName;
+        }
+        if (!onDemandQualifiers.isEmpty()) {
+            return null;
+        }
+        return JAVA_LANG + '.' + simpleName;
+    }
+}
@@ -17,15 +17,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.CodeActionDispatchIndex;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction.JavaCodeActionDefinition;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.completion.JavaCompletionDefinition;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.DiagnosticsTriggerMatcher;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
 
 /**
@@ -54,6 +55,10 @@ public class JavaFeaturesRegistry {
 
     private final List<JavaCodeActionDefinition> javaCodeActionDefinitions;
 
+    private DiagnosticsTriggerMatcher diagnosticsTriggerMatcher;
+
+    private CodeActionDispatchIndex codeActionDispatchIndex;
+
     private boolean javaFeatureDefinitionsLoaded;
 
     public static JavaFeaturesRegistry getInstance() {
@@ -90,6 +95,8 @@ public class JavaFeaturesRegistry {
         IConfigurationElement[] cf = registry.getConfigurationElementsFor(JakartaCorePlugin.PLUGIN_ID,
                                                                           EXTENSION_JAVA_FEATURE_PARTICIPANTS);
         addJavaFeatureDefinition(cf);
+        diagnosticsTriggerMatcher = new DiagnosticsTriggerMatcher(javaDiagnosticsDefinitions);
+        codeActionDispatchIndex = new CodeActionDispatchIndex(javaCodeActionDefinitions);
     }
 
     private void addJavaFeatureDefinition(IConfigurationElement[] cf) {
@@ -139,14 +146,35 @@ public class JavaFeaturesRegistry {
         return javaDiagnosticsDefinitions;
     }
 
+    /**
+     * Returns the matcher of the trigger tokens of the diagnostics definitions,
+     * indexed in the order of {@link #getJavaDiagnosticsDefinitions()}.
+     *
+     * @return the matcher of the trigger tokens of the diagnostics definitions.
+     */
+    public DiagnosticsTriggerMatcher getDiagnosticsTriggerMatcher() {
+        loadJavaFeatureDefinitions();
+        return diagnosticsTriggerMatcher;
+    }
+
     /**
      * Returns a list of code action definition.
      *
      * @return a list of code action definition.
      */
     public List<JavaCodeActionDefinition> getJavaCodeActionDefinitions(String codeActionKind) {
+        return getCodeActionDispatchIndex().getKindIndex(codeActionKind).getDefinitions();
+    }
+
+    /**
+     * Returns the index of the code action definitions by kind and by targeted
+     * diagnostic, built once when the definitions are loaded.
+     *
+     * @return the index of the code action definitions.
+     */
+    public CodeActionDispatchIndex getCodeActionDispatchIndex() {
         loadJavaFeatureDefinitions();
-        return javaCodeActionDefinitions.stream().filter(definition -> codeActionKind.startsWith(definition.getKind())).collect(Collectors.toList());
+        return codeActionDispatchIndex;
     }
 
 }
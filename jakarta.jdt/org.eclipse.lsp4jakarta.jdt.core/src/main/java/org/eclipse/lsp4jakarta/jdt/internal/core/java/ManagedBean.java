@@ -116,10 +116,7 @@ public class ManagedBean {
                 String typeName = Signature.toString(typeSig);
                 varType = getChildITypeByName(declaringType, typeName);
                 if (varType == null) {
-                    IJavaProject jProject = declaringType.getJavaProject();
-                    varType = jProject.findType(typeName);
-                    String sn = Signature.toString(typeSig);
-                    varType = declaringType.getType(sn);
+                    varType = declaringType.getType(typeName);
                 }
             } catch (Exception e) {
                 JakartaCorePlugin.logException("Unable to convert an ILocalVariable to IType", e);
@@ -171,7 +168,7 @@ public class ManagedBean {
     public static boolean isAnnotatedClass(IType iType, String annotation) throws JavaModelException {
         IAnnotation[] annotations = iType.getAnnotations();
         for (int i = 0; i < annotations.length; i++) {
-            String[][] resolvedType = iType.resolveType(annotations[i].getElementName());
+            String[][] resolvedType = TypeResolutionCache.getInstance().resolveType(iType, annotations[i].getElementName());
             if (resolvedType != null && resolvedType.length != 0) {
                 String[] annotationParts = resolvedType[0];
                 String resolvedAnnotation = String.join(".", annotationParts);
@@ -313,7 +310,7 @@ public class ManagedBean {
 
         if (resolvedClassName != null) {
             IJavaProject jProject = parentType.getJavaProject();
-            iType = jProject.findType(resolvedClassName);
+            iType = TypeResolutionCache.getInstance().findType(jProject, resolvedClassName);
         }
 
         return iType;
@@ -331,7 +328,7 @@ public class ManagedBean {
      */
     public static String getFullyQualifiedClassName(IType parentType, String simpleName) throws JavaModelException {
         String resolvedClassName = null;
-        String[][] resolvedType = parentType.resolveType(simpleName);
+        String[][] resolvedType = TypeResolutionCache.getInstance().resolveType(parentType, simpleName);
 
         if (resolvedType != null && resolvedType.length != 0) {
             String[] classParts = resolvedType[0];
@@ -355,14 +352,20 @@ public class ManagedBean {
      */
     public static boolean hasMetaAnnotation(IAnnotation annotation, IType type, ICompilationUnit cu,
                                             String metaAnnotationFQN) throws JavaModelException {
-        String annotationFQ = ManagedBean.getFullyQualifiedClassName(type, annotation.getElementName());
+        int flag = MetaAnnotationCache.getFlag(metaAnnotationFQN);
+        if (flag != 0) {
+            // the meta-annotations of the annotation type are classified once
+            return MetaAnnotationCache.getInstance().hasMetaAnnotation(annotation, type, flag);
+        }
+
+        String annotationFQ = getFullyQualifiedClassName(type, annotation.getElementName());
         IJavaProject project = annotation.getJavaProject();
 
         if (project == null || annotationFQ == null) {
             return false;
         }
 
-        IType annotationType = project.findType(annotationFQ);
+        IType annotationType = TypeResolutionCache.getInstance().findType(project, annotationFQ);
         if (annotationType == null) {
             return false;
         }
@@ -0,0 +1,207 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IJavaStructureChangeListener;
+
+/**
+ * Per Java project cache of the meta-annotations of annotation types
+ * (<code>@Qualifier</code>, <code>@Scope</code>, <code>@NormalScope</code>,
+ * <code>@Stereotype</code>, <code>@InterceptorBinding</code> and
+ * <code>@Constraint</code>), keyed by the annotation fully qualified name.
+ *
+ * <p>
+ * The meta-annotations are a property of the annotation type, so they are
+ * computed once, as a set of bit flags, instead of for each annotation usage.
+ * An entry is removed when the compilation unit which declares the annotation
+ * type changes. The entries of the annotation types which were not found are
+ * removed by any structural change, and all the entries are removed when a
+ * package is added or removed or when a classpath changes.
+ * </p>
+ */
+public class MetaAnnotationCache implements IJavaStructureChangeListener {
+
+    private static final MetaAnnotationCache INSTANCE = new MetaAnnotationCache();
+
+    public static final int QUALIFIER = 1;
+
+    public static final int SCOPE = 1 << 1;
+
+    public static final int NORMAL_SCOPE = 1 << 2;
+
+    public static final int STEREOTYPE = 1 << 3;
+
+    public static final int INTERCEPTOR_BINDING = 1 << 4;
+
+    public static final int CONSTRAINT = 1 << 5;
+
+    private static final String[] META_ANNOTATION_FQ_NAMES = { "jakarta.inject.Qualifier", "jakarta.inject.Scope",
+                                                               "jakarta.enterprise.context.NormalScope", "jakarta.enterprise.inject.Stereotype",
+                                                               "jakarta.interceptor.InterceptorBinding", "jakarta.validation.Constraint" };
+
+    private static final int[] META_ANNOTATION_FLAGS = { QUALIFIER, SCOPE, NORMAL_SCOPE, STEREOTYPE, INTERCEPTOR_BINDING,
+                                                         CONSTRAINT };
+
+    public static MetaAnnotationCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static class Entry {
+
+        private final int flags;
+
+        /** Compilation unit which declares the annotation type, null if it is binary or not found. */
+        private final ICompilationUnit unit;
+
+        private final boolean found;
+
+        private Entry(int flags, ICompilationUnit unit, boolean found) {
+            this.flags = flags;
+            this.unit = unit;
+            this.found = found;
+        }
+    }
+
+    private final Map<String, Map<String, Entry>> projects;
+
+    private MetaAnnotationCache() {
+        this.projects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the flag of the given meta-annotation fully qualified name and 0 if
+     * it is not classified by this cache.
+     *
+     * @param metaAnnotationFQName the meta-annotation fully qualified name.
+     * @return the flag of the given meta-annotation and 0 otherwise.
+     */
+    public static int getFlag(String metaAnnotationFQName) {
+        for (int i = 0; i < META_ANNOTATION_FQ_NAMES.length; i++) {
+            if (META_ANNOTATION_FQ_NAMES[i].equals(metaAnnotationFQName)) {
+                return META_ANNOTATION_FLAGS[i];
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns true if the type of the given annotation, used in the given type,
+     * is annotated with the meta-annotation of the given flag and false
+     * otherwise.
+     *
+     * @param annotation the annotation.
+     * @param type the type in which the annotation name is resolved.
+     * @param flag the meta-annotation flag.
+     * @return true if the annotation type has the given meta-annotation.
+     * @throws JavaModelException
+     */
+    public boolean hasMetaAnnotation(IAnnotation annotation, IType type, int flag) throws JavaModelException {
+        IJavaProject project = annotation.getJavaProject();
+        if (project == null) {
+            return false;
+        }
+        String annotationFQName = ManagedBean.getFullyQualifiedClassName(type, annotation.getElementName());
+        if (annotationFQName == null) {
+            return false;
+        }
+        return (getFlags(project, annotationFQName) & flag) != 0;
+    }
+
+    /**
+     * Returns the meta-annotation flags of the given annotation type.
+     *
+     * @param project the Java project in which the annotation type is searched.
+     * @param annotationFQName the annotation fully qualified name.
+     * @return the meta-annotation flags of the given annotation type, 0 if it
+     *         is not found.
+     * @throws JavaModelException
+     */
+    public int getFlags(IJavaProject project, String annotationFQName) throws JavaModelException {
+        Map<String, Entry> entries = projects.computeIfAbsent(project.getElementName(), k -> new ConcurrentHashMap<>());
+        Entry entry = entries.get(annotationFQName);
+        if (entry == null) {
+            entry = createEntry(project, annotationFQName);
+            entries.put(annotationFQName, entry);
+        }
+        return entry.flags;
+    }
+
+    private static Entry createEntry(IJavaProject project, String annotationFQName) throws JavaModelException {
+        IType annotationType = TypeResolutionCache.getInstance().findType(project, annotationFQName);
+        if (annotationType == null) {
+            return new Entry(0, null, false);
+        }
+        ICompilationUnit unit = annotationType.getCompilationUnit();
+        int flags = 0;
+        for (IAnnotation metaAnnotation : annotationType.getAnnotations()) {
+            for (int i = 0; i < META_ANNOTATION_FQ_NAMES.length; i++) {
+                if (isMatched(unit, metaAnnotation, META_ANNOTATION_FQ_NAMES[i])) {
+                    flags |= META_ANNOTATION_FLAGS[i];
+                }
+            }
+        }
+        return new Entry(flags, unit, true);
+    }
+
+    private static boolean isMatched(ICompilationUnit unit, IAnnotation metaAnnotation, String metaAnnotationFQName) throws JavaModelException {
+        if (unit == null) {
+            // annotation names of binary types are fully qualified
+            return metaAnnotationFQName.equals(metaAnnotation.getElementName());
+        }
+        return DiagnosticUtils.isMatchedAnnotation(unit, metaAnnotation, metaAnnotationFQName);
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        projects.clear();
+    }
+
+    @Override
+    public void classpathChanged(IJavaProject project) {
+        // binary annotation types may have changed
+        clear();
+    }
+
+    @Override
+    public void packageChanged(IJavaProject project) {
+        removeEntries(null);
+    }
+
+    @Override
+    public void compilationUnitChanged(ICompilationUnit unit, boolean removed) {
+        removeEntries(unit);
+    }
+
+    /**
+     * Removes the entries of the annotation types declared in the given
+     * compilation unit, all the entries if the unit is null, and the entries of
+     * the annotation types which were not found.
+     */
+    private void removeEntries(ICompilationUnit unit) {
+        for (Map<String, Entry> entries : projects.values()) {
+            entries.values().removeIf(entry -> !entry.found || unit == null
+                                               || (entry.unit != null && unit.getPrimary().equals(entry.unit.getPrimary())));
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Latency histogram, invocation count and error count of a Java feature
+ * participant (diagnostics, code action or completion).
+ *
+ * <p>
+ * A warning is logged with the file URI when a single call of a participant
+ * takes longer than the slow participant threshold, which can be set with the
+ * system property {@value #SLOW_THRESHOLD_PROPERTY} (in milliseconds, 0
+ * disables the warning).
+ * </p>
+ */
+public class ParticipantMetrics {
+
+    private static final Logger LOGGER = Logger.getLogger(ParticipantMetrics.class.getName());
+
+    /** System property of the slow participant threshold in milliseconds. */
+    public static final String SLOW_THRESHOLD_PROPERTY = "lsp4jakarta.participant.slowThreshold";
+
+    private static final long DEFAULT_SLOW_THRESHOLD = 1000;
+
+    /** Upper bounds (inclusive) in milliseconds of the histogram buckets, the last bucket is unbounded. */
+    private static final long[] BUCKET_BOUNDS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000 };
+
+    private static final Map<String, ParticipantMetrics> METRICS = new ConcurrentHashMap<>();
+
+    private static volatile long slowThreshold = Long.getLong(SLOW_THRESHOLD_PROPERTY, DEFAULT_SLOW_THRESHOLD);
+
+    private final String feature;
+
+    private final String participant;
+
+    private final LongAdder invocations;
+
+    private final LongAdder errors;
+
+    private final LongAdder totalNanos;
+
+    private final AtomicLongArray histogram;
+
+    private ParticipantMetrics(String feature, String participant) {
+        this.feature = feature;
+        this.participant = participant;
+        this.invocations = new LongAdder();
+        this.errors = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.histogram = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+    }
+
+    /**
+     * Returns the metrics of the given participant, shared by all the
+     * definitions of the same feature and participant class.
+     *
+     * @param feature the feature (ex : diagnostics).
+     * @param participant the participant class name.
+     * @return the metrics of the given participant.
+     */
+    public static ParticipantMetrics get(String feature, String participant) {
+        return METRICS.computeIfAbsent(feature + '/' + participant, k -> new ParticipantMetrics(feature, participant));
+    }
+
+    /**
+     * Returns the metrics of all the participants.
+     *
+     * @return the metrics of all the participants.
+     */
+    public static Collection<ParticipantMetrics> getAll() {
+        return Collections.unmodifiableCollection(new ArrayList<>(METRICS.values()));
+    }
+
+    /**
+     * Returns the slow participant threshold in milliseconds.
+     *
+     * @return the slow participant threshold in milliseconds.
+     */
+    public static long getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    /**
+     * Sets the slow participant threshold in milliseconds, 0 disables the
+     * warning.
+     *
+     * @param slowThreshold the slow participant threshold in milliseconds.
+     */
+    public static void setSlowThreshold(long slowThreshold) {
+        ParticipantMetrics.slowThreshold = slowThreshold;
+    }
+
+    /**
+     * Records a call of the participant which started at the given time.
+     *
+     * @param startNanos the start time of the call, from
+     *            {@link System#nanoTime()}.
+     * @param operation the called operation (ex : collectDiagnostics).
+     * @param uri the URI of the Java file.
+     */
+    public void record(long startNanos, String operation, String uri) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        invocations.increment();
+        totalNanos.add(elapsedNanos);
+        histogram.incrementAndGet(getBucket(elapsedMillis));
+        long threshold = slowThreshold;
+        if (threshold > 0 && elapsedMillis > threshold) {
+            LOGGER.log(Level.WARNING, "Participant '" + participant + "' took " + elapsedMillis + "ms in " + operation
+                                      + " for '" + uri + "'");
+        }
+    }
+
+    /**
+     * Records an error thrown by the participant.
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    private static int getBucket(long elapsedMillis) {
+        for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+            if (elapsedMillis <= BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS.length;
+    }
+
+    /**
+     * Returns the feature (ex : diagnostics).
+     *
+     * @return the feature.
+     */
+    public String getFeature() {
+        return feature;
+    }
+
+    /**
+     * Returns the participant class name.
+     *
+     * @return the participant class name.
+     */
+    public String getParticipant() {
+        return participant;
+    }
+
+    /**
+     * Returns the number of recorded calls.
+     *
+     * @return the number of recorded calls.
+     */
+    public long getInvocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of errors thrown by the participant.
+     *
+     * @return the number of errors thrown by the participant.
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Returns the total time of the recorded calls in milliseconds.
+     *
+     * @return the total time of the recorded calls in milliseconds.
+     */
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos.sum());
+    }
+
+    /**
+     * Returns the upper bounds (inclusive) in milliseconds of the histogram
+     * buckets. The histogram has one more unbounded bucket.
+     *
+     * @return the upper bounds in milliseconds of the histogram buckets.
+     */
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Returns the number of recorded calls per bucket of
+     * {@link #getBucketBounds()}, followed by the number of calls slower than
+     * the last bound.
+     *
+     * @return the number of recorded calls per bucket.
+     */
+    public long[] getHistogram() {
+        long[] counts = new long[histogram.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append(feature).append(' ').append(participant);
+        result.append(": invocations=").append(getInvocations());
+        result.append(", errors=").append(getErrors());
+        result.append(", total=").append(getTotalMillis()).append("ms, histogram=[");
+        long[] counts = getHistogram();
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append(i < BUCKET_BOUNDS.length ? "<=" + BUCKET_BOUNDS[i] + "ms" : ">" + BUCKET_BOUNDS[i - 1] + "ms");
+            result.append(':').append(counts[i]);
+        }
+        return result.append(']').toString();
+    }
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.CoreASTProvider;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTResolving;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Single entry point to get the AST, with resolved bindings, of a compilation
+ * unit for the diagnostics, the code actions and the completion.
+ *
+ * <p>
+ * The AST is taken from {@link CoreASTProvider}, which shares the AST of the
+ * reconciled working copy, and is parsed only when that AST isn't available.
+ * The last ASTs are kept with the source they were created from and the
+ * workspace stamp of {@link JavaDiagnosticsCache}, so that a compilation unit
+ * is parsed at most once per version of its content. The returned AST is
+ * shared and must not be modified.
+ * </p>
+ */
+public class SharedASTProvider {
+
+    private static final SharedASTProvider INSTANCE = new SharedASTProvider();
+
+    private static final int MAX_ENTRIES = 8;
+
+    public static SharedASTProvider getInstance() {
+        return INSTANCE;
+    }
+
+    private static class Entry {
+
+        private final String source;
+
+        private final long stamp;
+
+        private final CompilationUnit ast;
+
+        private Entry(String source, long stamp, CompilationUnit ast) {
+            this.source = source;
+            this.stamp = stamp;
+            this.ast = ast;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    private SharedASTProvider() {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the AST of the given compilation unit with resolved bindings.
+     *
+     * @param unit the compilation unit.
+     * @param monitor the progress monitor.
+     * @return the AST of the given compilation unit and null if it cannot be
+     *         created.
+     */
+    public CompilationUnit getAST(ICompilationUnit unit, IProgressMonitor monitor) {
+        if (unit == null) {
+            return null;
+        }
+        String key = unit.getHandleIdentifier();
+        String source = getSource(unit);
+        long stamp = JavaDiagnosticsCache.getInstance().getWorkspaceStamp();
+        if (source != null) {
+            synchronized (entries) {
+                Entry entry = entries.get(key);
+                if (entry != null && entry.stamp == stamp && entry.source.equals(source)) {
+                    return entry.ast;
+                }
+            }
+        }
+        CompilationUnit ast = CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
+        if (ast == null) {
+            ast = ASTResolving.createQuickFixAST(unit, monitor);
+        }
+        if (ast != null && source != null) {
+            synchronized (entries) {
+                entries.put(key, new Entry(source, stamp, ast));
+            }
+        }
+        return ast;
+    }
+
+    private static String getSource(ICompilationUnit unit) {
+        try {
+            return unit.getSource();
+        } catch (JavaModelException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Clears the cached ASTs.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
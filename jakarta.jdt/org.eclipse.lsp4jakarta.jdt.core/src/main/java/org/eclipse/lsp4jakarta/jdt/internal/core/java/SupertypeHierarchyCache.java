@@ -0,0 +1,218 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Cache of the supertype closures of types, shared by the diagnostics
+ * participants and requests, so that checks such as "is this field type a
+ * <code>CharSequence</code>" don't build a new {@link ITypeHierarchy} each
+ * time.
+ *
+ * <p>
+ * The cache is dropped when the workspace stamp of {@link JavaDiagnosticsCache}
+ * changes, which its element changed listener increments on classpath
+ * changes, added or removed types and structural changes such as a new
+ * <code>extends</code> clause. Body-only edits keep the cache. The cache is
+ * bounded and cleared when full.
+ * </p>
+ */
+public class SupertypeHierarchyCache {
+
+    private static final SupertypeHierarchyCache INSTANCE = new SupertypeHierarchyCache();
+
+    private static final int MAX_ENTRIES = 2048;
+
+    public static SupertypeHierarchyCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks if the declaration of a supertype is known (see
+     * {@link Supertypes#isComplete(DeclarationChecker)}).
+     */
+    @FunctionalInterface
+    public interface DeclarationChecker {
+
+        boolean hasKnownDeclaration(IType type) throws CoreException;
+    }
+
+    /**
+     * Supertype closure of a type.
+     */
+    public static class Supertypes {
+
+        private final IType[] types;
+
+        private final Set<String> fqNames;
+
+        private final Set<String> simpleNames;
+
+        private final Set<String> interfaceFQNames;
+
+        private volatile Boolean complete;
+
+        private Supertypes(IType[] types, Set<String> fqNames, Set<String> simpleNames, Set<String> interfaceFQNames) {
+            this.types = types;
+            this.fqNames = fqNames;
+            this.simpleNames = simpleNames;
+            this.interfaceFQNames = interfaceFQNames;
+        }
+
+        /**
+         * Returns all the supertypes (classes and interfaces) of the type. The
+         * returned array is shared and must not be modified.
+         *
+         * @return all the supertypes of the type.
+         */
+        public IType[] getTypes() {
+            return types;
+        }
+
+        /**
+         * Returns true if one of the supertypes has the given name and false
+         * otherwise. A qualified name is compared with the fully qualified names
+         * of the supertypes, a simple name with their simple names.
+         *
+         * @param superType the simple or fully qualified name of the supertype.
+         * @return true if one of the supertypes has the given name.
+         */
+        public boolean contains(String superType) {
+            return fqNames.contains(superType) || simpleNames.contains(superType);
+        }
+
+        /**
+         * Returns true if the hierarchy contains an interface with the given fully
+         * qualified name and false otherwise.
+         *
+         * @param interfaceFQName the interface fully qualified name.
+         * @return true if the hierarchy contains the given interface.
+         */
+        public boolean containsInterface(String interfaceFQName) {
+            return interfaceFQNames.contains(interfaceFQName);
+        }
+
+        /**
+         * Returns true if the declarations of all the supertypes outside of
+         * <code>java.*</code> are known, so that a missing supertype certainly
+         * isn't one. The result is computed once.
+         *
+         * @param checker the checker of the supertype declarations.
+         * @return true if the declarations of all the supertypes are known.
+         * @throws CoreException
+         */
+        public boolean isComplete(DeclarationChecker checker) throws CoreException {
+            Boolean result = complete;
+            if (result == null) {
+                result = Boolean.TRUE;
+                for (IType type : types) {
+                    if (!type.getFullyQualifiedName().startsWith("java.") && !checker.hasKnownDeclaration(type)) {
+                        result = Boolean.FALSE;
+                        break;
+                    }
+                }
+                complete = result;
+            }
+            return result;
+        }
+    }
+
+    private static class Cache {
+
+        private final long stamp;
+
+        private final Map<IType, Supertypes> supertypes;
+
+        private Cache(long stamp) {
+            this.stamp = stamp;
+            this.supertypes = new ConcurrentHashMap<>();
+        }
+    }
+
+    private volatile Cache cache;
+
+    private SupertypeHierarchyCache() {
+        this.cache = new Cache(-1);
+    }
+
+    /**
+     * Returns the supertype closure of the given type, from the cache if
+     * possible.
+     *
+     * @param type the type.
+     * @return the supertype closure of the given type.
+     * @throws JavaModelException
+     */
+    public Supertypes getSupertypes(IType type) throws JavaModelException {
+        Cache current = getCache();
+        Supertypes supertypes = current.supertypes.get(type);
+        if (supertypes == null) {
+            supertypes = create(type);
+            if (current.supertypes.size() >= MAX_ENTRIES) {
+                current.supertypes.clear();
+            }
+            current.supertypes.put(type, supertypes);
+        }
+        return supertypes;
+    }
+
+    /**
+     * Clears the cache.
+     */
+    public void clear() {
+        cache = new Cache(-1);
+    }
+
+    private Cache getCache() {
+        long stamp = JavaDiagnosticsCache.getInstance().getWorkspaceStamp();
+        Cache current = cache;
+        if (current.stamp != stamp) {
+            synchronized (this) {
+                current = cache;
+                if (current.stamp != stamp) {
+                    current = new Cache(stamp);
+                    cache = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Supertypes create(IType type) throws JavaModelException {
+        ITypeHierarchy typeHierarchy = type.newSupertypeHierarchy(null);
+        IType[] types = typeHierarchy.getAllSupertypes(type);
+        Set<String> fqNames = new HashSet<>();
+        Set<String> simpleNames = new HashSet<>();
+        for (IType superType : types) {
+            fqNames.add(superType.getFullyQualifiedName());
+            simpleNames.add(superType.getElementName());
+        }
+        Set<String> interfaceFQNames = new HashSet<>();
+        for (IType superInterface : typeHierarchy.getAllInterfaces()) {
+            interfaceFQNames.add(superInterface.getFullyQualifiedName());
+        }
+        return new Supertypes(types, Collections.unmodifiableSet(fqNames), Collections.unmodifiableSet(simpleNames),
+                              Collections.unmodifiableSet(interfaceFQNames));
+    }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Per Java project cache of {@link IType#resolveType(String)} and
+ * {@link IJavaProject#findType(String)} results, shared by the diagnostics
+ * utilities which resolve the same names again and again.
+ *
+ * <p>
+ * The caches of all the projects are dropped when the workspace stamp of
+ * {@link JavaDiagnosticsCache} changes, which its element changed listener
+ * increments on classpath changes, added or removed types and import changes.
+ * Body-only edits keep the caches. Each project cache is bounded and cleared
+ * when full.
+ * </p>
+ */
+public class TypeResolutionCache {
+
+    private static final TypeResolutionCache INSTANCE = new TypeResolutionCache();
+
+    private static final int MAX_ENTRIES_PER_PROJECT = 4096;
+
+    /** Cached value of a name which {@link IType#resolveType(String)} cannot resolve. */
+    private static final String[][] UNRESOLVED = new String[0][];
+
+    public static TypeResolutionCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static class ResolveKey {
+
+        private final IType contextType;
+
+        private final String name;
+
+        private final int hashCode;
+
+        private ResolveKey(IType contextType, String name) {
+            this.contextType = contextType;
+            this.name = name;
+            this.hashCode = Objects.hash(contextType, name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ResolveKey)) {
+                return false;
+            }
+            ResolveKey other = (ResolveKey) obj;
+            return name.equals(other.name) && contextType.equals(other.contextType);
+        }
+    }
+
+    private static class ProjectCache {
+
+        private final long stamp;
+
+        private final Map<ResolveKey, String[][]> resolvedTypes;
+
+        private final Map<String, Optional<IType>> types;
+
+        private ProjectCache(long stamp) {
+            this.stamp = stamp;
+            this.resolvedTypes = new ConcurrentHashMap<>();
+            this.types = new ConcurrentHashMap<>();
+        }
+    }
+
+    private final Map<String, ProjectCache> projects;
+
+    private TypeResolutionCache() {
+        this.projects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the result of {@link IType#resolveType(String)} for the given
+     * context type and name, from the cache if possible. The returned array is
+     * shared and must not be modified.
+     *
+     * @param contextType the type in which the name is resolved.
+     * @param name the simple or qualified type name.
+     * @return the resolved names as returned by
+     *         {@link IType#resolveType(String)}, null if the name cannot be
+     *         resolved.
+     * @throws JavaModelException
+     */
+    public String[][] resolveType(IType contextType, String name) throws JavaModelException {
+        ProjectCache cache = getProjectCache(contextType.getJavaProject());
+        if (cache == null) {
+            return contextType.resolveType(name);
+        }
+        ResolveKey key = new ResolveKey(contextType, name);
+        String[][] resolvedType = cache.resolvedTypes.get(key);
+        if (resolvedType == null) {
+            resolvedType = contextType.resolveType(name);
+            if (resolvedType == null) {
+                resolvedType = UNRESOLVED;
+            }
+            if (cache.resolvedTypes.size() >= MAX_ENTRIES_PER_PROJECT) {
+                cache.resolvedTypes.clear();
+            }
+            cache.resolvedTypes.put(key, resolvedType);
+        }
+        return resolvedType == UNRESOLVED ? null : resolvedType;
+    }
+
+    /**
+     * Returns the result of {@link IJavaProject#findType(String)} for the given
+     * fully qualified name, from the cache if possible.
+     *
+     * @param project the Java project.
+     * @param fullyQualifiedName the fully qualified type name.
+     * @return the type found and null otherwise.
+     * @throws JavaModelException
+     */
+    public IType findType(IJavaProject project, String fullyQualifiedName) throws JavaModelException {
+        ProjectCache cache = getProjectCache(project);
+        if (cache == null) {
+            return project.findType(fullyQualifiedName);
+        }
+        Optional<IType> type = cache.types.get(fullyQualifiedName);
+        if (type == null) {
+            type = Optional.ofNullable(project.findType(fullyQualifiedName));
+            if (cache.types.size() >= MAX_ENTRIES_PER_PROJECT) {
+                cache.types.clear();
+            }
+            cache.types.put(fullyQualifiedName, type);
+        }
+        return type.orElse(null);
+    }
+
+    /**
+     * Clears the caches.
+     */
+    public void clear() {
+        projects.clear();
+    }
+
+    private ProjectCache getProjectCache(IJavaProject project) {
+        if (project == null) {
+            return null;
+        }
+        long stamp = JavaDiagnosticsCache.getInstance().getWorkspaceStamp();
+        return projects.compute(project.getElementName(), (k, cache) -> cache != null && cache.stamp == stamp ? cache : new ProjectCache(stamp));
+    }
+}
@@ -0,0 +1,231 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixResult;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.JDTJakartaUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ChangeUtil;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
+import org.eclipse.text.edits.MultiTextEdit;
+
+/**
+ * Fixes the diagnostics with a given code in all the Java files of a project.
+ *
+ * <p>
+ * The Java files are processed by chunks, so that the client can apply the
+ * edit of a chunk and report the progress before it asks for the next chunk.
+ * The Java files of a chunk are validated in parallel by
+ * {@link PropertiesManagerForJava#diagnostics(JakartaJavaDiagnosticsParams, IJDTUtils, java.util.function.Consumer, IProgressMonitor)},
+ * and each Java file with a matching diagnostic is fixed by the worker which
+ * validated it, as {@link FixAllCodeActionProvider} does for one Java file.
+ * </p>
+ */
+public class BulkQuickFixHandler {
+
+    private static final Logger LOGGER = Logger.getLogger(BulkQuickFixHandler.class.getName());
+
+    private static final String PARTICIPANT_ID = BulkQuickFixHandler.class.getName();
+
+    /**
+     * Returns the edit which fixes the diagnostics with the code of the given
+     * parameters in the Java files of the requested chunk, and null if the
+     * project cannot be found or the monitor was canceled.
+     *
+     * @param params the bulk quick fix parameters.
+     * @param utils the JDT utilities.
+     * @param monitor the progress monitor.
+     * @return the edit of the requested chunk and null otherwise.
+     * @throws JavaModelException
+     */
+    public JakartaJavaBulkQuickFixResult bulkQuickFix(JakartaJavaBulkQuickFixParams params, IJDTUtils utils,
+                                                      IProgressMonitor monitor) throws JavaModelException {
+        IJavaProject javaProject = findJavaProject(params.getUri(), utils);
+        if (javaProject == null || params.getCode() == null) {
+            return null;
+        }
+        List<ICompilationUnit> units = getCompilationUnits(javaProject);
+        int totalFiles = units.size();
+        int start = Math.max(0, Math.min(params.getOffset(), totalFiles));
+        int end = params.getLimit() > 0 ? Math.min(start + params.getLimit(), totalFiles) : totalFiles;
+
+        List<String> uris = new ArrayList<>(end - start);
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = start; i < end; i++) {
+            String uri = utils.toUri(units.get(i));
+            indexes.put(uri, uris.size());
+            uris.add(uri);
+        }
+
+        int parallelism = params.getParallelism() > 0 ? params.getParallelism() : Runtime.getRuntime().availableProcessors();
+        JakartaJavaDiagnosticsSettings settings = new JakartaJavaDiagnosticsSettings(null);
+        settings.setParallelism(parallelism);
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams(uris, settings);
+        diagnosticsParams.setDocumentFormat(DocumentFormat.Markdown);
+
+        SubMonitor progress = SubMonitor.convert(monitor, uris.size());
+        WorkspaceEdit[] edits = new WorkspaceEdit[uris.size()];
+        AtomicInteger fixedDiagnostics = new AtomicInteger();
+        PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils, publishDiagnostics -> {
+            String uri = publishDiagnostics.getUri();
+            Integer index = indexes.get(uri);
+            if (index != null) {
+                try {
+                    edits[index] = fix(publishDiagnostics, units.get(start + index), params, fixedDiagnostics, utils, monitor);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.SEVERE, "Error while fixing '" + uri + "'", e);
+                }
+            }
+            // SubMonitor is not thread safe
+            synchronized (progress) {
+                progress.worked(1);
+            }
+        }, monitor);
+        if (monitor.isCanceled()) {
+            return null;
+        }
+
+        WorkspaceEdit edit = new WorkspaceEdit();
+        int fixedFiles = 0;
+        for (WorkspaceEdit fileEdit : edits) {
+            if (fileEdit != null) {
+                merge(edit, fileEdit);
+                fixedFiles++;
+            }
+        }
+        return new JakartaJavaBulkQuickFixResult(edit, fixedDiagnostics.get(), fixedFiles, totalFiles, end < totalFiles ? end : -1);
+    }
+
+    /**
+     * Returns the edit which fixes the matching diagnostics of the given Java
+     * file and null if no diagnostic was fixed.
+     */
+    private static WorkspaceEdit fix(PublishDiagnosticsParams publishDiagnostics, ICompilationUnit unit, JakartaJavaBulkQuickFixParams params,
+                                     AtomicInteger fixedDiagnostics, IJDTUtils utils, IProgressMonitor monitor) {
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : publishDiagnostics.getDiagnostics()) {
+            if (isMatching(diagnostic, params)) {
+                diagnostics.add(diagnostic);
+            }
+        }
+        if (diagnostics.isEmpty() || monitor.isCanceled()) {
+            return null;
+        }
+        String uri = publishDiagnostics.getUri();
+        CompilationUnit astRoot = SharedASTProvider.getInstance().getAST(unit, monitor);
+        if (astRoot == null) {
+            return null;
+        }
+        IJDTUtils fileUtils = utils.withLineStartTables();
+        CodeActionResolveData data = new CodeActionResolveData(uri, PARTICIPANT_ID, null, null, params.isResourceOperationSupported(),
+                                                               params.isCommandConfigurationUpdateSupported(), null);
+        MultiTextEdit fileEdit = new MultiTextEdit();
+        List<Diagnostic> fixed = FixAllCodeActionProvider.fix(diagnostics, fileEdit, data, unit, astRoot, fileUtils, monitor);
+        if (fixed.isEmpty() || monitor.isCanceled()) {
+            return null;
+        }
+        fixedDiagnostics.addAndGet(fixed.size());
+        return ChangeUtil.convertToWorkspaceEdit(unit, fileEdit, uri, fileUtils, params.isResourceOperationSupported());
+    }
+
+    private static boolean isMatching(Diagnostic diagnostic, JakartaJavaBulkQuickFixParams params) {
+        return params.getCode().equals(CodeActionHandler.getCode(diagnostic))
+               && (params.getSource() == null || params.getSource().equals(diagnostic.getSource()));
+    }
+
+    private static void merge(WorkspaceEdit edit, WorkspaceEdit fileEdit) {
+        if (fileEdit.getDocumentChanges() != null) {
+            if (edit.getDocumentChanges() == null) {
+                edit.setDocumentChanges(new ArrayList<>());
+            }
+            edit.getDocumentChanges().addAll(fileEdit.getDocumentChanges());
+        }
+        if (fileEdit.getChanges() != null && !fileEdit.getChanges().isEmpty()) {
+            if (edit.getChanges() == null) {
+                edit.setChanges(new LinkedHashMap<>());
+            }
+            edit.getChanges().putAll(fileEdit.getChanges());
+        }
+    }
+
+    /**
+     * Returns the compilation units of the source folders of the given project,
+     * sorted by path so that the chunks are stable between two requests.
+     */
+    private static List<ICompilationUnit> getCompilationUnits(IJavaProject javaProject) throws JavaModelException {
+        List<ICompilationUnit> units = new ArrayList<>();
+        for (IPackageFragmentRoot root : javaProject.getPackageFragmentRoots()) {
+            if (root.getKind() != IPackageFragmentRoot.K_SOURCE || !javaProject.equals(root.getJavaProject())) {
+                continue;
+            }
+            for (IJavaElement child : root.getChildren()) {
+                if (child instanceof IPackageFragment) {
+                    units.addAll(Arrays.asList(((IPackageFragment) child).getCompilationUnits()));
+                }
+            }
+        }
+        units.sort(Comparator.comparing(unit -> unit.getPath().toString()));
+        return units;
+    }
+
+    /**
+     * Returns the Java project of the given project uri or Java file uri and null
+     * otherwise.
+     */
+    private static IJavaProject findJavaProject(String uri, IJDTUtils utils) {
+        if (uri == null) {
+            return null;
+        }
+        for (IJavaProject javaProject : JDTJakartaUtils.getJavaProjects()) {
+            IProject project = javaProject.getProject();
+            if (uri.equals(JDTJakartaUtils.getProjectURI(project))
+                || (project.getLocationURI() != null && uri.equals(project.getLocationURI().toString()))) {
+                return javaProject;
+            }
+        }
+        IFile file = utils.findFile(uri);
+        return file != null ? JavaCore.create(file.getProject()) : null;
+    }
+}
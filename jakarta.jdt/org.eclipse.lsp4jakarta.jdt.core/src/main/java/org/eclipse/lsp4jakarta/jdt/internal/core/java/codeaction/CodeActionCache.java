@@ -0,0 +1,227 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+
+/**
+ * Cache of the code actions of the last requests of the last documents.
+ *
+ * <p>
+ * Editors request the code actions of the same position again and again
+ * (hover, light bulb refresh, selection changes). An entry is keyed by the
+ * range, the requested kinds, the diagnostics, the client capabilities, the
+ * diagnostics settings and the document format of the request, and belongs to
+ * one version of the document: a hash of its content and the workspace stamp
+ * of {@link JavaDiagnosticsCache}. An edit of the document drops all its
+ * entries, a structural change in the workspace drops all the entries.
+ * </p>
+ */
+public class CodeActionCache {
+
+    private static final CodeActionCache INSTANCE = new CodeActionCache();
+
+    private static final int MAX_DOCUMENTS = 16;
+
+    private static final int MAX_ENTRIES_PER_DOCUMENT = 32;
+
+    public static CodeActionCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Key of the code actions of a request on a version of a document.
+     */
+    public static class Key {
+
+        private final String uri;
+
+        private final long contentHash;
+
+        private final long stamp;
+
+        private final List<Object> request;
+
+        private Key(String uri, long contentHash, long stamp, List<Object> request) {
+            this.uri = uri;
+            this.contentHash = contentHash;
+            this.stamp = stamp;
+            this.request = request;
+        }
+
+        private boolean isSameVersion(long contentHash, long stamp) {
+            return this.contentHash == contentHash && this.stamp == stamp;
+        }
+    }
+
+    private static class DocumentEntries {
+
+        private final long contentHash;
+
+        private final long stamp;
+
+        private final Map<List<Object>, List<CodeAction>> codeActions;
+
+        private DocumentEntries(long contentHash, long stamp) {
+            this.contentHash = contentHash;
+            this.stamp = stamp;
+            this.codeActions = new LinkedHashMap<List<Object>, List<CodeAction>>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<List<Object>, List<CodeAction>> eldest) {
+                    return size() > MAX_ENTRIES_PER_DOCUMENT;
+                }
+            };
+        }
+    }
+
+    private final Map<String, DocumentEntries> documents;
+
+    private CodeActionCache() {
+        this.documents = new LinkedHashMap<String, DocumentEntries>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DocumentEntries> eldest) {
+                return size() > MAX_DOCUMENTS;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached code actions of the given request, without waiting for
+     * the document life cycle jobs, and null if there is no up-to-date entry.
+     *
+     * @param params the code action parameters.
+     * @param utils the JDT utilities.
+     * @return the cached code actions of the given request and null otherwise.
+     */
+    public List<CodeAction> get(JakartaJavaCodeActionParams params, IJDTUtils utils) {
+        String uri = params.getUri();
+        synchronized (documents) {
+            if (!documents.containsKey(uri)) {
+                return null;
+            }
+        }
+        // The working copy is up-to-date only if there is no pending change to apply
+        if (utils.hasPendingLifecycleJobs()) {
+            return null;
+        }
+        ICompilationUnit unit = utils.findCompilationUnit(uri);
+        try {
+            if (unit == null || !unit.isConsistent()) {
+                return null;
+            }
+        } catch (JavaModelException e) {
+            return null;
+        }
+        Key key = createKey(params, unit);
+        if (key == null) {
+            return null;
+        }
+        synchronized (documents) {
+            DocumentEntries entries = documents.get(uri);
+            if (entries == null || !key.isSameVersion(entries.contentHash, entries.stamp)) {
+                return null;
+            }
+            List<CodeAction> codeActions = entries.codeActions.get(key.request);
+            return codeActions != null ? new ArrayList<>(codeActions) : null;
+        }
+    }
+
+    /**
+     * Returns the key of the given request on the given compilation unit in its
+     * current state and null if the request cannot be cached. The key must be
+     * created before the code actions are collected so that a change during the
+     * collection invalidates the entry.
+     *
+     * @param params the code action parameters.
+     * @param unit the compilation unit.
+     * @return the key of the given request and null otherwise.
+     */
+    public Key createKey(JakartaJavaCodeActionParams params, ICompilationUnit unit) {
+        try {
+            IBuffer buffer = unit.getBuffer();
+            String contents = buffer != null ? buffer.getContents() : null;
+            if (contents == null) {
+                return null;
+            }
+            Range range = params.getRange();
+            List<Diagnostic> diagnostics = params.getContext() != null ? params.getContext().getDiagnostics() : null;
+            List<String> only = params.getContext() != null ? params.getContext().getOnly() : null;
+            // The fix all code action and its resolve data depend on the settings
+            JakartaJavaDiagnosticsSettings settings = params.getDiagnosticsSettings();
+            List<Object> request = Arrays.asList(range,
+                                                 diagnostics != null ? new ArrayList<>(diagnostics) : Collections.emptyList(),
+                                                 only != null ? new ArrayList<>(only) : Collections.emptyList(),
+                                                 params.isResolveSupported(), params.isResourceOperationSupported(),
+                                                 params.isCommandConfigurationUpdateSupported(), params.getDocumentFormat(),
+                                                 settings != null ? new ArrayList<>(settings.getPatterns()) : null,
+                                                 settings != null && settings.isParallelParticipants());
+            return new Key(params.getUri(), JavaDiagnosticsCache.hash(contents),
+                           JavaDiagnosticsCache.getInstance().getWorkspaceStamp(), request);
+        } catch (JavaModelException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Caches the given code actions.
+     *
+     * @param key the key created before the code actions were collected.
+     * @param codeActions the code actions.
+     */
+    public void put(Key key, List<? extends CodeAction> codeActions) {
+        // Don't cache an entry which was outdated during the collection
+        if (key.stamp != JavaDiagnosticsCache.getInstance().getWorkspaceStamp()) {
+            return;
+        }
+        synchronized (documents) {
+            DocumentEntries entries = documents.get(key.uri);
+            if (entries == null || !key.isSameVersion(entries.contentHash, entries.stamp)) {
+                // the document was edited, drop the entries of the previous version
+                entries = new DocumentEntries(key.contentHash, key.stamp);
+                documents.put(key.uri, entries);
+            }
+            entries.codeActions.put(key.request, Collections.unmodifiableList(new ArrayList<>(codeActions)));
+        }
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void clear() {
+        synchronized (documents) {
+            documents.clear();
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of the code action definitions, built once when the
+ * definitions are loaded: code action kind, then diagnostic key
+ * (<code>source#code</code> or <code>code</code>), then definitions in the
+ * order of the registry.
+ *
+ * <p>
+ * A requested kind matches the definitions whose kind is a prefix of it, like
+ * <code>quickfix.jakarta</code> for <code>quickfix</code>. The index of a
+ * requested kind is computed on first use and then shared.
+ * </p>
+ */
+public class CodeActionDispatchIndex {
+
+    /**
+     * Code action definitions of one requested code action kind.
+     */
+    public static class KindIndex {
+
+        private final List<JavaCodeActionDefinition> definitions;
+
+        private final List<JavaCodeActionDefinition> untargetedDefinitions;
+
+        private final Map<String, List<JavaCodeActionDefinition>> definitionsByTarget;
+
+        private volatile Map<String, JavaCodeActionDefinition> definitionsByParticipantId;
+
+        private KindIndex(List<JavaCodeActionDefinition> definitions) {
+            List<JavaCodeActionDefinition> untargeted = new ArrayList<>();
+            Map<String, List<JavaCodeActionDefinition>> byTarget = new HashMap<>();
+            for (JavaCodeActionDefinition definition : definitions) {
+                String targetDiagnostic = definition.getTargetDiagnostic();
+                if (targetDiagnostic != null) {
+                    byTarget.computeIfAbsent(targetDiagnostic, k -> new ArrayList<>()).add(definition);
+                } else {
+                    untargeted.add(definition);
+                }
+            }
+            byTarget.replaceAll((k, v) -> Collections.unmodifiableList(v));
+            this.definitions = Collections.unmodifiableList(new ArrayList<>(definitions));
+            this.untargetedDefinitions = Collections.unmodifiableList(untargeted);
+            this.definitionsByTarget = Collections.unmodifiableMap(byTarget);
+        }
+
+        /**
+         * Returns all the definitions of the kind in the order of the registry.
+         *
+         * @return all the definitions of the kind.
+         */
+        public List<JavaCodeActionDefinition> getDefinitions() {
+            return definitions;
+        }
+
+        /**
+         * Returns the definitions which don't target a diagnostic.
+         *
+         * @return the definitions which don't target a diagnostic.
+         */
+        public List<JavaCodeActionDefinition> getUntargetedDefinitions() {
+            return untargetedDefinitions;
+        }
+
+        /**
+         * Returns true if some definitions target a diagnostic and false
+         * otherwise.
+         *
+         * @return true if some definitions target a diagnostic.
+         */
+        public boolean hasTargetedDefinitions() {
+            return !definitionsByTarget.isEmpty();
+        }
+
+        /**
+         * Returns the definitions which target the given diagnostic key
+         * (<code>source#code</code> or <code>code</code>).
+         *
+         * @param target the diagnostic key.
+         * @return the definitions which target the given diagnostic key.
+         */
+        public List<JavaCodeActionDefinition> getDefinitionsFor(String target) {
+            List<JavaCodeActionDefinition> definitionsFor = definitionsByTarget.get(target);
+            return definitionsFor != null ? definitionsFor : Collections.emptyList();
+        }
+
+        /**
+         * Returns the first definition with the given participant id and null
+         * otherwise. The participants are created on first call.
+         *
+         * @param participantId the participant id.
+         * @return the first definition with the given participant id.
+         */
+        public JavaCodeActionDefinition getDefinition(String participantId) {
+            Map<String, JavaCodeActionDefinition> byParticipantId = definitionsByParticipantId;
+            if (byParticipantId == null) {
+                byParticipantId = new HashMap<>();
+                for (JavaCodeActionDefinition definition : definitions) {
+                    byParticipantId.putIfAbsent(definition.getParticipantId(), definition);
+                }
+                definitionsByParticipantId = byParticipantId = Collections.unmodifiableMap(byParticipantId);
+            }
+            return byParticipantId.get(participantId);
+        }
+    }
+
+    private final List<JavaCodeActionDefinition> definitions;
+
+    private final Map<String, KindIndex> kindIndexes;
+
+    public CodeActionDispatchIndex(List<JavaCodeActionDefinition> definitions) {
+        this.definitions = Collections.unmodifiableList(new ArrayList<>(definitions));
+        this.kindIndexes = new ConcurrentHashMap<>();
+        for (JavaCodeActionDefinition definition : this.definitions) {
+            getKindIndex(definition.getKind());
+        }
+    }
+
+    /**
+     * Returns the index of the definitions of the given requested code action
+     * kind.
+     *
+     * @param codeActionKind the requested code action kind.
+     * @return the index of the definitions of the given code action kind.
+     */
+    public KindIndex getKindIndex(String codeActionKind) {
+        return kindIndexes.computeIfAbsent(codeActionKind, this::createKindIndex);
+    }
+
+    private KindIndex createKindIndex(String codeActionKind) {
+        List<JavaCodeActionDefinition> kindDefinitions = new ArrayList<>();
+        for (JavaCodeActionDefinition definition : definitions) {
+            if (codeActionKind.startsWith(definition.getKind())) {
+                kindDefinitions.add(definition);
+            }
+        }
+        return new KindIndex(kindDefinitions);
+    }
+}
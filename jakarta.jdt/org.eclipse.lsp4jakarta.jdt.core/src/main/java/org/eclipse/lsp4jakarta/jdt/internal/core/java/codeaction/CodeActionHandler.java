@@ -17,15 +17,19 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.CompilationUnit;
-import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 import org.eclipse.lsp4j.CodeAction;
 import org.eclipse.lsp4j.CodeActionContext;
 import org.eclipse.lsp4j.CodeActionKind;
@@ -40,6 +44,7 @@ import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionContext;
 import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionResolveContext;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SharedASTProvider;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHelper;
 
 /**
@@ -53,6 +58,33 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHel
  */
 public class CodeActionHandler {
 
+    private static final Logger LOGGER = Logger.getLogger(CodeActionHandler.class.getName());
+
+    /** Upper bound of threads used to resolve code actions in parallel. */
+    private static final int MAX_RESOLVE_PARALLELISM = 4;
+
+    private static final FixAllCodeActionProvider FIX_ALL = new FixAllCodeActionProvider();
+
+    /** Pool which resolves the code actions in parallel, created on first use. */
+    private static ForkJoinPool resolvePool;
+
+    private static synchronized ForkJoinPool getResolvePool() {
+        if (resolvePool == null) {
+            resolvePool = new ForkJoinPool(Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_RESOLVE_PARALLELISM)));
+        }
+        return resolvePool;
+    }
+
+    /**
+     * Shuts down the pool which resolves the code actions in parallel.
+     */
+    public static synchronized void shutdown() {
+        if (resolvePool != null) {
+            resolvePool.shutdownNow();
+            resolvePool = null;
+        }
+    }
+
     /**
      * Returns all the code actions applicable for the context given by the
      * parameters.
@@ -68,17 +100,26 @@ public class CodeActionHandler {
      */
     public List<? extends CodeAction> codeAction(JakartaJavaCodeActionParams params, IJDTUtils utils,
                                                  IProgressMonitor monitor) {
+        // Reuse the code actions of the same request on the same version of the
+        // document
+        CodeActionCache cache = CodeActionCache.getInstance();
+        List<CodeAction> cachedCodeActions = cache.get(params, utils);
+        if (cachedCodeActions != null) {
+            return cachedCodeActions;
+        }
+
         // Get the compilation unit
         String uri = params.getUri();
         ICompilationUnit unit = utils.resolveCompilationUnit(uri);
         if (unit == null) {
             return Collections.emptyList();
         }
+        CodeActionCache.Key cacheKey = cache.createKey(params, unit);
 
         // Prepare the code action invocation context
         int start = DiagnosticsHelper.getStartOffset(unit, params.getRange(), utils);
         int end = DiagnosticsHelper.getEndOffset(unit, params.getRange(), utils);
-        JavaCodeActionContext context = new JavaCodeActionContext(unit, start, end - start, utils, params);
+        JavaCodeActionContext context = new JavaCodeActionContext(unit, start, end - start, utils.withLineStartTables(), params);
         context.setASTRoot(getASTRoot(unit, monitor));
 
         // Collect the available code action kinds
@@ -91,73 +132,118 @@ public class CodeActionHandler {
         }
 
         List<CodeAction> codeActions = new ArrayList<>();
-        Map<String, List<JavaCodeActionDefinition>> forDiagnostics = new HashMap<>();
+        CodeActionDispatchIndex dispatchIndex = JavaFeaturesRegistry.getInstance().getCodeActionDispatchIndex();
+        List<CodeActionDispatchIndex.KindIndex> kindIndexes = new ArrayList<>(codeActionKinds.size());
+        boolean hasTargetedDefinitions = false;
+        // Each definition is checked once per request, and only when it is used
+        Map<JavaCodeActionDefinition, Boolean> adapted = new IdentityHashMap<>();
 
         // Loop for each code action kinds to process the proper code actions
         for (String codeActionKind : codeActionKinds) {
-            // Get list of code action definition for the given kind
-            List<JavaCodeActionDefinition> codeActionDefinitions = JavaFeaturesRegistry.getInstance().getJavaCodeActionDefinitions(codeActionKind).stream().filter(definition -> definition.isAdaptedForCodeAction(context,
-                                                                                                                                                                                                                   monitor)).collect(Collectors.toList());
-            if (codeActionDefinitions != null) {
-                // Loop for each code action definition
-                for (JavaCodeActionDefinition definition : codeActionDefinitions) {
-                    String forDiagnostic = definition.getTargetDiagnostic();
-                    if (forDiagnostic != null) {
-                        // The code action definition is for a given diagnostic code (QuickFix), store
-                        // it
-                        List<JavaCodeActionDefinition> definitionsFor = forDiagnostics.get(forDiagnostic);
-                        if (definitionsFor == null) {
-                            definitionsFor = new ArrayList<>();
-                            forDiagnostics.put(forDiagnostic, definitionsFor);
-                        }
-                        definitionsFor.add(definition);
-                    } else {
-                        // Collect the code actions
-                        codeActions.addAll(definition.getCodeActions(context, null, monitor));
-                    }
+            CodeActionDispatchIndex.KindIndex kindIndex = dispatchIndex.getKindIndex(codeActionKind);
+            kindIndexes.add(kindIndex);
+            hasTargetedDefinitions |= kindIndex.hasTargetedDefinitions();
+            // Collect the code actions of the definitions which don't target a
+            // diagnostic
+            for (JavaCodeActionDefinition definition : kindIndex.getUntargetedDefinitions()) {
+                if (isAdapted(definition, adapted, context, monitor)) {
+                    codeActions.addAll(definition.getCodeActions(context, null, monitor));
                 }
             }
         }
 
-        if (!forDiagnostics.isEmpty()) {
+        List<Diagnostic> diagnostics = params.getContext().getDiagnostics();
+        if (hasTargetedDefinitions && diagnostics != null) {
             // It exists code action to fix diagnostics, loop for each diagnostics
-            params.getContext().getDiagnostics().forEach(diagnostic -> {
+            for (Diagnostic diagnostic : diagnostics) {
                 String code = getCode(diagnostic);
                 if (code != null) {
                     // Try to get code action definition registered with the "for" source#code
-                    String key = diagnostic.getSource() + "#" + code;
-                    List<JavaCodeActionDefinition> definitionsFor = forDiagnostics.get(key);
-                    if (definitionsFor == null) {
+                    List<JavaCodeActionDefinition> definitionsFor = getAdaptedDefinitions(kindIndexes, diagnostic.getSource() + "#" + code, adapted, context, monitor);
+                    if (definitionsFor.isEmpty()) {
                         // Try to get code action definition registered with the "for" code
-                        definitionsFor = forDiagnostics.get(code);
+                        definitionsFor = getAdaptedDefinitions(kindIndexes, code, adapted, context, monitor);
                     }
-                    if (definitionsFor != null) {
-                        for (JavaCodeActionDefinition definition : definitionsFor) {
-                            // Collect the code actions to fix the given diagnostic
-                            codeActions.addAll(definition.getCodeActions(context, diagnostic, monitor));
-                        }
+                    for (JavaCodeActionDefinition definition : definitionsFor) {
+                        // Collect the code actions to fix the given diagnostic
+                        codeActions.addAll(definition.getCodeActions(context, diagnostic, monitor));
                     }
                 }
-            });
+            }
+        }
+        if (FixAllCodeActionProvider.isRequested(codeActionKinds)) {
+            CodeAction fixAllCodeAction = FIX_ALL.getCodeAction(params, utils, monitor);
+            if (fixAllCodeAction != null) {
+                codeActions.add(fixAllCodeAction);
+            }
         }
         if (!params.isResolveSupported()) {
-            List<CodeAction> resolvedCodeActions = codeActions.stream().map(codeAction -> {
-                if (codeAction.getEdit() != null || codeAction.getCommand() != null) {
-                    // CodeAction is already resolved
-                    // (eg. command to update settings to ignore a property from validation)
-                    return codeAction;
-                }
-                return this.resolveCodeAction(codeAction, utils, monitor);
-            }).collect(Collectors.toList());
+            List<CodeAction> resolvedCodeActions = resolveCodeActions(codeActions, unit, context.getASTRoot(), utils, monitor);
 
             ExtendedCodeAction.sort(resolvedCodeActions);
+            putInCache(cacheKey, resolvedCodeActions, monitor);
             return resolvedCodeActions;
         }
         // sort code actions by relevant
         ExtendedCodeAction.sort(codeActions);
+        putInCache(cacheKey, codeActions, monitor);
         return codeActions;
     }
 
+    private static void putInCache(CodeActionCache.Key cacheKey, List<CodeAction> codeActions, IProgressMonitor monitor) {
+        if (cacheKey != null && !monitor.isCanceled() && !Thread.currentThread().isInterrupted()) {
+            CodeActionCache.getInstance().put(cacheKey, codeActions);
+        }
+    }
+
+    /**
+     * Returns the given code actions with the workspace edits resolved, in the
+     * same order. The unresolved code actions are resolved in parallel against
+     * the AST of the request: the proposals record their changes in their own
+     * ASTRewrite and ImportRewrite created from this AST, and don't modify it.
+     */
+    private List<CodeAction> resolveCodeActions(List<CodeAction> codeActions, ICompilationUnit unit, CompilationUnit astRoot,
+                                                IJDTUtils utils, IProgressMonitor monitor) {
+        IJDTUtils passUtils = utils.withLineStartTables();
+        List<CodeAction> resolvedCodeActions = new ArrayList<>(codeActions);
+        List<Integer> unresolvedIndexes = new ArrayList<>();
+        for (int i = 0; i < codeActions.size(); i++) {
+            CodeAction codeAction = codeActions.get(i);
+            // CodeAction with an edit or a command is already resolved
+            // (eg. command to update settings to ignore a property from validation)
+            if (codeAction.getEdit() == null && codeAction.getCommand() == null) {
+                unresolvedIndexes.add(i);
+            }
+        }
+        if (unresolvedIndexes.size() == 1) {
+            int index = unresolvedIndexes.get(0);
+            resolvedCodeActions.set(index, resolveCodeAction(codeActions.get(index), unit, astRoot, passUtils, monitor));
+            resolvedCodeActions.removeIf(Objects::isNull);
+            return resolvedCodeActions;
+        }
+        ForkJoinPool pool = getResolvePool();
+        List<ForkJoinTask<CodeAction>> tasks = new ArrayList<>(unresolvedIndexes.size());
+        for (int index : unresolvedIndexes) {
+            CodeAction unresolved = codeActions.get(index);
+            tasks.add(pool.submit(() -> monitor.isCanceled() ? null : resolveCodeAction(unresolved, unit, astRoot, passUtils, monitor)));
+        }
+        for (int i = 0; i < tasks.size(); i++) {
+            try {
+                resolvedCodeActions.set(unresolvedIndexes.get(i), tasks.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                tasks.forEach(t -> t.cancel(true));
+                break;
+            } catch (ExecutionException e) {
+                LOGGER.log(Level.SEVERE, "Error while resolving code action", e.getCause());
+                resolvedCodeActions.set(unresolvedIndexes.get(i), null);
+            }
+        }
+        // drop the code actions which cannot be resolved
+        resolvedCodeActions.removeIf(Objects::isNull);
+        return resolvedCodeActions;
+    }
+
     /**
      * Returns the given unresolved CodeAction with the workspace edit resolved.
      *
@@ -168,13 +254,23 @@ public class CodeActionHandler {
      */
     public CodeAction resolveCodeAction(CodeAction unresolved, IJDTUtils utils, IProgressMonitor monitor) {
         CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
-        String participantId = data.getParticipantId();
         String uri = data.getDocumentUri();
 
         ICompilationUnit unit = utils.resolveCompilationUnit(uri);
         if (unit == null) {
             return null;
         }
+        return resolveCodeAction(unresolved, unit, getASTRoot(unit, monitor), utils.withLineStartTables(), monitor);
+    }
+
+    private static CodeAction resolveCodeAction(CodeAction unresolved, ICompilationUnit unit, CompilationUnit astRoot, IJDTUtils utils,
+                                                IProgressMonitor monitor) {
+        if (FixAllCodeActionProvider.isFixAll(unresolved)) {
+            return FIX_ALL.resolveCodeAction(unresolved, unit, astRoot, utils, monitor);
+        }
+        CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
+        String participantId = data.getParticipantId();
+        String uri = data.getDocumentUri();
 
         int start = DiagnosticsHelper.getStartOffset(unit, data.getRange(), utils);
         int end = DiagnosticsHelper.getEndOffset(unit, data.getRange(), utils);
@@ -187,26 +283,56 @@ public class CodeActionHandler {
         params.setTextDocument(new VersionedTextDocumentIdentifier(uri, null));
 
         JavaCodeActionResolveContext context = new JavaCodeActionResolveContext(unit, start, end - start, utils, params, unresolved);
-        context.setASTRoot(getASTRoot(unit, monitor));
+        context.setASTRoot(astRoot);
 
-        IJavaCodeActionParticipant participant = JavaFeaturesRegistry.getInstance().getJavaCodeActionDefinitions(unresolved.getKind()).stream().filter(definition -> participantId.equals(definition.getParticipantId())).findFirst().orElse(null);
+        IJavaCodeActionParticipant participant = JavaFeaturesRegistry.getInstance().getCodeActionDispatchIndex().getKindIndex(unresolved.getKind()).getDefinition(participantId);
         return participant.resolveCodeAction(context);
     }
 
     private static CompilationUnit getASTRoot(ICompilationUnit unit, IProgressMonitor monitor) {
-        return CoreASTProvider.getInstance().getAST(unit, CoreASTProvider.WAIT_YES, monitor);
+        return SharedASTProvider.getInstance().getAST(unit, monitor);
     }
 
-    private static String getCode(Diagnostic diagnostic) {
-        Object code = null;
+    private static boolean isAdapted(JavaCodeActionDefinition definition, Map<JavaCodeActionDefinition, Boolean> adapted,
+                                     JavaCodeActionContext context, IProgressMonitor monitor) {
+        return adapted.computeIfAbsent(definition, d -> d.isAdaptedForCodeAction(context, monitor));
+    }
+
+    private static List<JavaCodeActionDefinition> getAdaptedDefinitions(List<CodeActionDispatchIndex.KindIndex> kindIndexes, String target,
+                                                                        Map<JavaCodeActionDefinition, Boolean> adapted,
+                                                                        JavaCodeActionContext context, IProgressMonitor monitor) {
+        List<JavaCodeActionDefinition> definitionsFor = Collections.emptyList();
+        for (CodeActionDispatchIndex.KindIndex kindIndex : kindIndexes) {
+            for (JavaCodeActionDefinition definition : kindIndex.getDefinitionsFor(target)) {
+                if (isAdapted(definition, adapted, context, monitor)) {
+                    if (definitionsFor.isEmpty()) {
+                        definitionsFor = new ArrayList<>();
+                    }
+                    definitionsFor.add(definition);
+                }
+            }
+        }
+        return definitionsFor;
+    }
+
+    static String getCode(Diagnostic diagnostic) {
+        try {
+            return getCodeString(diagnostic.getCode());
+        } catch (LinkageError e) {
+            // Diagnostic#getCode() has another signature in the running lsp4j
+            return getCodeString(getCodeField(diagnostic));
+        }
+    }
+
+    private static Object getCodeField(Diagnostic diagnostic) {
         try {
             Field f = diagnostic.getClass().getDeclaredField("code");
             f.setAccessible(true);
-            code = f.get(diagnostic);
+            return f.get(diagnostic);
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.log(Level.WARNING, "Unable to get the diagnostic code", e);
+            return null;
         }
-        return getCodeString(code);
     }
 
     private static String getCodeString(Object codeObject) {
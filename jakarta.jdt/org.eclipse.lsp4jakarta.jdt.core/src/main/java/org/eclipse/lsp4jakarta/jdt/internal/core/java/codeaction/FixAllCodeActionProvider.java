@@ -0,0 +1,423 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.codeaction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionId;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.ExtendedCodeAction;
+import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionContext;
+import org.eclipse.lsp4jakarta.jdt.core.java.codeaction.JavaCodeActionResolveContext;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.Messages;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.ChangeUtil;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.corrections.DiagnosticsHelper;
+import org.eclipse.ltk.core.refactoring.Change;
+import org.eclipse.ltk.core.refactoring.CompositeChange;
+import org.eclipse.ltk.core.refactoring.TextChange;
+import org.eclipse.text.edits.DeleteEdit;
+import org.eclipse.text.edits.InsertEdit;
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Provides the {@link JakartaCodeActionKind#SOURCE_FIX_ALL} code action, which
+ * applies the most relevant quick fix of each Jakarta problem of a Java file
+ * with one edit.
+ *
+ * <p>
+ * The quick fixes are collected and resolved in one pass on the shared AST of
+ * the compilation unit. The text edits of their changes are merged in one
+ * {@link MultiTextEdit}, which is converted once to a WorkspaceEdit. Identical
+ * edits, like the insertion of the same import, are merged, and a quick fix
+ * whose edits overlap or touch the edits of a previous quick fix is skipped.
+ * </p>
+ */
+class FixAllCodeActionProvider {
+
+    private static final Logger LOGGER = Logger.getLogger(FixAllCodeActionProvider.class.getName());
+
+    private static final String PARTICIPANT_ID = FixAllCodeActionProvider.class.getName();
+
+    /** Extended data keys of the client diagnostics settings, kept for the resolve. */
+    private static final String PATTERNS_KEY = "patterns";
+
+    private static final String PARALLEL_PARTICIPANTS_KEY = "parallelParticipants";
+
+    private static final String DOCUMENT_FORMAT_KEY = "documentFormat";
+
+    /**
+     * Returns true if the fix all code action is requested by the given code
+     * action kinds and false otherwise.
+     *
+     * @param codeActionKinds the requested code action kinds.
+     * @return true if the fix all code action is requested.
+     */
+    static boolean isRequested(List<String> codeActionKinds) {
+        for (String codeActionKind : codeActionKinds) {
+            if (codeActionKind.equals(JakartaCodeActionKind.SOURCE_FIX_ALL)
+                || JakartaCodeActionKind.SOURCE_FIX_ALL.startsWith(codeActionKind + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the given code action is a fix all code action and false
+     * otherwise.
+     *
+     * @param codeAction the code action.
+     * @return true if the given code action is a fix all code action.
+     */
+    static boolean isFixAll(CodeAction codeAction) {
+        return JakartaCodeActionKind.SOURCE_FIX_ALL.equals(codeAction.getKind());
+    }
+
+    /**
+     * Returns the unresolved fix all code action of the given document and null
+     * if no problem of the document has a quick fix.
+     *
+     * @param params the code action parameters.
+     * @param utils the JDT utilities.
+     * @param monitor the progress monitor.
+     * @return the unresolved fix all code action and null otherwise.
+     */
+    CodeAction getCodeAction(JakartaJavaCodeActionParams params, IJDTUtils utils, IProgressMonitor monitor) {
+        String uri = params.getUri();
+        CodeActionDispatchIndex.KindIndex quickFixes = getQuickFixes();
+        JakartaJavaDiagnosticsSettings settings = params.getDiagnosticsSettings();
+        DocumentFormat documentFormat = params.getDocumentFormat();
+        boolean fixable = false;
+        for (Diagnostic diagnostic : getDiagnostics(uri, settings, documentFormat, utils, monitor)) {
+            if (!getTargetedDefinitions(quickFixes, diagnostic).isEmpty()) {
+                fixable = true;
+                break;
+            }
+        }
+        if (!fixable) {
+            return null;
+        }
+        ExtendedCodeAction codeAction = new ExtendedCodeAction(Messages.getMessage("FixAllJakartaProblems"));
+        codeAction.setKind(JakartaCodeActionKind.SOURCE_FIX_ALL);
+        Map<String, Object> extendedData = new HashMap<>();
+        if (settings != null) {
+            extendedData.put(PATTERNS_KEY, settings.getPatterns());
+            extendedData.put(PARALLEL_PARTICIPANTS_KEY, settings.isParallelParticipants());
+        }
+        if (documentFormat != null) {
+            extendedData.put(DOCUMENT_FORMAT_KEY, documentFormat.name());
+        }
+        codeAction.setData(new CodeActionResolveData(uri, PARTICIPANT_ID, params.getRange(), extendedData, params.isResourceOperationSupported(),
+                                                     params.isCommandConfigurationUpdateSupported(), JakartaCodeActionId.FixAllJakartaProblems));
+        return codeAction;
+    }
+
+    /**
+     * Returns the given fix all code action with the workspace edit which applies
+     * the quick fixes of all the problems of the document.
+     *
+     * @param unresolved the unresolved fix all code action.
+     * @param unit the compilation unit.
+     * @param astRoot the shared AST of the compilation unit.
+     * @param utils the JDT utilities.
+     * @param monitor the progress monitor.
+     * @return the given fix all code action with the workspace edit resolved.
+     */
+    CodeAction resolveCodeAction(CodeAction unresolved, ICompilationUnit unit, CompilationUnit astRoot, IJDTUtils utils,
+                                 IProgressMonitor monitor) {
+        CodeActionResolveData data = (CodeActionResolveData) unresolved.getData();
+        String uri = data.getDocumentUri();
+        MultiTextEdit fixAllEdit = new MultiTextEdit();
+        List<Diagnostic> diagnostics = getDiagnostics(uri, getDiagnosticsSettings(data), getDocumentFormat(data), utils, monitor);
+        List<Diagnostic> fixedDiagnostics = fix(diagnostics, fixAllEdit, data, unit, astRoot, utils, monitor);
+        if (monitor.isCanceled()) {
+            return null;
+        }
+        unresolved.setDiagnostics(fixedDiagnostics);
+        unresolved.setEdit(ChangeUtil.convertToWorkspaceEdit(unit, fixAllEdit, uri, utils, data.isResourceOperationSupported()));
+        return unresolved;
+    }
+
+    /**
+     * Merges the text edits of the most relevant quick fix of each given
+     * diagnostic in the given edit, and returns the fixed diagnostics.
+     *
+     * @param diagnostics the diagnostics of the compilation unit to fix.
+     * @param fixAllEdit the edit which receives the text edits of the quick fixes.
+     * @param data the document uri and the client capabilities.
+     * @param unit the compilation unit.
+     * @param astRoot the shared AST of the compilation unit.
+     * @param utils the JDT utilities.
+     * @param monitor the progress monitor.
+     * @return the fixed diagnostics.
+     */
+    static List<Diagnostic> fix(List<Diagnostic> diagnostics, MultiTextEdit fixAllEdit, CodeActionResolveData data, ICompilationUnit unit,
+                                CompilationUnit astRoot, IJDTUtils utils, IProgressMonitor monitor) {
+        CodeActionDispatchIndex.KindIndex quickFixes = getQuickFixes();
+        List<Diagnostic> fixedDiagnostics = new ArrayList<>();
+        for (Diagnostic diagnostic : diagnostics) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            List<JavaCodeActionDefinition> definitions = getTargetedDefinitions(quickFixes, diagnostic);
+            if (definitions.isEmpty()) {
+                continue;
+            }
+            List<Change> changes = collectChanges(diagnostic, definitions, quickFixes, data, unit, astRoot, utils, monitor);
+            if (!changes.isEmpty() && addEdits(fixAllEdit, unit, changes)) {
+                fixedDiagnostics.add(diagnostic);
+            }
+        }
+        return fixedDiagnostics;
+    }
+
+    /**
+     * Returns the changes of the most relevant quick fix of the given diagnostic.
+     */
+    private static List<Change> collectChanges(Diagnostic diagnostic, List<JavaCodeActionDefinition> definitions,
+                                               CodeActionDispatchIndex.KindIndex quickFixes, CodeActionResolveData data,
+                                               ICompilationUnit unit, CompilationUnit astRoot, IJDTUtils utils, IProgressMonitor monitor) {
+        Range range = diagnostic.getRange();
+        int start = DiagnosticsHelper.getStartOffset(unit, range, utils);
+        int end = DiagnosticsHelper.getEndOffset(unit, range, utils);
+        JakartaJavaCodeActionParams params = new JakartaJavaCodeActionParams(new TextDocumentIdentifier(data.getDocumentUri()), range,
+                                                                             new CodeActionContext(Collections.singletonList(diagnostic)));
+        params.setResourceOperationSupported(data.isResourceOperationSupported());
+        params.setCommandConfigurationUpdateSupported(data.isCommandConfigurationUpdateSupported());
+        params.setResolveSupported(true);
+
+        JavaCodeActionContext context = new JavaCodeActionContext(unit, start, end - start, utils, params);
+        context.setASTRoot(astRoot);
+        List<CodeAction> codeActions = new ArrayList<>();
+        Map<JavaCodeActionDefinition, Boolean> adapted = new IdentityHashMap<>();
+        for (JavaCodeActionDefinition definition : definitions) {
+            if (adapted.computeIfAbsent(definition, d -> d.isAdaptedForCodeAction(context, monitor))) {
+                codeActions.addAll(definition.getCodeActions(context, diagnostic, monitor));
+            }
+        }
+        ExtendedCodeAction.sort(codeActions);
+        for (CodeAction codeAction : codeActions) {
+            // only the quick fixes resolved with a proposal can be merged
+            if (codeAction.getEdit() != null || codeAction.getCommand() != null || !(codeAction.getData() instanceof CodeActionResolveData)) {
+                continue;
+            }
+            JavaCodeActionDefinition definition = quickFixes.getDefinition(((CodeActionResolveData) codeAction.getData()).getParticipantId());
+            if (definition == null) {
+                continue;
+            }
+            List<Change> changes = new ArrayList<>();
+            JavaCodeActionResolveContext resolveContext = new JavaCodeActionResolveContext(unit, start, end - start, utils, params, codeAction);
+            resolveContext.setASTRoot(astRoot);
+            resolveContext.setChangeCollector(changes);
+            definition.resolveCodeAction(resolveContext);
+            if (!changes.isEmpty()) {
+                return changes;
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Adds the text edits of the given changes to the given edit, and returns true
+     * if they were added and false if they cannot be merged.
+     */
+    private static boolean addEdits(MultiTextEdit fixAllEdit, ICompilationUnit unit, List<Change> changes) {
+        List<TextEdit> leaves = new ArrayList<>();
+        for (Change change : changes) {
+            if (!collectLeaves(change, unit, leaves)) {
+                return false;
+            }
+        }
+        List<TextEdit> newLeaves = new ArrayList<>(leaves.size());
+        for (TextEdit leaf : leaves) {
+            boolean duplicate = false;
+            for (TextEdit existing : fixAllEdit.getChildren()) {
+                if (isSameEdit(existing, leaf)) {
+                    duplicate = true;
+                    break;
+                }
+                if (isConflict(existing, leaf)) {
+                    // the quick fix conflicts with a previous quick fix, it is left for
+                    // the next run
+                    return false;
+                }
+            }
+            if (!duplicate) {
+                newLeaves.add(leaf);
+            }
+        }
+        List<TextEdit> added = new ArrayList<>(newLeaves.size());
+        try {
+            for (TextEdit leaf : newLeaves) {
+                TextEdit copy = leaf.copy();
+                fixAllEdit.addChild(copy);
+                added.add(copy);
+            }
+            return true;
+        } catch (MalformedTreeException e) {
+            LOGGER.log(Level.WARNING, "Unable to merge the edits of a quick fix", e);
+            added.forEach(fixAllEdit::removeChild);
+            return false;
+        }
+    }
+
+    private static boolean collectLeaves(Change change, ICompilationUnit unit, List<TextEdit> leaves) {
+        if (change instanceof CompositeChange) {
+            for (Change child : ((CompositeChange) change).getChildren()) {
+                if (!collectLeaves(child, unit, leaves)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (!(change instanceof TextChange)) {
+            return false;
+        }
+        Object modifiedElement = ((TextChange) change).getModifiedElement();
+        if (!(modifiedElement instanceof IJavaElement) || !unit.equals(((IJavaElement) modifiedElement).getAncestor(IJavaElement.COMPILATION_UNIT))) {
+            // the quick fix modifies another document
+            return false;
+        }
+        TextEdit edit = ((TextChange) change).getEdit();
+        return edit == null || collectLeaves(edit, leaves);
+    }
+
+    private static boolean collectLeaves(TextEdit edit, List<TextEdit> leaves) {
+        if (edit instanceof MultiTextEdit) {
+            for (TextEdit child : edit.getChildren()) {
+                if (!collectLeaves(child, leaves)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (edit instanceof InsertEdit || edit instanceof DeleteEdit || edit instanceof ReplaceEdit) {
+            if (edit.hasChildren()) {
+                return false;
+            }
+            leaves.add(edit);
+            return true;
+        }
+        // copy and move edits are not merged
+        return false;
+    }
+
+    /**
+     * Returns true if the given edits overlap or touch. Two insertions at the
+     * same offset, or an insertion at the boundary of a replaced range, would be
+     * applied in an arbitrary order.
+     */
+    private static boolean isConflict(TextEdit edit1, TextEdit edit2) {
+        return edit1.getOffset() <= edit2.getExclusiveEnd() && edit2.getOffset() <= edit1.getExclusiveEnd();
+    }
+
+    private static boolean isSameEdit(TextEdit edit1, TextEdit edit2) {
+        return edit1.getClass() == edit2.getClass() && edit1.getOffset() == edit2.getOffset() && edit1.getLength() == edit2.getLength()
+               && getText(edit1).equals(getText(edit2));
+    }
+
+    private static String getText(TextEdit edit) {
+        if (edit instanceof InsertEdit) {
+            return ((InsertEdit) edit).getText();
+        }
+        if (edit instanceof ReplaceEdit) {
+            return ((ReplaceEdit) edit).getText();
+        }
+        return "";
+    }
+
+    private static CodeActionDispatchIndex.KindIndex getQuickFixes() {
+        return JavaFeaturesRegistry.getInstance().getCodeActionDispatchIndex().getKindIndex(CodeActionKind.QuickFix);
+    }
+
+    /**
+     * Returns the quick fix definitions which target the given diagnostic, by
+     * source#code first and then by code.
+     */
+    private static List<JavaCodeActionDefinition> getTargetedDefinitions(CodeActionDispatchIndex.KindIndex quickFixes, Diagnostic diagnostic) {
+        String code = CodeActionHandler.getCode(diagnostic);
+        if (code == null) {
+            return Collections.emptyList();
+        }
+        List<JavaCodeActionDefinition> definitions = quickFixes.getDefinitionsFor(diagnostic.getSource() + "#" + code);
+        return !definitions.isEmpty() ? definitions : quickFixes.getDefinitionsFor(code);
+    }
+
+    /**
+     * Returns the client diagnostics settings kept in the given resolve data and
+     * null if there are none.
+     */
+    @SuppressWarnings("unchecked")
+    private static JakartaJavaDiagnosticsSettings getDiagnosticsSettings(CodeActionResolveData data) {
+        if (data.getExtendedDataEntry(PARALLEL_PARTICIPANTS_KEY) == null) {
+            return null;
+        }
+        JakartaJavaDiagnosticsSettings settings = new JakartaJavaDiagnosticsSettings((List<String>) data.getExtendedDataEntry(PATTERNS_KEY));
+        settings.setParallelParticipants(Boolean.TRUE.equals(data.getExtendedDataEntry(PARALLEL_PARTICIPANTS_KEY)));
+        return settings;
+    }
+
+    /**
+     * Returns the client document format kept in the given resolve data and null
+     * if there is none.
+     */
+    private static DocumentFormat getDocumentFormat(CodeActionResolveData data) {
+        Object documentFormat = data.getExtendedDataEntry(DOCUMENT_FORMAT_KEY);
+        return documentFormat != null ? DocumentFormat.valueOf(documentFormat.toString()) : null;
+    }
+
+    private static List<Diagnostic> getDiagnostics(String uri, JakartaJavaDiagnosticsSettings settings, DocumentFormat documentFormat,
+                                                   IJDTUtils utils, IProgressMonitor monitor) {
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams(Collections.singletonList(uri), settings);
+        if (documentFormat != null) {
+            diagnosticsParams.setDocumentFormat(documentFormat);
+        }
+        try {
+            List<PublishDiagnosticsParams> publishDiagnostics = PropertiesManagerForJava.getInstance().diagnostics(diagnosticsParams, utils, monitor);
+            return publishDiagnostics.isEmpty() ? Collections.emptyList() : publishDiagnostics.get(0).getDiagnostics();
+        } catch (CoreException e) {
+            LOGGER.log(Level.WARNING, "Unable to collect the diagnostics of '" + uri + "'", e);
+            return Collections.emptyList();
+        }
+    }
+}
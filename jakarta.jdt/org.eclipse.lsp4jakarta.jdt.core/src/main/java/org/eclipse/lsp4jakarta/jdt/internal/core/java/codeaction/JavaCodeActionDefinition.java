@@ -72,6 +72,7 @@ public class JavaCodeActionDefinition extends AbstractJavaFeatureDefinition<IJav
         try {
             return getParticipant().isAdaptedForCodeAction(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCodeAction", e);
             return false;
         }
@@ -80,22 +81,30 @@ public class JavaCodeActionDefinition extends AbstractJavaFeatureDefinition<IJav
     @Override
     public List<? extends CodeAction> getCodeActions(JavaCodeActionContext context, Diagnostic diagnostic,
                                                      IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             List<? extends CodeAction> codeActions = getParticipant().getCodeActions(context, diagnostic, monitor);
             return codeActions != null ? codeActions : Collections.emptyList();
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling getCodeActions", e);
             return Collections.emptyList();
+        } finally {
+            getMetrics().record(start, "getCodeActions", context.getUri());
         }
     }
 
     @Override
     public CodeAction resolveCodeAction(JavaCodeActionResolveContext context) {
+        long start = System.nanoTime();
         try {
             return getParticipant().resolveCodeAction(context);
         } catch (CoreException e) {
+            getMetrics().recordError();
             LOGGER.log(Level.WARNING, "Unable to get CodeAction participant", e);
             return context.getUnresolved();
+        } finally {
+            getMetrics().record(start, "resolveCodeAction", context.getUri());
         }
     }
 
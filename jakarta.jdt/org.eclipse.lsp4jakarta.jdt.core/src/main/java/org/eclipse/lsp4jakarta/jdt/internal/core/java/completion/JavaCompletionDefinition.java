@@ -48,6 +48,7 @@ public class JavaCompletionDefinition extends AbstractJavaFeatureDefinition<IJav
         try {
             return getParticipant().isAdaptedForCompletion(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForCompletion", e);
             return false;
         }
@@ -56,12 +57,16 @@ public class JavaCompletionDefinition extends AbstractJavaFeatureDefinition<IJav
     @Override
     public List<? extends CompletionItem> collectCompletionItems(JavaCompletionContext context,
                                                                  IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             List<? extends CompletionItem> completionItems = getParticipant().collectCompletionItems(context, monitor);
             return completionItems != null ? completionItems : Collections.emptyList();
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling collectCompletionItems", e);
             return Collections.emptyList();
+        } finally {
+            getMetrics().record(start, "collectCompletionItems", context.getUri());
         }
     }
 }
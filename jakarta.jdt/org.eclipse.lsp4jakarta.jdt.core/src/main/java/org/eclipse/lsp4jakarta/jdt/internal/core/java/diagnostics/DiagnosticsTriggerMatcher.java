@@ -0,0 +1,180 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Immutable Aho-Corasick automaton over the trigger tokens of the diagnostics
+ * definitions.
+ *
+ * <p>
+ * The source of a Java file is scanned once to find the definitions which
+ * declare at least one token found in the source. Definitions which don't
+ * declare any trigger token are always selected.
+ * </p>
+ *
+ * <p>
+ * The automaton works on ASCII characters; all the other characters share one
+ * character class, which can only select more definitions, never less.
+ * </p>
+ */
+public class DiagnosticsTriggerMatcher {
+
+    /** Number of character classes: ASCII characters and one class for the others. */
+    private static final int ALPHABET_SIZE = 129;
+
+    private static final int ROOT = 0;
+
+    /** Transition table, indexed by <code>state * ALPHABET_SIZE + class</code>. */
+    private final int[] transitions;
+
+    /** Indexes of the definitions matched when reaching a state, null if none. */
+    private final BitSet[] outputs;
+
+    /** Indexes of the definitions which are always selected. */
+    private final BitSet untriggered;
+
+    /** Indexes of the definitions which declare trigger tokens. */
+    private final BitSet triggered;
+
+    /**
+     * Builds the automaton for the trigger tokens of the given definitions.
+     *
+     * @param definitions the diagnostics definitions, in the order of the
+     *            registry.
+     */
+    public DiagnosticsTriggerMatcher(List<JavaDiagnosticsDefinition> definitions) {
+        this.untriggered = new BitSet();
+        this.triggered = new BitSet();
+
+        // Build the trie of the tokens
+        List<int[]> trie = new ArrayList<>();
+        List<BitSet> trieOutputs = new ArrayList<>();
+        trie.add(newNode());
+        trieOutputs.add(null);
+        for (int i = 0; i < definitions.size(); i++) {
+            String[] triggers = definitions.get(i).getTriggers();
+            if (triggers.length == 0) {
+                untriggered.set(i);
+                continue;
+            }
+            triggered.set(i);
+            for (String trigger : triggers) {
+                int state = ROOT;
+                for (int j = 0; j < trigger.length(); j++) {
+                    int c = toClass(trigger.charAt(j));
+                    int next = trie.get(state)[c];
+                    if (next == -1) {
+                        next = trie.size();
+                        trie.add(newNode());
+                        trieOutputs.add(null);
+                        trie.get(state)[c] = next;
+                    }
+                    state = next;
+                }
+                BitSet output = trieOutputs.get(state);
+                if (output == null) {
+                    output = new BitSet();
+                    trieOutputs.set(state, output);
+                }
+                output.set(i);
+            }
+        }
+
+        // Compute the failure links in breadth-first order and complete the
+        // transitions to get a deterministic automaton
+        int size = trie.size();
+        this.transitions = new int[size * ALPHABET_SIZE];
+        this.outputs = trieOutputs.toArray(new BitSet[size]);
+        int[] failures = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        int[] root = trie.get(ROOT);
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            int next = root[c];
+            if (next == -1) {
+                transitions[c] = ROOT;
+            } else {
+                transitions[c] = next;
+                failures[next] = ROOT;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int failure = failures[state];
+            if (outputs[failure] != null) {
+                if (outputs[state] == null) {
+                    outputs[state] = new BitSet();
+                }
+                outputs[state].or(outputs[failure]);
+            }
+            int[] node = trie.get(state);
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                int next = node[c];
+                if (next == -1) {
+                    transitions[state * ALPHABET_SIZE + c] = transitions[failure * ALPHABET_SIZE + c];
+                } else {
+                    transitions[state * ALPHABET_SIZE + c] = next;
+                    failures[next] = transitions[failure * ALPHABET_SIZE + c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the definitions selected for the given source: the
+     * definitions without trigger tokens and the definitions with at least one
+     * token found in the source.
+     *
+     * @param source the source of the Java file.
+     * @return the indexes of the selected definitions.
+     */
+    public BitSet match(CharSequence source) {
+        BitSet selected = (BitSet) untriggered.clone();
+        if (triggered.isEmpty()) {
+            return selected;
+        }
+        BitSet remaining = (BitSet) triggered.clone();
+        int state = ROOT;
+        for (int i = 0; i < source.length(); i++) {
+            state = transitions[state * ALPHABET_SIZE + toClass(source.charAt(i))];
+            BitSet output = outputs[state];
+            if (output != null && output.intersects(remaining)) {
+                selected.or(output);
+                remaining.andNot(output);
+                if (remaining.isEmpty()) {
+                    // All the definitions are selected
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static int[] newNode() {
+        int[] node = new int[ALPHABET_SIZE];
+        Arrays.fill(node, -1);
+        return node;
+    }
+
+    private static int toClass(char c) {
+        return c < 128 ? c : 128;
+    }
+}
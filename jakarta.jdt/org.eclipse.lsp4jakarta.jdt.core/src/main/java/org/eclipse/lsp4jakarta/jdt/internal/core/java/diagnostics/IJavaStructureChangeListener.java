@@ -0,0 +1,53 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+
+/**
+ * Listener of the changes found by the walk of the Java element deltas done
+ * by {@link JavaDiagnosticsCache}, so that the caches derived from the Java
+ * model don't walk the same deltas.
+ *
+ * <p>
+ * The listeners are notified before the stamps of {@link JavaDiagnosticsCache}
+ * are incremented.
+ * </p>
+ */
+public interface IJavaStructureChangeListener {
+
+    /**
+     * The given project was added, removed, opened or closed, or its classpath
+     * changed.
+     *
+     * @param project the Java project.
+     */
+    void classpathChanged(IJavaProject project);
+
+    /**
+     * A package of the given project was added or removed.
+     *
+     * @param project the Java project.
+     */
+    void packageChanged(IJavaProject project);
+
+    /**
+     * The structure of the given compilation unit changed (see
+     * {@link JavaDiagnosticsCache#isStructuralChange}).
+     *
+     * @param unit the compilation unit.
+     * @param removed true if the compilation unit was removed.
+     */
+    void compilationUnitChanged(ICompilationUnit unit, boolean removed);
+}
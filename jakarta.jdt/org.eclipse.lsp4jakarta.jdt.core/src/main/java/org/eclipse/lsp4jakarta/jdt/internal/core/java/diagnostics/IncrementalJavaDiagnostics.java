@@ -0,0 +1,368 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IInitializer;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.ISourceRange;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.SourceRange;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.utils.LineStartTable;
+
+/**
+ * Diagnostics of the previous validation pass of Java files, kept per
+ * diagnostics participant, to reuse them when only the bodies of methods and
+ * initializers changed.
+ *
+ * <p>
+ * The diagnostics of a participant are reused only if the participant is
+ * declared as reading the declarations only (see
+ * {@link JavaDiagnosticsDefinition#isDeclarationsOnly()}), the source outside
+ * the bodies is the same, the settings and the project stamps of
+ * {@link JavaDiagnosticsCache} didn't change, and no diagnostic is located
+ * inside a body. The ranges of the reused diagnostics are moved according to
+ * the length changes of the bodies which precede them.
+ * </p>
+ */
+public class IncrementalJavaDiagnostics {
+
+    private static final Logger LOGGER = Logger.getLogger(IncrementalJavaDiagnostics.class.getName());
+
+    private static final IncrementalJavaDiagnostics INSTANCE = new IncrementalJavaDiagnostics();
+
+    /** Maximum number of files kept. */
+    private static final int MAX_ENTRIES = 64;
+
+    public static IncrementalJavaDiagnostics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Outline of a compilation unit: its source, the ranges of the bodies of its
+     * methods and initializers and a hash of the source outside the bodies.
+     */
+    public static class Outline {
+
+        private final String uri;
+
+        private final JavaDiagnosticsCache.Key key;
+
+        private final LineStartTable lineStartTable;
+
+        /** Offsets of the '{' of the bodies, in ascending order. */
+        private final int[] bodyStarts;
+
+        /** Offsets of the '}' of the bodies. */
+        private final int[] bodyEnds;
+
+        private final long skeletonHash;
+
+        private final int skeletonLength;
+
+        private Outline(String uri, JavaDiagnosticsCache.Key key, char[] source, int[] bodyStarts, int[] bodyEnds) {
+            this.uri = uri;
+            this.key = key;
+            this.lineStartTable = LineStartTable.create(CharBuffer.wrap(source));
+            this.bodyStarts = bodyStarts;
+            this.bodyEnds = bodyEnds;
+            // Hash of the source without the content of the bodies
+            StringBuilder skeleton = new StringBuilder(source.length);
+            int start = 0;
+            for (int body = 0; body < bodyStarts.length; body++) {
+                skeleton.append(source, start, bodyStarts[body] + 1 - start);
+                start = bodyEnds[body];
+            }
+            skeleton.append(source, start, source.length - start);
+            this.skeletonHash = JavaDiagnosticsCache.hash(skeleton);
+            this.skeletonLength = skeleton.length();
+        }
+
+        private boolean hasSameSkeleton(Outline other) {
+            return skeletonHash == other.skeletonHash && skeletonLength == other.skeletonLength
+                   && bodyStarts.length == other.bodyStarts.length;
+        }
+
+        /**
+         * Returns the offset in the target outline of the given offset of this
+         * outline, and -1 if the offset is inside a body.
+         */
+        private int moveOffset(int offset, Outline target) {
+            int shift = 0;
+            for (int i = 0; i < bodyStarts.length; i++) {
+                if (offset <= bodyStarts[i] + 1) {
+                    break;
+                }
+                if (offset < bodyEnds[i]) {
+                    return -1;
+                }
+                shift += (target.bodyEnds[i] - target.bodyStarts[i]) - (bodyEnds[i] - bodyStarts[i]);
+            }
+            return offset + shift;
+        }
+
+        private Position movePosition(Position position, Outline target) {
+            int lineStart = lineStartTable.getLineStart(position.getLine());
+            if (lineStart < 0) {
+                return null;
+            }
+            int offset = moveOffset(lineStart + position.getCharacter(), target);
+            if (offset < 0) {
+                return null;
+            }
+            return target.lineStartTable.toPosition(offset);
+        }
+
+        /**
+         * Returns a copy of the given diagnostic of this outline moved to the
+         * target outline and null if the diagnostic cannot be moved.
+         */
+        private Diagnostic moveDiagnostic(Diagnostic diagnostic, Outline target) {
+            if (diagnostic.getRange() == null
+                || (diagnostic.getRelatedInformation() != null && !diagnostic.getRelatedInformation().isEmpty())) {
+                return null;
+            }
+            Position start = movePosition(diagnostic.getRange().getStart(), target);
+            Position end = movePosition(diagnostic.getRange().getEnd(), target);
+            if (start == null || end == null) {
+                return null;
+            }
+            Diagnostic moved = new Diagnostic(new Range(start, end), diagnostic.getMessage());
+            moved.setSeverity(diagnostic.getSeverity());
+            moved.setCode(diagnostic.getCode());
+            moved.setCodeDescription(diagnostic.getCodeDescription());
+            moved.setSource(diagnostic.getSource());
+            moved.setTags(diagnostic.getTags());
+            moved.setData(diagnostic.getData());
+            return moved;
+        }
+    }
+
+    private static class Entry {
+
+        private final Outline outline;
+
+        private final Map<JavaDiagnosticsDefinition, List<Diagnostic>> diagnostics;
+
+        private Entry(Outline outline, Map<JavaDiagnosticsDefinition, List<Diagnostic>> diagnostics) {
+            this.outline = outline;
+            this.diagnostics = diagnostics;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    private IncrementalJavaDiagnostics() {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the outline of the given compilation unit in its current state and
+     * null if the unit cannot be outlined.
+     *
+     * @param uri the Java file URI.
+     * @param unit the compilation unit.
+     * @param key the diagnostics cache key of the compilation unit, created
+     *            before the diagnostics are collected.
+     * @return the outline of the given compilation unit and null otherwise.
+     */
+    public Outline createOutline(String uri, ICompilationUnit unit, JavaDiagnosticsCache.Key key) {
+        try {
+            if (!unit.isConsistent()) {
+                return null;
+            }
+            IBuffer buffer = unit.getBuffer();
+            char[] source = buffer != null ? buffer.getCharacters() : null;
+            if (source == null) {
+                return null;
+            }
+            IScanner scanner = ToolFactory.createScanner(false, false, false,
+                                                         unit.getJavaProject().getOption(JavaCore.COMPILER_SOURCE, true),
+                                                         unit.getJavaProject().getOption(JavaCore.COMPILER_COMPLIANCE, true));
+            scanner.setSource(source);
+            List<ISourceRange> bodies = new ArrayList<>();
+            for (IType type : unit.getAllTypes()) {
+                for (IMethod method : type.getMethods()) {
+                    ISourceRange sourceRange = method.getSourceRange();
+                    ISourceRange nameRange = method.getNameRange();
+                    if (!SourceRange.isAvailable(sourceRange) || !SourceRange.isAvailable(nameRange)) {
+                        return null;
+                    }
+                    addBody(scanner, source, nameRange.getOffset() + nameRange.getLength(), sourceRange, bodies);
+                }
+                for (IInitializer initializer : type.getInitializers()) {
+                    ISourceRange sourceRange = initializer.getSourceRange();
+                    if (!SourceRange.isAvailable(sourceRange)) {
+                        return null;
+                    }
+                    addBody(scanner, source, sourceRange.getOffset(), sourceRange, bodies);
+                }
+            }
+            bodies.sort((b1, b2) -> Integer.compare(b1.getOffset(), b2.getOffset()));
+            int[] bodyStarts = new int[bodies.size()];
+            int[] bodyEnds = new int[bodies.size()];
+            for (int i = 0; i < bodies.size(); i++) {
+                ISourceRange body = bodies.get(i);
+                bodyStarts[i] = body.getOffset();
+                bodyEnds[i] = body.getOffset() + body.getLength() - 1;
+                if (i > 0 && bodyStarts[i] <= bodyEnds[i - 1]) {
+                    // Overlapping bodies are not expected
+                    return null;
+                }
+            }
+            return new Outline(uri, key, source, bodyStarts, bodyEnds);
+        } catch (JavaModelException | InvalidInputException e) {
+            LOGGER.log(Level.FINE, "Unable to outline '" + uri + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Adds the range of the body of the method or initializer with the given
+     * source range, from its '{' to its '}', if it has a body.
+     *
+     * @param start the offset to start scanning for the body (after the method
+     *            name).
+     */
+    private static void addBody(IScanner scanner, char[] source, int start, ISourceRange sourceRange,
+                                List<ISourceRange> bodies) throws InvalidInputException {
+        int end = sourceRange.getOffset() + sourceRange.getLength() - 1;
+        if (end >= source.length) {
+            throw new InvalidInputException("Source range out of the source");
+        }
+        scanner.resetTo(start, end);
+        int parenthesesDepth = 0;
+        int token;
+        while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
+            switch (token) {
+                case ITerminalSymbols.TokenNameLPAREN:
+                    parenthesesDepth++;
+                    break;
+                case ITerminalSymbols.TokenNameRPAREN:
+                    parenthesesDepth--;
+                    break;
+                case ITerminalSymbols.TokenNameSEMICOLON:
+                case ITerminalSymbols.TokenNamedefault:
+                    if (parenthesesDepth == 0) {
+                        // Abstract method or annotation type member
+                        return;
+                    }
+                    break;
+                case ITerminalSymbols.TokenNameLBRACE:
+                    if (parenthesesDepth == 0) {
+                        int bodyStart = scanner.getCurrentTokenStartPosition();
+                        if (source[end] != '}') {
+                            throw new InvalidInputException("Body without closing brace");
+                        }
+                        bodies.add(new SourceRange(bodyStart, end - bodyStart + 1));
+                        return;
+                    }
+                    break;
+                default:
+            }
+        }
+    }
+
+    /**
+     * Returns the diagnostics of the previous pass of the given participant
+     * moved to the given outline, and null if they cannot be reused.
+     *
+     * @param outline the outline of the compilation unit being validated.
+     * @param definition the diagnostics participant.
+     * @return the reused diagnostics of the participant and null otherwise.
+     */
+    public List<Diagnostic> get(Outline outline, JavaDiagnosticsDefinition definition) {
+        if (outline == null || !definition.isDeclarationsOnly()) {
+            return null;
+        }
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(outline.uri);
+        }
+        if (entry == null || !entry.outline.hasSameSkeleton(outline) || !entry.outline.key.matchesIgnoringContent(outline.key)) {
+            return null;
+        }
+        List<Diagnostic> previousDiagnostics = entry.diagnostics.get(definition);
+        if (previousDiagnostics == null) {
+            return null;
+        }
+        List<Diagnostic> diagnostics = new ArrayList<>(previousDiagnostics.size());
+        for (Diagnostic previousDiagnostic : previousDiagnostics) {
+            Diagnostic diagnostic = entry.outline.moveDiagnostic(previousDiagnostic, outline);
+            if (diagnostic == null) {
+                return null;
+            }
+            diagnostics.add(diagnostic);
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Keeps the diagnostics collected by the participants which read the
+     * declarations only, for the next pass.
+     *
+     * @param outline the outline of the validated compilation unit.
+     * @param diagnostics the diagnostics collected per participant.
+     */
+    public void put(Outline outline, Map<JavaDiagnosticsDefinition, List<Diagnostic>> diagnostics) {
+        // Don't keep diagnostics which were outdated during the collection
+        if (!JavaDiagnosticsCache.getInstance().isUpToDate(outline.key)) {
+            return;
+        }
+        Map<JavaDiagnosticsDefinition, List<Diagnostic>> declarationsDiagnostics = new HashMap<>();
+        diagnostics.forEach((definition, definitionDiagnostics) -> {
+            if (definition.isDeclarationsOnly() && definitionDiagnostics != null) {
+                declarationsDiagnostics.put(definition, new ArrayList<>(definitionDiagnostics));
+            }
+        });
+        synchronized (entries) {
+            entries.put(outline.uri, new Entry(outline, declarationsDiagnostics));
+        }
+    }
+
+    /**
+     * Removes all the kept diagnostics.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
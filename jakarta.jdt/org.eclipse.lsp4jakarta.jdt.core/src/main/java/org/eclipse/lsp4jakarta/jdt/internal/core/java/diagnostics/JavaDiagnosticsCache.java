@@ -0,0 +1,421 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaModel;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+
+/**
+ * Bounded LRU cache of the diagnostics computed for a Java file.
+ *
+ * <p>
+ * An entry is keyed by the file URI, a hash of the source content, the
+ * diagnostics settings and the change stamps of the Java projects the file
+ * depends on. Stamps are incremented from Java element deltas which may change
+ * the diagnostics of other files (classpath changes, added or removed
+ * compilation units, structural changes of types), so an entry computed
+ * before such a change is never returned.
+ * </p>
+ *
+ * <p>
+ * The changes found by the walk of the deltas are also dispatched to the
+ * registered {@link IJavaStructureChangeListener}.
+ * </p>
+ */
+public class JavaDiagnosticsCache implements IElementChangedListener {
+
+    private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsCache.class.getName());
+
+    private static final JavaDiagnosticsCache INSTANCE = new JavaDiagnosticsCache();
+
+    /** Maximum number of cached files. */
+    private static final int MAX_ENTRIES = 256;
+
+    /** Flags of a compilation unit delta which may change the diagnostics of other files. */
+    private static final int STRUCTURAL_CHANGE_FLAGS = IJavaElementDelta.F_CHILDREN | IJavaElementDelta.F_MODIFIERS
+                                                       | IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_ANNOTATIONS
+                                                       | IJavaElementDelta.F_CATEGORIES | IJavaElementDelta.F_MOVED_FROM
+                                                       | IJavaElementDelta.F_MOVED_TO;
+
+    /** Flags of a project or package fragment root delta which change the classpath. */
+    private static final int CLASSPATH_CHANGE_FLAGS = IJavaElementDelta.F_CLASSPATH_CHANGED
+                                                      | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH
+                                                      | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED
+                                                      | IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED;
+
+    public static JavaDiagnosticsCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Key of a cached entry.
+     */
+    public static class Key {
+
+        private final String uri;
+
+        private final long contentHash;
+
+        private final String settings;
+
+        private final Map<String, Long> projectStamps;
+
+        private Key(String uri, long contentHash, String settings, Map<String, Long> projectStamps) {
+            this.uri = uri;
+            this.contentHash = contentHash;
+            this.settings = settings;
+            this.projectStamps = projectStamps;
+        }
+
+        private boolean matches(Key other) {
+            return contentHash == other.contentHash && matchesIgnoringContent(other);
+        }
+
+        /**
+         * Returns true if the given key has the same settings and project stamps,
+         * whatever the content of the file.
+         */
+        boolean matchesIgnoringContent(Key other) {
+            return settings.equals(other.settings) && projectStamps.equals(other.projectStamps);
+        }
+    }
+
+    private static class Entry {
+
+        private final Key key;
+
+        private final List<Diagnostic> diagnostics;
+
+        private Entry(Key key, List<Diagnostic> diagnostics) {
+            this.key = key;
+            this.diagnostics = diagnostics;
+        }
+    }
+
+    private final Map<String, Entry> entries;
+
+    private final Map<String, AtomicLong> projectStamps;
+
+    private final AtomicLong workspaceStamp;
+
+    private final List<IJavaStructureChangeListener> listeners;
+
+    private JavaDiagnosticsCache() {
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.projectStamps = new ConcurrentHashMap<>();
+        this.workspaceStamp = new AtomicLong();
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    /**
+     * Adds the given listener of the structure changes.
+     *
+     * @param listener the listener to add.
+     */
+    public void addStructureChangeListener(IJavaStructureChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes the given listener of the structure changes.
+     *
+     * @param listener the listener to remove.
+     */
+    public void removeStructureChangeListener(IJavaStructureChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Returns the cached diagnostics of the given URI, without waiting for the
+     * document life cycle jobs, and null if there is no up-to-date entry.
+     *
+     * @param uri the Java file URI.
+     * @param utils the JDT utilities.
+     * @param documentFormat the document format.
+     * @param settings the diagnostics settings.
+     * @return the cached diagnostics of the given URI and null otherwise.
+     */
+    public List<Diagnostic> get(String uri, IJDTUtils utils, DocumentFormat documentFormat,
+                                JakartaJavaDiagnosticsSettings settings) {
+        synchronized (entries) {
+            if (!entries.containsKey(uri)) {
+                return null;
+            }
+        }
+        // The working copy is up-to-date only if there is no pending change to apply
+        if (utils.hasPendingLifecycleJobs()) {
+            return null;
+        }
+        ICompilationUnit unit = utils.findCompilationUnit(uri);
+        try {
+            if (unit == null || !unit.isConsistent()) {
+                return null;
+            }
+        } catch (JavaModelException e) {
+            return null;
+        }
+        Key key = createKey(uri, unit, documentFormat, settings);
+        if (key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(uri);
+            if (entry == null || !entry.key.matches(key)) {
+                return null;
+            }
+            return new ArrayList<>(entry.diagnostics);
+        }
+    }
+
+    /**
+     * Returns the key for the given compilation unit in its current state and
+     * null if the unit cannot be cached. The key must be created before the
+     * diagnostics are collected so that a change during the collection
+     * invalidates the entry.
+     *
+     * @param uri the Java file URI.
+     * @param unit the compilation unit.
+     * @param documentFormat the document format.
+     * @param settings the diagnostics settings.
+     * @return the key for the given compilation unit and null otherwise.
+     */
+    public Key createKey(String uri, ICompilationUnit unit, DocumentFormat documentFormat,
+                         JakartaJavaDiagnosticsSettings settings) {
+        try {
+            IBuffer buffer = unit.getBuffer();
+            String contents = buffer != null ? buffer.getContents() : null;
+            if (contents == null) {
+                return null;
+            }
+            return new Key(uri, hash(contents), getSettingsKey(documentFormat, settings),
+                           getProjectStamps(unit.getJavaProject()));
+        } catch (JavaModelException e) {
+            LOGGER.log(Level.WARNING, "Unable to create the diagnostics cache key of '" + uri + "'", e);
+            return null;
+        }
+    }
+
+    /**
+     * Caches the given diagnostics.
+     *
+     * @param key the key created before the diagnostics were collected.
+     * @param diagnostics the diagnostics.
+     */
+    public void put(Key key, List<Diagnostic> diagnostics) {
+        // Don't cache an entry which was outdated during the collection
+        if (!isUpToDate(key)) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key.uri, new Entry(key, new ArrayList<>(diagnostics)));
+        }
+    }
+
+    /**
+     * Returns true if the project stamps of the given key are still the current
+     * ones and false otherwise.
+     *
+     * @param key the key.
+     * @return true if the project stamps of the given key are still the current
+     *         ones.
+     */
+    boolean isUpToDate(Key key) {
+        return key.projectStamps.equals(getProjectStamps(key.projectStamps.keySet()));
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        processDelta(event.getDelta());
+    }
+
+    private void processDelta(IJavaElementDelta delta) {
+        IJavaElement element = delta.getElement();
+        int flags = delta.getFlags();
+        switch (element.getElementType()) {
+            case IJavaElement.JAVA_MODEL:
+                break;
+            case IJavaElement.JAVA_PROJECT:
+            case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & CLASSPATH_CHANGE_FLAGS) != 0) {
+                    IJavaProject project = element.getJavaProject();
+                    listeners.forEach(listener -> listener.classpathChanged(project));
+                    invalidate(project);
+                    return;
+                }
+                break;
+            case IJavaElement.PACKAGE_FRAGMENT:
+                if (delta.getKind() != IJavaElementDelta.CHANGED) {
+                    IJavaProject project = element.getJavaProject();
+                    listeners.forEach(listener -> listener.packageChanged(project));
+                    invalidate(project);
+                    return;
+                }
+                break;
+            case IJavaElement.COMPILATION_UNIT:
+                ICompilationUnit unit = (ICompilationUnit) element;
+                if (isStructuralChange(delta, unit)) {
+                    boolean removed = delta.getKind() == IJavaElementDelta.REMOVED;
+                    listeners.forEach(listener -> listener.compilationUnitChanged(unit, removed));
+                    invalidate(element.getJavaProject());
+                }
+                return;
+            default:
+                invalidate(element.getJavaProject());
+                return;
+        }
+        for (IJavaElementDelta child : delta.getAffectedChildren()) {
+            processDelta(child);
+        }
+    }
+
+    /**
+     * Returns true if the given compilation unit delta may change the Java model
+     * structure of the unit (added or removed unit, imports, members, modifiers,
+     * annotations, etc) and false if it only changes method bodies.
+     *
+     * @param delta the compilation unit delta.
+     * @param unit the compilation unit.
+     * @return true if the given delta may change the structure of the unit.
+     */
+    public static boolean isStructuralChange(IJavaElementDelta delta, ICompilationUnit unit) {
+        if (delta.getKind() != IJavaElementDelta.CHANGED) {
+            return true;
+        }
+        int flags = delta.getFlags();
+        if ((flags & STRUCTURAL_CHANGE_FLAGS) != 0 || delta.getAffectedChildren().length > 0) {
+            return true;
+        }
+        if ((flags & IJavaElementDelta.F_FINE_GRAINED) != 0) {
+            // Reconcile delta without structural change (e.g. a method body)
+            return false;
+        }
+        // Saving a working copy was already notified by the reconcile deltas
+        return !unit.isWorkingCopy() && (flags & IJavaElementDelta.F_CONTENT) != 0;
+    }
+
+    /**
+     * Returns the stamp of the given project, incremented by each Java element
+     * delta which may change the diagnostics of its files (classpath changes,
+     * added or removed compilation units, structural changes such as imports).
+     *
+     * @param project the Java project.
+     * @return the stamp of the given project.
+     */
+    public long getProjectStamp(IJavaProject project) {
+        return projectStamps.computeIfAbsent(project.getElementName(), k -> new AtomicLong()).get();
+    }
+
+    /**
+     * Returns the stamp of the workspace, incremented each time the stamp of a
+     * project is incremented.
+     *
+     * @return the stamp of the workspace.
+     */
+    public long getWorkspaceStamp() {
+        return workspaceStamp.get();
+    }
+
+    private void invalidate(IJavaProject project) {
+        if (project == null) {
+            return;
+        }
+        workspaceStamp.incrementAndGet();
+        projectStamps.computeIfAbsent(project.getElementName(), k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private Map<String, Long> getProjectStamps(IJavaProject project) throws JavaModelException {
+        Set<String> projectNames = new LinkedHashSet<>();
+        collectProjectNames(project, projectNames);
+        return getProjectStamps(projectNames);
+    }
+
+    private Map<String, Long> getProjectStamps(Set<String> projectNames) {
+        Map<String, Long> stamps = new HashMap<>();
+        for (String projectName : projectNames) {
+            AtomicLong stamp = projectStamps.computeIfAbsent(projectName, k -> new AtomicLong());
+            stamps.put(projectName, stamp.get());
+        }
+        return stamps;
+    }
+
+    private static void collectProjectNames(IJavaProject project, Set<String> projectNames) throws JavaModelException {
+        if (project == null || !projectNames.add(project.getElementName())) {
+            return;
+        }
+        IJavaModel model = project.getJavaModel();
+        for (String requiredProjectName : project.getRequiredProjectNames()) {
+            collectProjectNames(model.getJavaProject(requiredProjectName), projectNames);
+        }
+    }
+
+    private static String getSettingsKey(DocumentFormat documentFormat, JakartaJavaDiagnosticsSettings settings) {
+        return Objects.toString(documentFormat) + '|' + (settings != null ? settings.getPatterns() : "");
+    }
+
+    /**
+     * Returns the 64-bit FNV-1a hash of the given content.
+     *
+     * @param content the content.
+     * @return the 64-bit FNV-1a hash of the given content.
+     */
+    public static long hash(CharSequence content) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < content.length(); i++) {
+            hash ^= content.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash ^ content.length();
+    }
+}
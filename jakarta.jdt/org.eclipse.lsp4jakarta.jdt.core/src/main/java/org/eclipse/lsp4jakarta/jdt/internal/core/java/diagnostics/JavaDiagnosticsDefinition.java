@@ -13,6 +13,7 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -33,8 +34,42 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.java.AbstractJavaFeatureDefinit
 public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJavaDiagnosticsParticipant> implements IJavaDiagnosticsParticipant {
     private static final Logger LOGGER = Logger.getLogger(JavaDiagnosticsDefinition.class.getName());
 
+    private static final String TRIGGERS_ATTR = "triggers";
+
+    private static final String DECLARATIONS_ONLY_ATTR = "declarationsOnly";
+
+    private final String[] triggers;
+
+    private final boolean declarationsOnly;
+
     public JavaDiagnosticsDefinition(IConfigurationElement element) {
         super(element);
+        String triggersAttr = element.getAttribute(TRIGGERS_ATTR);
+        this.triggers = triggersAttr != null ? Arrays.stream(triggersAttr.split(",")).map(String::trim).filter(trigger -> !trigger.isEmpty()).toArray(String[]::new) : new String[0];
+        this.declarationsOnly = Boolean.parseBoolean(element.getAttribute(DECLARATIONS_ONLY_ATTR));
+    }
+
+    /**
+     * Returns the trigger tokens of the participant. The participant is only
+     * called for Java files whose source contains one of the tokens, or for all
+     * Java files if there is no token.
+     *
+     * @return the trigger tokens of the participant.
+     */
+    public String[] getTriggers() {
+        return triggers;
+    }
+
+    /**
+     * Returns true if the participant only reads the declarations of the Java
+     * file (types, fields, method signatures, annotations) and not the bodies of
+     * methods and initializers, and false otherwise.
+     *
+     * @return true if the participant only reads the declarations of the Java
+     *         file.
+     */
+    public boolean isDeclarationsOnly() {
+        return declarationsOnly;
     }
 
     // -------------- Diagnostics
@@ -44,6 +79,7 @@ public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJa
         try {
             return getParticipant().isAdaptedForDiagnostics(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling isAdaptedForDiagnostics", e);
             return false;
         }
@@ -54,17 +90,22 @@ public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJa
         try {
             getParticipant().beginDiagnostics(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling beginDiagnostics", e);
         }
     }
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) {
+        long start = System.nanoTime();
         try {
             return getParticipant().collectDiagnostics(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while collecting diagnostics", e);
             return null;
+        } finally {
+            getMetrics().record(start, "collectDiagnostics", context.getUri());
         }
     }
 
@@ -73,6 +114,7 @@ public class JavaDiagnosticsDefinition extends AbstractJavaFeatureDefinition<IJa
         try {
             getParticipant().endDiagnostics(context, monitor);
         } catch (Exception e) {
+            getMetrics().recordError();
             LOGGER.log(Level.SEVERE, "Error while calling endDiagnostics", e);
         }
     }
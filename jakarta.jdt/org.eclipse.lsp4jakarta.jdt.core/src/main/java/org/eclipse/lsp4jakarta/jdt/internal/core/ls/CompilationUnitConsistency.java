@@ -0,0 +1,183 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.internal.core.ls;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.JavaModelException;
+
+/**
+ * Waits until a compilation unit is consistent with its buffer, without
+ * spinning.
+ *
+ * <p>
+ * A waiting thread is woken up by the Java element deltas (reconcile and
+ * resource changes) and otherwise parks with an exponential backoff, so that a
+ * reconcile which doesn't produce a delta is still noticed. The timeout can be
+ * set with the system property {@value #TIMEOUT_PROPERTY} (in milliseconds).
+ * The number and the duration of the waits are counted to spot consistency
+ * stalls.
+ * </p>
+ */
+public class CompilationUnitConsistency implements IElementChangedListener {
+
+    /** System property of the consistency timeout in milliseconds. */
+    public static final String TIMEOUT_PROPERTY = "lsp4jakarta.compilationUnit.consistencyTimeout";
+
+    private static final long DEFAULT_TIMEOUT = 3000;
+
+    private static final long MAX_PARK_MILLIS = 50;
+
+    private static final CompilationUnitConsistency INSTANCE = new CompilationUnitConsistency();
+
+    public static CompilationUnitConsistency getInstance() {
+        return INSTANCE;
+    }
+
+    private final Object lock;
+
+    private volatile long timeout;
+
+    private final LongAdder waits;
+
+    private final LongAdder timeouts;
+
+    private final LongAdder totalWaitNanos;
+
+    private final AtomicLong maxWaitNanos;
+
+    private CompilationUnitConsistency() {
+        this.lock = new Object();
+        this.timeout = Long.getLong(TIMEOUT_PROPERTY, DEFAULT_TIMEOUT);
+        this.waits = new LongAdder();
+        this.timeouts = new LongAdder();
+        this.totalWaitNanos = new LongAdder();
+        this.maxWaitNanos = new AtomicLong();
+    }
+
+    /**
+     * Waits until the given compilation unit is consistent or the timeout
+     * expires.
+     *
+     * @param unit the compilation unit.
+     * @return true if the compilation unit is consistent and false if the
+     *         timeout expired.
+     * @throws JavaModelException
+     */
+    public boolean waitUntilConsistent(ICompilationUnit unit) throws JavaModelException {
+        if (unit.isConsistent()) {
+            return true;
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long park = 1;
+        boolean consistent = false;
+        try {
+            while (!(consistent = unit.isConsistent())) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMillis <= 0) {
+                    break;
+                }
+                synchronized (lock) {
+                    lock.wait(Math.min(park, remainingMillis));
+                }
+                park = Math.min(park * 2, MAX_PARK_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long waitNanos = System.nanoTime() - start;
+            waits.increment();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+            if (!consistent) {
+                timeouts.increment();
+            }
+        }
+        return consistent;
+    }
+
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the consistency timeout in milliseconds.
+     *
+     * @return the consistency timeout in milliseconds.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the consistency timeout in milliseconds.
+     *
+     * @param timeout the consistency timeout in milliseconds.
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the number of times a compilation unit was not consistent and had
+     * to be waited for.
+     *
+     * @return the number of waits.
+     */
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    /**
+     * Returns the number of waits which expired before the compilation unit was
+     * consistent.
+     *
+     * @return the number of expired waits.
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Returns the total time of the waits in milliseconds.
+     *
+     * @return the total time of the waits in milliseconds.
+     */
+    public long getTotalWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum());
+    }
+
+    /**
+     * Returns the longest wait in milliseconds.
+     *
+     * @return the longest wait in milliseconds.
+     */
+    public long getMaxWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get());
+    }
+
+    @Override
+    public String toString() {
+        return "compilation unit consistency: waits=" + getWaits() + ", timeouts=" + getTimeouts() + ", total="
+               + getTotalWaitMillis() + "ms, max=" + getMaxWaitMillis() + "ms";
+    }
+}
@@ -50,8 +50,6 @@ import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
  */
 public class JDTUtilsLSImpl implements IJDTUtils {
 
-    private static final int COMPILATION_UNIT_UPDATE_TIMEOUT = 3000;
-
     private static final IJDTUtils INSTANCE = new JDTUtilsLSImpl();
 
     public static IJDTUtils getInstance() {
@@ -71,10 +69,8 @@ public class JDTUtilsLSImpl implements IJDTUtils {
         if (unit != null) {
             try {
                 // Give underlying resource time to catch up
-                // (timeout at COMPILATION_UNIT_UPDATE_TIMEOUT milliseconds).
-                long endTime = System.currentTimeMillis() + COMPILATION_UNIT_UPDATE_TIMEOUT;
-                while (!unit.isConsistent() && System.currentTimeMillis() < endTime) {
-                }
+                // (see CompilationUnitConsistency#TIMEOUT_PROPERTY).
+                CompilationUnitConsistency.getInstance().waitUntilConsistent(unit);
             } catch (JavaModelException e) {
             }
         }
@@ -106,6 +102,16 @@ public class JDTUtilsLSImpl implements IJDTUtils {
         return JDTUtils.toUri(typeRoot);
     }
 
+    @Override
+    public boolean hasPendingLifecycleJobs() {
+        return Job.getJobManager().find(DocumentLifeCycleHandler.DOCUMENT_LIFE_CYCLE_JOBS).length > 0;
+    }
+
+    @Override
+    public ICompilationUnit findCompilationUnit(String uri) {
+        return JDTUtils.resolveCompilationUnit(uri);
+    }
+
     @Override
     public void waitForLifecycleJobs(IProgressMonitor monitor) {
         try {
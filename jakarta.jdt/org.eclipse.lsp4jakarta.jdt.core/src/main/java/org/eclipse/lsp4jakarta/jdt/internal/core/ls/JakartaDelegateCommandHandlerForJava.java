@@ -39,6 +39,8 @@ import org.eclipse.lsp4j.Position;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionResult;
@@ -59,6 +61,7 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
     private static final String FILE_INFO_COMMAND_ID = "jakarta/java/fileInfo";
     private static final String JAVA_CODEACTION_COMMAND_ID = "jakarta/java/codeAction";
     private static final String JAVA_CODEACTION_RESOLVE_COMMAND_ID = "jakarta/java/codeActionResolve";
+    private static final String JAVA_BULK_QUICKFIX_COMMAND_ID = "jakarta/java/bulkQuickFix";
     private static final String JAVA_COMPLETION_COMMAND_ID = "jakarta/java/completion";
     private static final String JAVA_DIAGNOSTICS_COMMAND_ID = "jakarta/java/diagnostics";
 
@@ -83,6 +86,8 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
                 return getCodeActionForJava(arguments, commandId, monitor);
             case JAVA_CODEACTION_RESOLVE_COMMAND_ID:
                 return resolveCodeActionForJava(arguments, commandId, monitor);
+            case JAVA_BULK_QUICKFIX_COMMAND_ID:
+                return bulkQuickFixForJava(arguments, commandId, monitor);
             case JAVA_COMPLETION_COMMAND_ID:
                 return getCompletionForJava(arguments, commandId, monitor);
             case JAVA_DIAGNOSTICS_COMMAND_ID:
@@ -286,6 +291,63 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
         return codeAction;
     }
 
+    /**
+     * Returns the edit which fixes the diagnostics with the given code in the
+     * requested chunk of the Java files of a project.
+     *
+     * @param arguments Map of bulk quick fix data from Jakarta LS
+     * @param commandId String name of command message
+     * @param monitor
+     * @return the edit of the requested chunk
+     * @throws JavaModelException
+     */
+    private static JakartaJavaBulkQuickFixResult bulkQuickFixForJava(List<Object> arguments, String commandId,
+                                                                     IProgressMonitor monitor) throws JavaModelException {
+        // Create java bulk quick fix parameter
+        JakartaJavaBulkQuickFixParams params = createJakartaJavaBulkQuickFixParams(arguments, commandId);
+        // Return the edit of the requested chunk
+        return PropertiesManagerForJava.getInstance().bulkQuickFix(params, JDTUtilsLSImpl.getInstance(), monitor);
+    }
+
+    /**
+     * Create java bulk quick fix parameter from the given arguments map.
+     *
+     * @param arguments Map of bulk quick fix data from Jakarta LS
+     * @param commandId String name of command message
+     *
+     * @return java bulk quick fix parameter
+     */
+    private static JakartaJavaBulkQuickFixParams createJakartaJavaBulkQuickFixParams(List<Object> arguments,
+                                                                                     String commandId) {
+        Map<String, Object> obj = getFirst(arguments);
+        if (obj == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with one JakartaJavaBulkQuickFixParams argument!", commandId));
+        }
+        String uri = getString(obj, "uri");
+        if (uri == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with required JakartaJavaBulkQuickFixParams.uri (project or java file URI)!",
+                                                                  commandId));
+        }
+        String code = getString(obj, "code");
+        if (code == null) {
+            throw new UnsupportedOperationException(String.format(
+                                                                  "Command '%s' must be called with required JakartaJavaBulkQuickFixParams.code (diagnostic code)!",
+                                                                  commandId));
+        }
+        JakartaJavaBulkQuickFixParams params = new JakartaJavaBulkQuickFixParams();
+        params.setUri(uri);
+        params.setCode(code);
+        params.setSource(getString(obj, "source"));
+        params.setOffset(getInt(obj, "offset"));
+        params.setLimit(getInt(obj, "limit"));
+        params.setParallelism(getInt(obj, "parallelism"));
+        params.setResourceOperationSupported(getBoolean(obj, "resourceOperationSupported"));
+        params.setCommandConfigurationUpdateSupported(getBoolean(obj, "commandConfigurationUpdateSupported"));
+        return params;
+    }
+
     /**
      * Returns the publish diagnostics list for a given java file URIs in arguments map
      *
@@ -329,6 +391,9 @@ public class JakartaDelegateCommandHandlerForJava extends AbstractJakartaDelegat
         if (settingsObj != null) {
             List<String> patterns = getStringList(settingsObj, "patterns");
             settings = new JakartaJavaDiagnosticsSettings(patterns);
+            settings.setParallelParticipants(getBoolean(settingsObj, "parallelParticipants"));
+            settings.setParallelism(getInt(settingsObj, "parallelism"));
+            settings.setTimeBudget(getInt(settingsObj, "timeBudget"));
         }
         return new JakartaJavaDiagnosticsParams(javaFileUri, settings);
     }
@@ -12,9 +12,12 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.internal.di;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.AnnotationSymbolTable;
+
 /**
  * Dependency injection diagnostic constants.
  */
@@ -31,6 +34,7 @@ public class Constants {
                                                                 "jakarta.enterprise.context.SessionScoped", "jakarta.enterprise.context.NormalScope",
                                                                 "jakarta.Interceptor", "jakarta.Decorator", "jakarta.enterprise.inject.Stereotype",
                                                                 "jakarta.enterprise.context.Dependent");
+    public static final BitSet CDI_ANNOTATIONS_MASK = AnnotationSymbolTable.getInstance().mask(CDI_ANNOTATIONS_FQ);
 
     public static final Set<String> BUILT_IN_QUALIFIERS = Set.of(
                                                                  "jakarta.enterprise.inject.Default",
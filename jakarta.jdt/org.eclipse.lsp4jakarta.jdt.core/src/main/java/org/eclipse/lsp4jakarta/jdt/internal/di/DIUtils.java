@@ -12,60 +12,29 @@
 *******************************************************************************/
 package org.eclipse.lsp4jakarta.jdt.internal.di;
 
-import java.util.Arrays;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import org.eclipse.jdt.core.IAnnotation;
-import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.MetaAnnotationCache;
 
 /**
  * CdiQualifierUtils
  */
 public class DIUtils {
 
-    private static final String QUALIFIER_META = "jakarta.inject.Qualifier";
-    private static final Logger LOGGER = Logger.getLogger(DIUtils.class.getName());
-
     /**
      * @param annotation
-     * @param unit
+     * @param annotationFQName the fully qualified name of the annotation
      * @param type
      * @return
      * @throws JavaModelException
      * @description Method is used to check if the passed annotation is a built in or custom Qualifier
      */
-    public static boolean isQualifier(IAnnotation annotation, ICompilationUnit unit, IType type) throws JavaModelException {
-        boolean hasBuiltInQualifier = Constants.BUILT_IN_QUALIFIERS.stream().anyMatch(qualifier -> {
-            try {
-                return DiagnosticUtils.isMatchedAnnotation(unit, annotation, qualifier);
-            } catch (JavaModelException e) {
-                LOGGER.log(Level.INFO, "Unable to fetch qualifier information", e.getMessage());
-                return false;
-            }
-        });
-        if (!hasBuiltInQualifier) {
-            String annotationFQ = ManagedBean.getFullyQualifiedClassName(type, annotation.getElementName());
-            IJavaProject project = annotation.getJavaProject();
-            if (project != null && annotationFQ != null) {
-                IType customAnnotationType = project.findType(annotationFQ);
-                ICompilationUnit customClassCompilerUnit = customAnnotationType.getCompilationUnit();
-                if (customAnnotationType != null) {
-                    return Arrays.stream(customAnnotationType.getAnnotations()).anyMatch(customQualifier -> {
-                        try {
-                            return DiagnosticUtils.isMatchedAnnotation(customClassCompilerUnit, customQualifier, QUALIFIER_META);
-                        } catch (JavaModelException e) {
-                            LOGGER.log(Level.INFO, "Unable to fetch qualifier information", e.getMessage());
-                            return false;
-                        }
-                    });
-                }
-            }
+    public static boolean isQualifier(IAnnotation annotation, String annotationFQName, IType type) throws JavaModelException {
+        if (Constants.BUILT_IN_QUALIFIERS.contains(annotationFQName)) {
+            return true;
         }
-        return hasBuiltInQualifier;
+        // custom qualifier: the annotation type is meta-annotated with @Qualifier
+        return MetaAnnotationCache.getInstance().hasMetaAnnotation(annotation, type, MetaAnnotationCache.QUALIFIER);
     }
 }
\ No newline at end of file
@@ -21,12 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
-import java.util.logging.Level;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.logging.Logger;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
@@ -43,14 +38,15 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.Primitive;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Dependency injection diagnostics participant that manages the use of
@@ -58,29 +54,28 @@ import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
  */
 public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
-    private static final Logger LOGGER = Logger.getLogger(DependencyInjectionDiagnosticsParticipant.class.getName());
-
     /**
      * {@inheritDoc}
      */
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes;
-        alltypes = unit.getAllTypes();
-        for (IType type : alltypes) {
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
             String invalidInjectMsg = Messages.getMessage("InjectInvalidQualifiersOnField");
-            IField[] allFields = type.getFields();
-            IType parent = type.getDeclaringType();
-            boolean isCdiScoped = hasCdiScopeAnnotation(type);
+            JakartaTypeModel parent = type.getDeclaringType() != null ? model.getType(type.getDeclaringType()) : null;
+            boolean isCdiScoped = hasCdiScopeAnnotation(typeModel);
             //https://jakarta.ee/specifications/dependency-injection/2.0/apidocs/
             //Under Scope
             //A scope annotation should not have attributes.
@@ -88,7 +83,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
             if (type.isAnnotation()) {
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
                 //Checks if type annotation contains @Scope
-                boolean containsScope = containsAnnotation(type, type.getAnnotations(), Constants.SCOPE_FQ_NAME);
+                boolean containsScope = typeModel.hasAnnotation(Constants.SCOPE_FQ_NAME);
                 //Checks if there are any attributes inside the type
                 boolean hasAttributes = type.getMethods().length > 0 || type.getFields().length > 0;
                 if (containsScope && hasAttributes) {
@@ -98,22 +93,26 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                                                              DiagnosticSeverity.Error));
                 }
             }
-            for (IField field : allFields) {
+            for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                IField field = (IField) fieldModel.getElement();
                 Range range = PositionUtils.toNameRange(field,
                                                         context.getUtils());
                 Set<String> fqNames = new HashSet<>();
                 boolean hasInject = false;
-                for (IAnnotation annotation : field.getAnnotations()) {
-                    if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, INJECT_FQ_NAME)) {
+                for (String annotationFQName : fieldModel.getAnnotationFQNames()) {
+                    if (INJECT_FQ_NAME.equals(annotationFQName)) {
                         hasInject = true;
                     } else {
-                        fqNames.add(ManagedBean.getFullyQualifiedClassName(type, annotation.getElementName()));
+                        fqNames.add(annotationFQName);
                     }
                 }
                 if (fqNames.equals(Constants.IMPLICIT_QUALIFIERS)) {
                     continue;
                 } else {
-                    List<IAnnotation> qualifiers = getQualifiers(field.getAnnotations(), unit, type);
+                    List<IAnnotation> qualifiers = getQualifiers(fieldModel, type);
                     if (hasInject && qualifiers.size() > 1 && !isCdiScoped) {
                         // To check if inner class's parent is CDI scope annotated, then do not throw the diagnostics for invalid qualifier
                         if (parent != null && hasCdiScopeAnnotation(parent))
@@ -126,9 +125,9 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                                                                      DiagnosticSeverity.Error));
                     }
                 }
-                if (containsAnnotation(type, field.getAnnotations(), INJECT_FQ_NAME)) {
+                if (hasInject) {
 
-                    if (Flags.isFinal(field.getFlags())) {
+                    if (Flags.isFinal(fieldModel.getFlags())) {
                         String msg = Messages.getMessage("InjectNoFinalField");
 
                         diagnostics.add(
@@ -148,26 +147,21 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
             }
 
             List<IMethod> injectedConstructors = new ArrayList<IMethod>();
-            IMethod[] allMethods = type.getMethods();
-            for (IMethod method : allMethods) {
+            for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
 
+                IMethod method = (IMethod) methodModel.getElement();
                 Range range = PositionUtils.toNameRange(method, context.getUtils());
-                int methodFlag = method.getFlags();
-                if (containsAnnotation(type, method.getAnnotations(), INJECT_FQ_NAME)) {
-                    for (ILocalVariable param : method.getParameters()) {
-                        IAnnotation[] paramAnnotations = param.getAnnotations();
-                        Set<String> paramAnnotationsFQNames = Arrays.stream(paramAnnotations).filter(Objects::nonNull).map(ann -> {
-                            try {
-                                return ManagedBean.getFullyQualifiedClassName(type, ann.getElementName());
-                            } catch (JavaModelException e) {
-                                LOGGER.log(Level.WARNING, "Unable to fetch fully qualified name", e.getMessage());
-                                return null;
-                            }
-                        }).collect(Collectors.toSet());
+                int methodFlag = methodModel.getFlags();
+                if (methodModel.hasAnnotation(INJECT_FQ_NAME)) {
+                    for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                        Set<String> paramAnnotationsFQNames = new HashSet<>(Arrays.asList(paramModel.getAnnotationFQNames()));
                         if (paramAnnotationsFQNames.equals(Constants.IMPLICIT_QUALIFIERS)) {
                             continue;
                         } else {
-                            List<IAnnotation> qualifiers = getQualifiers(param.getAnnotations(), unit, type);
+                            List<IAnnotation> qualifiers = getQualifiers(paramModel, type);
                             if (qualifiers.size() > 1 && !isCdiScoped) {
                                 // To check if inner class's parent is CDI scope annotated, then do not throw the diagnostics for invalid qualifier
                                 if (parent != null && hasCdiScopeAnnotation(parent))
@@ -181,7 +175,7 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
                             }
                         }
                     }
-                    if (DiagnosticUtils.isConstructorMethod(method))
+                    if (methodModel.isConstructor())
                         injectedConstructors.add(method);
                     if (Flags.isFinal(methodFlag)) {
                         String msg = Messages.getMessage("InjectNoFinalMethod");
@@ -256,67 +250,31 @@ public class DependencyInjectionDiagnosticsParticipant implements IJavaDiagnosti
     }
 
     /**
-     * @param type
+     * @param typeModel
      * @return
-     * @throws JavaModelException
      * @description Checks if annotation is CDI bean annotation
      */
-    private boolean hasCdiScopeAnnotation(IType type) throws JavaModelException {
-        return Arrays.stream(type.getAnnotations()).filter(Objects::nonNull).anyMatch(annotation -> {
-            try {
-                return isCdiAnnotation(annotation.getElementName(), type);
-            } catch (JavaModelException e) {
-                LOGGER.log(Level.WARNING, "Unable to find matching CDI scope annotations", e.getMessage());
-                return false;
-            }
-        });
+    private boolean hasCdiScopeAnnotation(JakartaTypeModel typeModel) {
+        return typeModel != null && typeModel.hasAnyAnnotation(Constants.CDI_ANNOTATIONS_MASK);
     }
 
     /**
-     * @param annotations
-     * @param unit
+     * @param elementModel
      * @param type
      * @return
      * @throws JavaModelException
      * @description Checks if annotation is off Qualifier type
      */
-    private List<IAnnotation> getQualifiers(IAnnotation[] annotations, ICompilationUnit unit, IType type) throws JavaModelException {
-        return annotations == null ? List.of() : Arrays.stream(annotations).filter(Objects::nonNull).filter(annotation -> {
-            try {
-                return DIUtils.isQualifier(annotation, unit, type);
-            } catch (JavaModelException e) {
-                LOGGER.log(Level.WARNING, "Unable to fetch qualifier information", e.getMessage());
-                return false;
-            }
-        }).collect(Collectors.toList());
-    }
-
-    /**
-     * @param annotationName
-     * @return
-     * @throws JavaModelException
-     * @description Checks if annotation is CDI bean annotation
-     */
-    private Boolean isCdiAnnotation(String annotationName, IType type) throws JavaModelException {
-        return Constants.CDI_ANNOTATIONS_FQ.stream().anyMatch(annotation -> {
-            try {
-                return DiagnosticUtils.isMatchedJavaElement(type, annotationName, annotation);
-            } catch (JavaModelException e) {
-                LOGGER.log(Level.WARNING, "Unable to fetch matching annotation", e.getMessage());
-                return false;
+    private List<IAnnotation> getQualifiers(JakartaElementModel elementModel, IType type) throws JavaModelException {
+        IAnnotation[] annotations = elementModel.getAnnotations();
+        String[] annotationFQNames = elementModel.getAnnotationFQNames();
+        List<IAnnotation> qualifiers = new ArrayList<>();
+        for (int i = 0; i < annotations.length; i++) {
+            if (DIUtils.isQualifier(annotations[i], annotationFQNames[i], type)) {
+                qualifiers.add(annotations[i]);
             }
-        });
-    }
-
-    private boolean containsAnnotation(IType type, IAnnotation[] annotations, String annotationFQName) {
-        return Stream.of(annotations).anyMatch(annotation -> {
-            try {
-                return DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), annotationFQName);
-            } catch (JavaModelException e) {
-                JakartaCorePlugin.logException("Cannot validate annotations", e);
-                return false;
-            }
-        });
+        }
+        return qualifiers;
     }
 
     /**
@@ -14,28 +14,22 @@
 package org.eclipse.lsp4jakarta.jdt.internal.interceptor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfoDiagnosticHelper;
 
 /**
@@ -43,32 +37,25 @@ import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.helpers.ConstructorInfo
  */
 public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
-    private static final Logger LOGGER = Logger.getLogger(InterceptorDiagnosticsParticipant.class.getName());
-
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
-        for (IType type : types) {
-            int typeFlag = type.getFlags();
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
+            int typeFlag = typeModel.getFlags();
             ConstructorInfoDiagnosticHelper constructorInfo = ConstructorInfoDiagnosticHelper.initialize();
-            boolean isInterceptorType = Arrays.stream(type.getAnnotations()).anyMatch(annotation -> {
-                try {
-                    return DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), Constants.INTERCEPTOR_FQ_NAME);
-                } catch (JavaModelException e) {
-                    LOGGER.log(Level.WARNING, "Unable to find matching annotation", e.getMessage());
-                    return false;
-                }
-            });
-            if (isInterceptorType) {
+            if (typeModel.hasAnnotation(Constants.INTERCEPTOR_FQ_NAME)) {
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
                 if (Flags.isAbstract(typeFlag)) {
                     diagnostics.add(context.createDiagnostic(uri,
@@ -76,6 +63,9 @@ public class InterceptorDiagnosticsParticipant implements IJavaDiagnosticsPartic
                                                              Constants.DIAGNOSTIC_SOURCE, ErrorCode.InvalidInterceptorAnnotationOnAbstractClass, DiagnosticSeverity.Error));
                 } else {
                     for (IMethod method : type.getMethods()) {
+                        if (monitor.isCanceled()) {
+                            return null;
+                        }
                         // Checks if method is a constructor and has valid no-args constructor
                         constructorInfo.mergeConstructorInfo(ConstructorInfoDiagnosticHelper.getConstructorInfo(method));
                     }
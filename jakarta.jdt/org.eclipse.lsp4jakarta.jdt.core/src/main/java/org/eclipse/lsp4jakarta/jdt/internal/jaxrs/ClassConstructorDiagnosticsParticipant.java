@@ -21,18 +21,17 @@ import java.util.Map;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IAnnotation;
-import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 
 /**
@@ -42,58 +41,48 @@ public class ClassConstructorDiagnosticsParticipant implements IJavaDiagnosticsP
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        ITypeRoot typeRoot = context.getTypeRoot();
         String uri = context.getUri();
-        IJavaElement[] elements = typeRoot.getChildren();
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
-        for (IJavaElement element : elements) {
+        if (model == null) {
+            return diagnostics;
+        }
+
+        for (JakartaTypeModel typeModel : model.getTypes()) {
             if (monitor.isCanceled()) {
                 return null;
             }
-            if (element.getElementType() == IJavaElement.TYPE) {
-                IType type = (IType) element;
+            IType type = typeModel.getType();
+            if (type.getDeclaringType() == null) {
                 if (!type.isClass()) {
                     continue;
                 }
-                boolean isRootResource = false;
-                boolean isProviderResource = false;
-                IAnnotation[] annotationList = type.getAnnotations();
-
-                for (IAnnotation annotation : annotationList) {
-                    String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                         annotation.getElementName(),
-                                                                                         Constants.SET_OF_JAXRS_ANNOTATIONS1);
-                    if (matchedAnnotation != null) {
-                        if (Constants.PATH_ANNOTATION.equals(matchedAnnotation)) {
-                            isRootResource = true;
-                        } else if (Constants.PROVIDER_ANNOTATION.equals(matchedAnnotation)) {
-                            isProviderResource = true;
-                        }
-                    }
-                }
+                boolean isRootResource = typeModel.hasAnnotation(Constants.PATH_ANNOTATION);
+                boolean isProviderResource = typeModel.hasAnnotation(Constants.PROVIDER_ANNOTATION);
 
                 if (isRootResource || isProviderResource) { // annotated class
                     List<IMethod> nonPublicConstructors = new ArrayList<IMethod>();
                     boolean hasPublicConstructor = false;
                     int maxParams = 0;
                     Map<IMethod, Integer> constructorParamsMap = new HashMap<IMethod, Integer>();
-                    IMethod[] methods = type.getMethods();
-                    for (IMethod method : methods) {
-                        if (DiagnosticUtils.isConstructorMethod(method)) {
-                            if (Flags.isPublic(method.getFlags())) {
-                                hasPublicConstructor = true;
-                                nonPublicConstructors.clear(); // ignore all non-public constructors
-                                if (isRootResource) {
-                                    int numParams = method.getNumberOfParameters();
-                                    if (numParams > maxParams) {
-                                        maxParams = numParams;
-                                    }
-                                    constructorParamsMap.put(method, numParams);
+                    for (JakartaElementModel constructorModel : typeModel.getConstructors()) {
+                        if (monitor.isCanceled()) {
+                            return null;
+                        }
+                        IMethod method = (IMethod) constructorModel.getElement();
+                        if (Flags.isPublic(constructorModel.getFlags())) {
+                            hasPublicConstructor = true;
+                            nonPublicConstructors.clear(); // ignore all non-public constructors
+                            if (isRootResource) {
+                                int numParams = method.getNumberOfParameters();
+                                if (numParams > maxParams) {
+                                    maxParams = numParams;
                                 }
-                            } else if (!hasPublicConstructor) {
-                                nonPublicConstructors.add(method);
+                                constructorParamsMap.put(method, numParams);
                             }
+                        } else if (!hasPublicConstructor) {
+                            nonPublicConstructors.add(method);
                         }
                     }
                     // no public constructor defined
@@ -20,22 +20,20 @@ import java.util.stream.Stream;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
-import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 import org.eclipse.lsp4jakarta.jdt.internal.core.java.ManagedBean;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
@@ -44,30 +42,24 @@ public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes = unit.getAllTypes();
-
-        for (IType type : alltypes) {
-            if (!type.isClass()) {
-                continue;
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
             }
-
-            boolean isJaxrsClass = false;
-            // Iterate class level annotations
-            for (IAnnotation annotation : type.getAnnotations()) {
-                isJaxrsClass = DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                                    Constants.PATH_ANNOTATION);
+            if (!typeModel.getType().isClass()) {
+                continue;
             }
 
-            if (isJaxrsClass) {
-                checkInvalidConstraintTarget(context, unit, uri, type, diagnostics);
+            if (typeModel.hasAnnotation(Constants.PATH_ANNOTATION)) {
+                checkInvalidConstraintTarget(context, unit, uri, typeModel, diagnostics);
             }
         }
 
@@ -75,18 +67,19 @@ public class JaxrsDiagnosticsParticipant implements IJavaDiagnosticsParticipant
 
     }
 
-    private boolean validateSetterMethod(IMethod method) throws JavaModelException {
+    private boolean validateSetterMethod(JakartaElementModel methodModel) throws JavaModelException {
+        IMethod method = (IMethod) methodModel.getElement();
         return method.getElementName().startsWith("set") && "V".equalsIgnoreCase(method.getReturnType())
-               && method.getParameterTypes().length == 1 && Flags.isPublic(method.getFlags());
+               && method.getParameterTypes().length == 1 && Flags.isPublic(methodModel.getFlags());
     }
 
     private void checkInvalidConstraintTarget(JavaDiagnosticsContext context,
-                                              ICompilationUnit unit, String uri, IType type, List<Diagnostic> diagnostics) throws JavaModelException {
-        IMethod[] methods = type.getMethods();
-        for (IMethod method : methods) {
-            if (DiagnosticUtils.isConstructorMethod(method) || validateSetterMethod(method)) {
-                for (ILocalVariable param : method.getParameters()) {
-                    Stream.of(param.getAnnotations()).filter(paramAnnotation -> {
+                                              ICompilationUnit unit, String uri, JakartaTypeModel typeModel, List<Diagnostic> diagnostics) throws JavaModelException {
+        IType type = typeModel.getType();
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            if (methodModel.isConstructor() || validateSetterMethod(methodModel)) {
+                for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                    Stream.of(paramModel.getAnnotations()).filter(paramAnnotation -> {
                         try {
                             return ManagedBean.hasMetaAnnotation(paramAnnotation, type, unit,
                                                                  Constants.CONSTRAINT_ANNOTATION);
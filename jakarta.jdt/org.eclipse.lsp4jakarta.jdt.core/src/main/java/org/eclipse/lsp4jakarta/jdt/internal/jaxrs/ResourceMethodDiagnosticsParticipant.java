@@ -21,19 +21,17 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IAnnotation;
-import org.eclipse.jdt.core.IJavaElement;
-import org.eclipse.jdt.core.ILocalVariable;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
 
 /**
@@ -43,40 +41,43 @@ public class ResourceMethodDiagnosticsParticipant implements IJavaDiagnosticsPar
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
-        ITypeRoot typeRoot = context.getTypeRoot();
         String uri = context.getUri();
-        IJavaElement[] elements = typeRoot.getChildren();
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
         List<Diagnostic> diagnostics = new ArrayList<>();
 
+        if (model == null) {
+            return diagnostics;
+        }
+
         String[] methodDesignators = ArrayUtils.addAll(Constants.SET_OF_METHOD_DESIGNATORS_ANNOTATIONS,
                                                        Constants.PATH_ANNOTATION);
 
-        for (IJavaElement element : elements) {
+        for (JakartaTypeModel typeModel : model.getTypes()) {
             if (monitor.isCanceled()) {
                 return null;
             }
 
-            if (element.getElementType() == IJavaElement.TYPE) {
-                IType type = (IType) element;
+            IType type = typeModel.getType();
+            if (type.getDeclaringType() == null) {
                 if (!type.isClass()) {
                     continue;
                 }
 
-                IMethod[] methods = type.getMethods();
                 boolean isInterface = type.isInterface();
 
-                for (IMethod method : methods) {
-                    IAnnotation[] methodAnnotations = method.getAnnotations();
+                for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                    if (monitor.isCanceled()) {
+                        return null;
+                    }
+                    IMethod method = (IMethod) methodModel.getElement();
                     boolean isResourceMethod = false;
                     boolean isValid = true;
-                    boolean isPublic = Flags.isPublic(method.getFlags());
-                    boolean usesDfltAccessModifier = Flags.isPackageDefault(method.getFlags());
+                    boolean isPublic = Flags.isPublic(methodModel.getFlags());
+                    boolean usesDfltAccessModifier = Flags.isPackageDefault(methodModel.getFlags());
                     Range methodRange = PositionUtils.toNameRange(method, context.getUtils());
 
-                    for (IAnnotation annotation : methodAnnotations) {
-                        String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                             annotation.getElementName(), methodDesignators);
-                        if (matchedAnnotation != null) {
+                    for (String matchedAnnotation : methodModel.getAnnotationFQNames()) {
+                        if (ArrayUtils.contains(methodDesignators, matchedAnnotation)) {
                             if (isValid && !isPublic && !(usesDfltAccessModifier && isInterface))
                                 isValid = false;
                             if (!Constants.PATH_ANNOTATION.equals(matchedAnnotation)) {
@@ -92,18 +93,8 @@ public class ResourceMethodDiagnosticsParticipant implements IJavaDiagnosticsPar
                     }
                     if (isResourceMethod) {
                         int numEntityParams = 0;
-                        ILocalVariable[] parameters = method.getParameters();
-                        for (ILocalVariable param : parameters) {
-                            boolean isEntityParam = true;
-                            IAnnotation[] annotations = param.getAnnotations();
-                            for (IAnnotation annotation : annotations) {
-                                String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                                     annotation.getElementName(), Constants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS);
-                                if (matchedAnnotation != null) {
-                                    isEntityParam = false;
-                                    break;
-                                }
-                            }
+                        for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                            boolean isEntityParam = paramModel.getMatchedAnnotationNames(Constants.SET_OF_NON_ENTITY_PARAM_ANNOTATIONS).isEmpty();
                             if (isEntityParam)
                                 numEntityParams++;
                         }
@@ -14,18 +14,14 @@
 package org.eclipse.lsp4jakarta.jdt.internal.jsonb;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.logging.Level;
-import java.util.logging.Logger;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.Flags;
-import org.eclipse.jdt.core.IAnnotatable;
 import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
@@ -39,13 +35,14 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.commons.utils.JsonPropertyUtils;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaErrorCode;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
@@ -57,22 +54,18 @@ import com.google.gson.JsonArray;
 public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant {
 
     private static final String NON_STATIC_DIAGNOSTIC = "Please declare the class as static";
-    private static final Logger LOGGER = Logger.getLogger(JsonbDiagnosticsParticipant.class.getName());
 
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] types = unit.getAllTypes();
-        IMethod[] methods;
-        IAnnotation[] allAnnotations;
         boolean jsonbtypeParent = false; //Variable for checking parent class is JSONB type or not
         boolean isInnerClass = false; //Variable to check if inner class or not
         //Variables for determining invalid constructor in parent and child classes
@@ -81,29 +74,32 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
         boolean missingParentNoArgsConstructor;
         boolean missingChildNoArgsConstructor;
         boolean hasConstructor; //To check for existence of explicit constructors
-        for (IType type : types) {
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
             parentHasValidNoArgsConstructor = false;
             childHasValidNoArgsConstructor = false;
             missingParentNoArgsConstructor = false;
             missingChildNoArgsConstructor = false;
             hasConstructor = false;
-            methods = type.getMethods();
             List<IMethod> jonbMethods = new ArrayList<IMethod>();
             // methods
-            for (IMethod method : type.getMethods()) {
-                if (DiagnosticUtils.isConstructorMethod(method) || Flags.isStatic(method.getFlags())) {
-                    allAnnotations = method.getAnnotations();
-                    for (IAnnotation annotation : allAnnotations) {
-                        if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                                 Constants.JSONB_CREATOR))
-                            jonbMethods.add(method);
-                    }
+            for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                IMethod method = (IMethod) methodModel.getElement();
+                if (methodModel.isConstructor() || Flags.isStatic(methodModel.getFlags())) {
+                    if (methodModel.hasAnnotation(Constants.JSONB_CREATOR))
+                        jonbMethods.add(method);
                 }
                 //Check whether the class has public or protected no args constructor
-                if (DiagnosticUtils.isConstructorMethod(method)) {
+                if (methodModel.isConstructor()) {
                     hasConstructor = true;
                     String[] params = method.getParameterTypes();
-                    int flags = method.getFlags();
+                    int flags = methodModel.getFlags();
                     if (params.length == 0 && (Flags.isPublic(flags) || Flags.isProtected(flags))) { //Checks manually declared no-args constructor
                         if (!isInnerClass)
                             parentHasValidNoArgsConstructor = true;
@@ -113,7 +109,8 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
                 }
             }
             if (jonbMethods.size() > Constants.MAX_METHOD_WITH_JSONBCREATOR) {
-                for (IMethod method : methods) {
+                for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                    IMethod method = (IMethod) methodModel.getElement();
                     String msg = Messages.getMessage("ErrorMessageJsonbCreator");
                     Range range = PositionUtils.toNameRange(method, context.getUtils());
                     diagnostics.add(context.createDiagnostic(uri, msg, range, Constants.DIAGNOSTIC_SOURCE,
@@ -126,36 +123,26 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
             isInnerClass = type.getDeclaringType() != null;
             //Checks whether parent class is JSONB type by checking class level annotations
             if (!isInnerClass) {
-                jsonbtypeParent = Arrays.stream(type.getAnnotations()).anyMatch(annotation -> {
-                    try {
-                        return JsonPropertyUtils.isJsonbType(type, annotation);
-                    } catch (JavaModelException e) {
-                        LOGGER.log(Level.INFO, "Unable to find matching JSONB annotations", e.getMessage());
-                        return false;
-                    }
-                });
+                jsonbtypeParent = !getJsonbAnnotationNames(typeModel).isEmpty();
             }
             // fields
-            for (IField field : type.getFields()) {
+            for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                if (monitor.isCanceled()) {
+                    return null;
+                }
+                IField field = (IField) fieldModel.getElement();
                 //Checks whether class fields have JSONB annotations
                 if (!isInnerClass && !jsonbtypeParent) {
-                    jsonbtypeParent = Arrays.stream(field.getAnnotations()).anyMatch(annotation -> {
-                        try {
-                            return JsonPropertyUtils.isJsonbType(type, annotation);
-                        } catch (JavaModelException e) {
-                            LOGGER.log(Level.INFO, "Unable to find matching JSONB annotations", e.getMessage());
-                            return false;
-                        }
-                    });
+                    jsonbtypeParent = !getJsonbAnnotationNames(fieldModel).isEmpty();
                 }
-                collectJsonbTransientFieldDiagnostics(context, uri, unit, type, diagnostics, field);
-                collectJsonbTransientAccessorDiagnostics(context, uri, unit, type, diagnostics, field);
+                collectJsonbTransientFieldDiagnostics(context, uri, unit, model, diagnostics, fieldModel);
+                collectJsonbTransientAccessorDiagnostics(context, uri, unit, model, diagnostics, fieldModel);
                 // Get unique property name values from the fields into a list uniquePropertyNames
                 uniquePropertyNames = collectJsonbUniquePropertyNames(unit, context, uri, diagnostics, type, propertyNames,
-                                                                      field);
+                                                                      fieldModel);
             }
             // Collect diagnostics for duplicate property names with fields annotated @JsonbProperty
-            collectJsonbPropertyUniquenessDiagnostics(unit, uniquePropertyNames, context, uri, diagnostics, type);
+            collectJsonbPropertyUniquenessDiagnostics(unit, model, uniquePropertyNames, context, uri, diagnostics, type);
             //Parent class conditions for checking missing no-args constructor
             missingParentNoArgsConstructor = jsonbtypeParent && !parentHasValidNoArgsConstructor && hasConstructor;
             //Child class conditions for checking missing no-args constructor
@@ -235,7 +222,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      * @throws JavaModelException
      * @description Method to collect JsonbProperty uniqueness diagnostics
      */
-    private void collectJsonbPropertyUniquenessDiagnostics(ICompilationUnit unit, Set<String> uniquePropertyNames,
+    private void collectJsonbPropertyUniquenessDiagnostics(ICompilationUnit unit, JakartaCompilationUnitModel model, Set<String> uniquePropertyNames,
                                                            JavaDiagnosticsContext context, String uri, List<Diagnostic> diagnostics, IType type) throws JavaModelException {
         Set<IType> hierarchy = new LinkedHashSet<>();
         TypeHierarchyUtils.collectSuperTypes(type, hierarchy);
@@ -245,7 +232,7 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
             if (fields.size() > Constants.MAX_DUPLICATE_PROPERTY_COUNT) {
                 for (IField f : fields) {
                     if (f.getDeclaringType().equals(type)) // Creates diagnostics in the subclass
-                        createJsonbPropertyUniquenessDiagnostics(context, uri, diagnostics, f, type);
+                        createJsonbPropertyUniquenessDiagnostics(context, uri, diagnostics, model.getMember(f));
                 }
             }
         }
@@ -286,20 +273,20 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      * @param diagnostics
      * @param type
      * @param propertyNames
-     * @param field
+     * @param fieldModel
      * @return List<String>
      * @throws JavaModelException
      * @description Method collects distinct property name values to be referenced for finding duplicates
      */
     private Set<String> collectJsonbUniquePropertyNames(ICompilationUnit unit, JavaDiagnosticsContext context, String uri,
-                                                        List<Diagnostic> diagnostics, IType type, Set<String> propertyNames, IField field) throws JavaModelException {
-        for (IAnnotation annotation : field.getAnnotations()) {
-            if (DiagnosticUtils.isMatchedAnnotation(unit, annotation, Constants.JSONB_PROPERTY)) { // Checks whether annotation is JsonbProperty
-                String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(annotation);
-                if (propertyName != null) {
-                    propertyName = JsonPropertyUtils.decodeUniCodeName(propertyName);
-                    propertyNames.add(propertyName);
-                }
+                                                        List<Diagnostic> diagnostics, IType type, Set<String> propertyNames,
+                                                        JakartaElementModel fieldModel) throws JavaModelException {
+        IAnnotation annotation = fieldModel.getAnnotation(Constants.JSONB_PROPERTY); // Checks whether annotation is JsonbProperty
+        if (annotation != null) {
+            String propertyName = JsonPropertyUtils.extractPropertyNameFromJsonField(annotation);
+            if (propertyName != null) {
+                propertyName = JsonPropertyUtils.decodeUniCodeName(propertyName);
+                propertyNames.add(propertyName);
             }
         }
         return propertyNames;
@@ -309,31 +296,32 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
      * @param context
      * @param uri
      * @param diagnostics
-     * @param field
-     * @param type
+     * @param fieldModel
      * @throws JavaModelException
      * @description Method creates diagnostics with appropriate message and cursor context
      */
     private void createJsonbPropertyUniquenessDiagnostics(JavaDiagnosticsContext context, String uri,
-                                                          List<Diagnostic> diagnostics, IField field, IType type) throws JavaModelException {
+                                                          List<Diagnostic> diagnostics, JakartaElementModel fieldModel) throws JavaModelException {
         String msg = Messages.getMessage("ErrorMessageJsonbPropertyUniquenessField");
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
-        Range range = PositionUtils.toNameRange(field, context.getUtils());
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(fieldModel);
+        Range range = PositionUtils.toNameRange((IField) fieldModel.getElement(), context.getUtils());
         diagnostics.add(context.createDiagnostic(uri, msg, range, Constants.DIAGNOSTIC_SOURCE,
                                                  (JsonArray) (new Gson().toJsonTree(jsonbAnnotationsForField)),
                                                  ErrorCode.InvalidPropertyNamesOnJsonbFields, DiagnosticSeverity.Error));
     }
 
     private void collectJsonbTransientFieldDiagnostics(JavaDiagnosticsContext context, String uri,
-                                                       ICompilationUnit unit, IType type, List<Diagnostic> diagnostics, IField field) throws JavaModelException {
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+                                                       ICompilationUnit unit, JakartaCompilationUnitModel model, List<Diagnostic> diagnostics,
+                                                       JakartaElementModel fieldModel) throws JavaModelException {
+        IField field = (IField) fieldModel.getElement();
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(fieldModel);
         if (jsonbAnnotationsForField.contains(Constants.JSONB_TRANSIENT_FQ_NAME)) {
             boolean hasAccessorConflict = false;
             // Diagnostics on the accessors of the field are created when they are
             // annotated with Jsonb annotations other than JsonbTransient.
             List<IMethod> accessors = DiagnosticUtils.getFieldAccessors(unit, field);
             for (IMethod accessor : accessors) {
-                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+                List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(model.getMember(accessor));
                 if (hasJsonbAnnotationOtherThanTransient(jsonbAnnotationsForAccessor)) {
                     Range range = PositionUtils.toNameRange(accessor, context.getUtils());
                     createJsonbTransientDiagnostic(context, uri, range, unit, diagnostics, accessor,
@@ -354,13 +342,14 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
     }
 
     private void collectJsonbTransientAccessorDiagnostics(JavaDiagnosticsContext context, String uri,
-                                                          ICompilationUnit unit, IType type,
-                                                          List<Diagnostic> diagnostics, IField field) throws JavaModelException {
+                                                          ICompilationUnit unit, JakartaCompilationUnitModel model,
+                                                          List<Diagnostic> diagnostics, JakartaElementModel fieldModel) throws JavaModelException {
         boolean createDiagnosticForField = false;
-        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(type, field);
+        IField field = (IField) fieldModel.getElement();
+        List<String> jsonbAnnotationsForField = getJsonbAnnotationNames(fieldModel);
         List<IMethod> accessors = DiagnosticUtils.getFieldAccessors(unit, field);
         for (IMethod accessor : accessors) {
-            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(type, accessor);
+            List<String> jsonbAnnotationsForAccessor = getJsonbAnnotationNames(model.getMember(accessor));
             boolean hasFieldConflict = false;
             if (jsonbAnnotationsForAccessor.contains(Constants.JSONB_TRANSIENT_FQ_NAME)) {
                 // Diagnostic is created if the field of this accessor has a annotation other
@@ -408,14 +397,15 @@ public class JsonbDiagnosticsParticipant implements IJavaDiagnosticsParticipant
         return true;
     }
 
-    private List<String> getJsonbAnnotationNames(IType type, IAnnotatable annotable) throws JavaModelException {
+    private List<String> getJsonbAnnotationNames(JakartaElementModel elementModel) {
         List<String> jsonbAnnotationNames = new ArrayList<String>();
-        IAnnotation annotations[] = annotable.getAnnotations();
-        for (IAnnotation annotation : annotations) {
-            String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type, annotation.getElementName(),
-                                                                                 Constants.JSONB_ANNOTATIONS.toArray(String[]::new));
-            if (matchedAnnotation != null) {
-                jsonbAnnotationNames.add(matchedAnnotation);
+        if (elementModel == null) {
+            return jsonbAnnotationNames;
+        }
+        // in the order of the source, for the quick fixes which remove them
+        for (String annotationFQName : elementModel.getAnnotationFQNames()) {
+            if (Constants.JSONB_ANNOTATIONS.contains(annotationFQName)) {
+                jsonbAnnotationNames.add(annotationFQName);
             }
         }
         return jsonbAnnotationNames;
@@ -22,6 +22,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -35,11 +36,10 @@ import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.ASTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Json Processing (JSON-P) diagnostic participant.
@@ -48,18 +48,30 @@ public class JsonpDiagnosticParticipant implements IJavaDiagnosticsParticipant {
 
     private static final Logger LOGGER = Logger.getLogger(JsonpDiagnosticParticipant.class.getName());
 
+    private static final String METHOD_INVOCATIONS_KEY = JsonpDiagnosticParticipant.class.getName() + "#methodInvocations";
+
+    @Override
+    public void beginDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
+        // Collect the method invocations during the shared traversal of the AST.
+        // The list is stored when the traversal starts with the root, so that
+        // collectDiagnostics falls back to its own traversal when it didn't run.
+        List<MethodInvocation> methodInvocations = new ArrayList<>();
+        context.registerASTCallback(CompilationUnit.class, root -> context.put(METHOD_INVOCATIONS_KEY, methodInvocations));
+        context.registerASTCallback(MethodInvocation.class, methodInvocations::add);
+    }
+
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        List<MethodInvocation> allMethodInvocations = ASTUtils.getMethodInvocations(unit);
+        List<MethodInvocation> allMethodInvocations = getMethodInvocations(context, unit);
         List<MethodInvocation> createPointerInvocations = allMethodInvocations.stream().filter(mi -> {
             try {
                 return isMatchedJsonCreatePointer(unit, mi);
@@ -68,6 +80,9 @@ public class JsonpDiagnosticParticipant implements IJavaDiagnosticsParticipant {
             }
         }).collect(Collectors.toList());
         for (MethodInvocation m : createPointerInvocations) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
             Expression arg = (Expression) m.arguments().get(0);
             if (isInvalidArgument(arg)) {
                 // If the argument supplied to a createPointer invocation is a String literal
@@ -94,6 +109,9 @@ public class JsonpDiagnosticParticipant implements IJavaDiagnosticsParticipant {
             }
         }).collect(Collectors.toList());
         for (MethodInvocation methodIn : createObjectBuilderMethodInvocations) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
             if (!methodIn.arguments().isEmpty()) {
                 Expression arg = (Expression) methodIn.arguments().get(0);
                 if (arg instanceof NullLiteral) {
@@ -112,6 +130,16 @@ public class JsonpDiagnosticParticipant implements IJavaDiagnosticsParticipant {
         return diagnostics;
     }
 
+    /**
+     * Returns the method invocations collected during the shared traversal of
+     * the AST, or collects them when the traversal didn't happen.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<MethodInvocation> getMethodInvocations(JavaDiagnosticsContext context, ICompilationUnit unit) {
+        List<MethodInvocation> methodInvocations = (List<MethodInvocation>) context.get(METHOD_INVOCATIONS_KEY);
+        return methodInvocations != null ? methodInvocations : ASTUtils.getMethodInvocations(unit);
+    }
+
     /**
      * Method used to identify jakarta.json.JsonObjectBuilder.add type method invocations
      *
@@ -38,13 +38,13 @@ import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Persistence diagnostic participant that manages the use of @Entity
@@ -58,38 +58,33 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes;
-        IAnnotation[] allAnnotations;
-
-        alltypes = unit.getAllTypes();
-        for (IType type : alltypes) {
-            allAnnotations = type.getAnnotations();
-
-            IAnnotation EntityAnnotation = null;
-            for (IAnnotation annotation : allAnnotations) {
-                if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                         Constants.ENTITY)) {
-                    EntityAnnotation = annotation;
-                }
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
             }
+            IType type = typeModel.getType();
 
-            if (EntityAnnotation != null) {
+            if (typeModel.hasAnnotation(Constants.ENTITY)) {
                 // Define boolean requirements for the diagnostics
                 boolean hasPublicOrProtectedNoArgConstructor = false;
                 boolean hasArgConstructor = false;
                 boolean isEntityClassFinal = false;
 
                 // Get the Methods of the annotated Class
-                for (IMethod method : type.getMethods()) {
-                    if (DiagnosticUtils.isConstructorMethod(method)) {
+                for (JakartaElementModel methodModel : typeModel.getMethods()) {
+                    if (monitor.isCanceled()) {
+                        return null;
+                    }
+                    IMethod method = (IMethod) methodModel.getElement();
+                    if (methodModel.isConstructor()) {
                         // We have found a method that is a constructor
                         if (method.getNumberOfParameters() > 0) {
                             hasArgConstructor = true;
@@ -110,11 +105,15 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                                                                  ErrorCode.InvalidFinalMethodInEntityAnnotatedClass, DiagnosticSeverity.Error));
                     }
 
-                    validatePKDateTemporal(type, method, diagnostics, context);
+                    validatePKDateTemporal(methodModel, diagnostics, context);
                 }
 
                 // Go through the instance variables and make sure no instance vars are final
-                for (IField field : type.getFields()) {
+                for (JakartaElementModel fieldModel : typeModel.getFields()) {
+                    if (monitor.isCanceled()) {
+                        return null;
+                    }
+                    IField field = (IField) fieldModel.getElement();
                     // If a field is static, we do not care about it, we care about all other field
                     if (isStatic(field.getFlags())) {
                         continue;
@@ -128,7 +127,7 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
                                                                  ErrorCode.InvalidPersistentFieldInEntityAnnotatedClass, DiagnosticSeverity.Error));
                     }
 
-                    validatePKDateTemporal(type, field, diagnostics, context);
+                    validatePKDateTemporal(fieldModel, diagnostics, context);
                 }
 
                 // Ensure that the Entity class is not given a final modifier
@@ -183,43 +182,27 @@ public class PersistenceEntityDiagnosticsParticipant implements IJavaDiagnostics
      * Check @Temporal annotation exist for primary key field/property with @Id annotation
      * Specification: https://jakarta.ee/specifications/persistence/3.2/jakarta-persistence-spec-3.2#a132
      *
-     * @param type
-     * @param member
+     * @param memberModel
      * @param diagnostics
      * @param context
      * @throws JavaModelException
      */
-    private void validatePKDateTemporal(IType type, IMember member, List<Diagnostic> diagnostics,
+    private void validatePKDateTemporal(JakartaElementModel memberModel, List<Diagnostic> diagnostics,
                                         JavaDiagnosticsContext context) throws JavaModelException {
-        IAnnotation[] allAnnotations = null;
-        IAnnotation id = null, temporal = null;
+        IAnnotation temporal = memberModel.getAnnotation(Constants.TEMPORAL);
+        IMember member = (IMember) memberModel.getElement();
         String typeFQ = null;
         Range range = null;
 
         if (member instanceof IMethod) {
-            allAnnotations = ((IMethod) member).getAnnotations();
             typeFQ = JDTTypeUtils.getResolvedResultTypeName((IMethod) member);
             range = PositionUtils.toNameRange((IMethod) member, context.getUtils());
         } else if (member instanceof IField) {
-            allAnnotations = ((IField) member).getAnnotations();
             typeFQ = JDTTypeUtils.getResolvedTypeName((IField) member);
             range = PositionUtils.toNameRange((IField) member, context.getUtils());
         }
 
-        for (IAnnotation annotation : allAnnotations) {
-            String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type,
-                                                                                 annotation.getElementName(),
-                                                                                 Constants.SET_OF_PRIMARY_KEY_DATE_ANNOTATIONS);
-            if (matchedAnnotation != null) {
-                if (matchedAnnotation.equals(Constants.ID)) {
-                    id = annotation;
-                } else if (matchedAnnotation.equals(Constants.TEMPORAL)) {
-                    temporal = annotation;
-                }
-            }
-        }
-
-        if (id != null) {
+        if (memberModel.hasAnnotation(Constants.ID)) {
             if (typeFQ.equals(Constants.UTIL_DATE)) {
                 if (temporal != null) {
                     // Check value
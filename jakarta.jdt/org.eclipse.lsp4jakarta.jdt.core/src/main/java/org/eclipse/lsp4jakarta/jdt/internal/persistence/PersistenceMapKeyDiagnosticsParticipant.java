@@ -30,20 +30,21 @@ import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMemberValuePair;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.JDTTypeUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.SupertypeHierarchyCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.TypeResolutionCache;
 
 /**
  * Persistence diagnostic participant that manages the use
@@ -60,23 +61,21 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes = unit.getAllTypes();
-        IMethod[] methods;
-        IField[] fields;
-
-        for (IType type : alltypes) {
-            methods = type.getMethods();
-            collectMemberDiagnostics(methods, type, unit, diagnostics, context);
-            fields = type.getFields();
-            collectMemberDiagnostics(fields, type, unit, diagnostics, context);
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
+            collectMemberDiagnostics(typeModel.getMethods(), type, unit, diagnostics, context);
+            collectMemberDiagnostics(typeModel.getFields(), type, unit, diagnostics, context);
         }
 
         return diagnostics;
@@ -119,38 +118,30 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
         });
     }
 
-    private void collectMemberDiagnostics(IMember[] members, IType type, ICompilationUnit unit,
+    private void collectMemberDiagnostics(List<JakartaElementModel> members, IType type, ICompilationUnit unit,
                                           List<Diagnostic> diagnostics, JavaDiagnosticsContext context) throws CoreException {
 
         List<IAnnotation> mapKeyJoinCols = null;
         boolean hasMapKeyAnnotation = false;
         boolean hasMapKeyClassAnnotation = false, hasTypeDiagnostics = false;
-        IAnnotation[] allAnnotations = null;
 
         // Go through each method/field to ensure they do not have both MapKey and MapKeyColumn Annotations
-        for (IMember member : members) {
+        for (JakartaElementModel memberModel : members) {
+            IMember member = (IMember) memberModel.getElement();
             mapKeyJoinCols = new ArrayList<IAnnotation>();
             hasMapKeyAnnotation = false;
             hasMapKeyClassAnnotation = false;
-            allAnnotations = null;
-
-            if (member instanceof IMethod) {
-                allAnnotations = ((IMethod) member).getAnnotations();
-            } else if (member instanceof IField) {
-                allAnnotations = ((IField) member).getAnnotations();
-            }
 
-            for (IAnnotation annotation : allAnnotations) {
-                String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type, annotation.getElementName(),
-                                                                                     Constants.SET_OF_PERSISTENCE_ANNOTATIONS);
-                if (matchedAnnotation != null) {
-                    if (Constants.MAPKEY.equals(matchedAnnotation))
-                        hasMapKeyAnnotation = true;
-                    else if (Constants.MAPKEYCLASS.equals(matchedAnnotation))
-                        hasMapKeyClassAnnotation = true;
-                    else if (Constants.MAPKEYJOINCOLUMN.equals(matchedAnnotation)) {
-                        mapKeyJoinCols.add(annotation);
-                    }
+            IAnnotation[] allAnnotations = memberModel.getAnnotations();
+            String[] annotationFQNames = memberModel.getAnnotationFQNames();
+            for (int i = 0; i < allAnnotations.length; i++) {
+                String matchedAnnotation = annotationFQNames[i];
+                if (Constants.MAPKEY.equals(matchedAnnotation))
+                    hasMapKeyAnnotation = true;
+                else if (Constants.MAPKEYCLASS.equals(matchedAnnotation))
+                    hasMapKeyClassAnnotation = true;
+                else if (Constants.MAPKEYJOINCOLUMN.equals(matchedAnnotation)) {
+                    mapKeyJoinCols.add(allAnnotations[i]);
                 }
             }
 
@@ -199,14 +190,9 @@ public class PersistenceMapKeyDiagnosticsParticipant implements IJavaDiagnostics
             if (MAP_INTERFACE_FQDN.equals(fqName)) {
                 isMap = true;
             } else {
-                IType returnType = javaProject.findType(fqName);
-                ITypeHierarchy hierarchy = returnType.newTypeHierarchy(null);
-                IType[] interfaces = hierarchy.getAllSuperInterfaces(returnType);
-
-                for (IType superInterface : interfaces) {
-                    if (MAP_INTERFACE_FQDN.equals(superInterface.getFullyQualifiedName())) {
-                        isMap = true;
-                    }
+                IType returnType = TypeResolutionCache.getInstance().findType(javaProject, fqName);
+                if (returnType != null) {
+                    isMap = SupertypeHierarchyCache.getInstance().getSupertypes(returnType).contains(MAP_INTERFACE_FQDN);
                 }
             }
         }
@@ -18,20 +18,18 @@ import java.util.List;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.jdt.core.IAnnotation;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.lsp4j.Diagnostic;
 import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
-import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 /**
  * Security diagnostic participant.
@@ -46,17 +44,19 @@ public class SecurityDiagnosticsParticipant implements IJavaDiagnosticsParticipa
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
         if (unit == null) {
             return diagnostics;
         }
-        IType[] alltypes = unit.getAllTypes();
-        for (IType type : alltypes) {
-            IAnnotation declareRolesAnnotation = findDeclareRolesAnnotation(type);
-            boolean implementsServlet = TypeHierarchyUtils.inheritsFrom(type, Constants.SERVLET_FQ_NAME);
-            if (declareRolesAnnotation != null && !implementsServlet) {
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
+            if (typeModel.hasAnnotation(Constants.DECLARE_ROLES_FQ_NAME)
+                && !TypeHierarchyUtils.inheritsFrom(type, Constants.SERVLET_FQ_NAME)) {
                 Range range = PositionUtils.toNameRange(type, context.getUtils());
                 diagnostics.add(context.createDiagnostic(uri,
                                                          Messages.getMessage("DeclareRolesMustImplement"), range,
@@ -66,22 +66,4 @@ public class SecurityDiagnosticsParticipant implements IJavaDiagnosticsParticipa
         }
         return diagnostics;
     }
-
-    /**
-     * Finds the @DeclareRoles annotation on the given type using streams.
-     *
-     * @param type the type to search
-     * @return the @DeclareRoles annotation if found, null otherwise
-     * @throws CoreException if an error occurs while accessing the type's annotations
-     */
-    private IAnnotation findDeclareRolesAnnotation(IType type) throws CoreException {
-        IAnnotation[] allAnnotations = type.getAnnotations();
-        for (IAnnotation annotation : allAnnotations) {
-            if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                     Constants.DECLARE_ROLES_FQ_NAME)) {
-                return annotation;
-            }
-        }
-        return null;
-    }
 }
@@ -15,13 +15,11 @@
 package org.eclipse.lsp4jakarta.jdt.internal.websocket;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -41,13 +39,14 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.Range;
 import org.eclipse.lsp4jakarta.jdt.core.JakartaCorePlugin;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.IJavaDiagnosticsParticipant;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaCompilationUnitModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaElementModel;
+import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JakartaTypeModel;
 import org.eclipse.lsp4jakarta.jdt.core.java.diagnostics.JavaDiagnosticsContext;
-import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.PositionUtils;
 import org.eclipse.lsp4jakarta.jdt.core.utils.TypeHierarchyUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.Messages;
-import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 
 import com.google.gson.JsonArray;
 
@@ -62,61 +61,66 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
     @Override
     public List<Diagnostic> collectDiagnostics(JavaDiagnosticsContext context, IProgressMonitor monitor) throws CoreException {
         String uri = context.getUri();
-        IJDTUtils utils = JDTUtilsLSImpl.getInstance();
-        ICompilationUnit unit = utils.resolveCompilationUnit(uri);
+        JakartaCompilationUnitModel model = context.getCompilationUnitModel();
+        ICompilationUnit unit = model != null ? model.getCompilationUnit() : null;
         List<Diagnostic> diagnostics = new ArrayList<>();
 
         if (unit == null) {
             return diagnostics;
         }
 
-        IType[] alltypes;
         HashMap<String, Boolean> checkWSEnd = null;
 
-        alltypes = unit.getAllTypes();
-        for (IType type : alltypes) {
-            checkWSEnd = isWSEndpoint(type);
+        for (JakartaTypeModel typeModel : model.getTypes()) {
+            if (monitor.isCanceled()) {
+                return null;
+            }
+            IType type = typeModel.getType();
+            checkWSEnd = isWSEndpoint(typeModel);
             // checks if the class uses annotation to create a WebSocket endpoint
             if (checkWSEnd.get(Constants.IS_ANNOTATION)) {
                 // WebSocket Invalid Parameters Diagnostic
-                invalidParamsCheck(context, uri, type, unit, diagnostics);
+                invalidParamsCheck(context, uri, typeModel, unit, diagnostics);
 
                 /* @PathParam Value Mismatch Warning */
-                List<String> endpointPathVars = findAndProcessEndpointURI(type);
+                List<String> endpointPathVars = findAndProcessEndpointURI(typeModel);
                 /*
                  * WebSocket endpoint annotations must be attached to a class, and thus is
                  * guaranteed to be processed before any of the member method annotations
                  */
                 if (endpointPathVars != null) {
                     // PathParam URI Mismatch Warning Diagnostic
-                    uriMismatchWarningCheck(context, uri, type, endpointPathVars, diagnostics, unit);
+                    uriMismatchWarningCheck(context, uri, typeModel, endpointPathVars, diagnostics, unit);
                 }
 
                 // OnMessage validation for WebSocket message formats
-                onMessageWSMessageFormats(context, uri, type, diagnostics, unit);
+                onMessageWSMessageFormats(context, uri, typeModel, diagnostics, unit);
 
                 // ServerEndpoint annotation diagnostics
-                serverEndpointErrorCheck(context, uri, type, diagnostics, unit);
+                serverEndpointErrorCheck(context, uri, typeModel, diagnostics, unit);
 
-                publicNoArgsConstructorCheck(context, uri, type, diagnostics);
+                publicNoArgsConstructorCheck(context, uri, typeModel, diagnostics);
 
-                duplicateLifeCycleAnnotationCheck(context, uri, type, diagnostics);
+                duplicateLifeCycleAnnotationCheck(context, uri, typeModel, diagnostics);
             }
         }
 
         return diagnostics;
     }
 
-    private void duplicateLifeCycleAnnotationCheck(JavaDiagnosticsContext context, String uri, IType type,
+    private void duplicateLifeCycleAnnotationCheck(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel,
                                                    List<Diagnostic> diagnostics) throws JavaModelException {
 
         Set<String> visitedAnnotations = new HashSet<>();
 
-        for (IMethod method : type.getMethods()) {
-            for (IAnnotation annotation : method.getAnnotations()) {
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            IAnnotation[] annotations = methodModel.getAnnotations();
+            String[] annotationFQNames = methodModel.getAnnotationFQNames();
+            for (int i = 0; i < annotations.length; i++) {
+                IAnnotation annotation = annotations[i];
                 String annotationName = annotation.getElementName();
 
-                if (isLifecycleAnnotation(type, annotationName)) {
+                if (isLifecycleAnnotation(annotationFQNames[i])) {
                     if (visitedAnnotations.contains(annotationName)) {
                         JsonArray diagnosticsData = new JsonArray();
                         diagnosticsData.add(Constants.WEBSOCKET_ANNOTATION_FQN.get(annotationName));
@@ -135,35 +139,36 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         }
     }
 
-    private boolean isLifecycleAnnotation(IType type, String annotationName) throws JavaModelException {
-        return DiagnosticUtils.isMatchedJavaElement(type, annotationName, Constants.ON_OPEN)
-               || DiagnosticUtils.isMatchedJavaElement(type, annotationName, Constants.ON_CLOSE)
-               || DiagnosticUtils.isMatchedJavaElement(type, annotationName, Constants.ON_ERROR);
+    private boolean isLifecycleAnnotation(String annotationFQName) {
+        return Constants.ON_OPEN.equals(annotationFQName)
+               || Constants.ON_CLOSE.equals(annotationFQName)
+               || Constants.ON_ERROR.equals(annotationFQName);
     }
 
-    private void invalidParamsCheck(JavaDiagnosticsContext context, String uri, IType type, ICompilationUnit unit,
+    private void invalidParamsCheck(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel, ICompilationUnit unit,
                                     List<Diagnostic> diagnostics) throws JavaModelException {
-        IMethod[] allMethods = type.getMethods();
-        for (IMethod method : allMethods) {
-            IAnnotation[] allAnnotations = method.getAnnotations();
+        IType type = typeModel.getType();
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            IAnnotation[] allAnnotations = methodModel.getAnnotations();
+            String[] annotationFQNames = methodModel.getAnnotationFQNames();
             Set<String> specialParamTypes = null, rawSpecialParamTypes = null;
 
-            for (IAnnotation annotation : allAnnotations) {
-                String annotationName = annotation.getElementName();
+            for (int i = 0; i < allAnnotations.length; i++) {
+                String annotationName = allAnnotations[i].getElementName();
                 ErrorCode diagnosticErrorCode = null;
 
-                if (DiagnosticUtils.isMatchedJavaElement(type, annotationName, Constants.ON_OPEN)) {
+                if (Constants.ON_OPEN.equals(annotationFQNames[i])) {
                     specialParamTypes = Constants.ON_OPEN_PARAM_OPT_TYPES;
                     rawSpecialParamTypes = Constants.RAW_ON_OPEN_PARAM_OPT_TYPES;
                     diagnosticErrorCode = ErrorCode.InvalidOnOpenParams;
-                } else if (DiagnosticUtils.isMatchedJavaElement(type, annotationName, Constants.ON_CLOSE)) {
+                } else if (Constants.ON_CLOSE.equals(annotationFQNames[i])) {
                     specialParamTypes = Constants.ON_CLOSE_PARAM_OPT_TYPES;
                     rawSpecialParamTypes = Constants.RAW_ON_CLOSE_PARAM_OPT_TYPES;
                     diagnosticErrorCode = ErrorCode.InvalidOnCloseParams;
                 }
                 if (diagnosticErrorCode != null) {
-                    ILocalVariable[] allParams = method.getParameters();
-                    for (ILocalVariable param : allParams) {
+                    for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                        ILocalVariable param = (ILocalVariable) paramModel.getElement();
                         String signature = param.getTypeSignature();
                         String formatSignature = signature.replace("/", ".");
                         String resolvedTypeName = JavaModelUtil.getResolvedTypeName(formatSignature, type);
@@ -192,17 +197,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
 
                         if (!isSpecialType) {
                             // check that if parameter is not a specialType, it has a @PathParam annotation
-                            IAnnotation[] param_annotations = param.getAnnotations();
-                            boolean hasPathParamAnnot = Arrays.asList(param_annotations).stream().anyMatch(annot -> {
-                                try {
-                                    return DiagnosticUtils.isMatchedJavaElement(type, annot.getElementName(),
-                                                                                Constants.PATH_PARAM_ANNOTATION);
-                                } catch (JavaModelException e) {
-                                    JakartaCorePlugin.logException("Failed to get matched annotation", e);
-                                    return false;
-                                }
-                            });
-                            if (!hasPathParamAnnot) {
+                            if (!paramModel.hasAnnotation(Constants.PATH_PARAM_ANNOTATION)) {
                                 Range range = PositionUtils.toNameRange(param, context.getUtils());
                                 diagnostics.add(context.createDiagnostic(uri,
                                                                          Messages.getMessage("PathParamsAnnotationMissing"), range,
@@ -221,20 +216,19 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * variable parameters of the WebSocket EndPoint URI associated with the class
      * in which the method is contained
      *
-     * @param type representing the class list of diagnostics for this class
+     * @param typeModel representing the class list of diagnostics for this class
      *            compilation unit with which the type is associated
      */
-    private void uriMismatchWarningCheck(JavaDiagnosticsContext context, String uri, IType type,
+    private void uriMismatchWarningCheck(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel,
                                          List<String> endpointPathVars, List<Diagnostic> diagnostics,
                                          ICompilationUnit unit) throws JavaModelException {
-        IMethod[] typeMethods = type.getMethods();
-        for (IMethod method : typeMethods) {
-            ILocalVariable[] methodParams = method.getParameters();
-            for (ILocalVariable param : methodParams) {
-                IAnnotation[] paramAnnotations = param.getAnnotations();
-                for (IAnnotation annotation : paramAnnotations) {
-                    if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                             Constants.PATHPARAM_ANNOTATION)) {
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                IAnnotation[] paramAnnotations = paramModel.getAnnotations();
+                String[] paramAnnotationFQNames = paramModel.getAnnotationFQNames();
+                for (int i = 0; i < paramAnnotations.length; i++) {
+                    IAnnotation annotation = paramAnnotations[i];
+                    if (Constants.PATHPARAM_ANNOTATION.equals(paramAnnotationFQNames[i])) {
                         IMemberValuePair[] valuePairs = annotation.getMemberValuePairs();
                         for (IMemberValuePair pair : valuePairs) {
                             if (pair.getMemberName().equals(Constants.ANNOTATION_VALUE)
@@ -259,24 +253,26 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * Creates an error diagnostic if there exists more than one method annotated
      * with @OnMessage for a given message format.
      *
-     * @param type
+     * @param typeModel
      * @param diagnostics
      * @param unit
      * @throws JavaModel
      */
-    private void onMessageWSMessageFormats(JavaDiagnosticsContext context, String uri, IType type,
+    private void onMessageWSMessageFormats(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel,
                                            List<Diagnostic> diagnostics, ICompilationUnit unit) throws JavaModelException {
-        IMethod[] typeMethods = type.getMethods();
+        IType type = typeModel.getType();
         IAnnotation onMessageTextUsed = null;
         IAnnotation onMessageBinaryUsed = null;
         IAnnotation onMessagePongUsed = null;
-        for (IMethod method : typeMethods) {
-            IAnnotation[] allAnnotations = method.getAnnotations();
-            for (IAnnotation annotation : allAnnotations) {
-                if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(), Constants.ON_MESSAGE)) {
-                    ILocalVariable[] allParams = method.getParameters();
-                    for (ILocalVariable param : allParams) {
-                        if (!isParamPath(type, param)) {
+        for (JakartaElementModel methodModel : typeModel.getMethods()) {
+            IAnnotation[] allAnnotations = methodModel.getAnnotations();
+            String[] annotationFQNames = methodModel.getAnnotationFQNames();
+            for (int i = 0; i < allAnnotations.length; i++) {
+                IAnnotation annotation = allAnnotations[i];
+                if (Constants.ON_MESSAGE.equals(annotationFQNames[i])) {
+                    for (JakartaElementModel paramModel : methodModel.getParameters()) {
+                        ILocalVariable param = (ILocalVariable) paramModel.getElement();
+                        if (!paramModel.hasAnnotation(Constants.PATH_PARAM_ANNOTATION)) {
                             String signature = param.getTypeSignature();
                             String formatSignature = signature.replace("/", ".");
                             String resolvedTypeName = JavaModelUtil.getResolvedTypeName(formatSignature, type);
@@ -359,12 +355,13 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * paths, missing a leading slash, or does not follow a valid level-1 template
      * URI.
      */
-    private void serverEndpointErrorCheck(JavaDiagnosticsContext context, String uri, IType type,
+    private void serverEndpointErrorCheck(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel,
                                           List<Diagnostic> diagnostics, ICompilationUnit unit) throws JavaModelException {
-        IAnnotation[] annotations = type.getAnnotations();
-        for (IAnnotation annotation : annotations) {
-            if (DiagnosticUtils.isMatchedJavaElement(type, annotation.getElementName(),
-                                                     Constants.SERVER_ENDPOINT_ANNOTATION)) {
+        IAnnotation[] annotations = typeModel.getAnnotations();
+        String[] annotationFQNames = typeModel.getAnnotationFQNames();
+        for (int i = 0; i < annotations.length; i++) {
+            IAnnotation annotation = annotations[i];
+            if (Constants.SERVER_ENDPOINT_ANNOTATION.equals(annotationFQNames[i])) {
                 for (IMemberValuePair annotationMemberValuePair : annotation.getMemberValuePairs()) {
                     if (annotationMemberValuePair.getMemberName().equals(Constants.ANNOTATION_VALUE)) {
                         String path = annotationMemberValuePair.getValue().toString();
@@ -405,19 +402,18 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         }
     }
 
-    private void publicNoArgsConstructorCheck(JavaDiagnosticsContext context, String uri, IType type,
+    private void publicNoArgsConstructorCheck(JavaDiagnosticsContext context, String uri, JakartaTypeModel typeModel,
                                               List<Diagnostic> diagnostics) throws JavaModelException {
 
+        IType type = typeModel.getType();
         boolean hasUserDefinedConstructor = false, hasPublicNoArgConstructor = false;
 
-        for (IMethod method : type.getMethods()) {
-            if (DiagnosticUtils.isConstructorMethod(method)) {
-                hasUserDefinedConstructor = true;
-                String[] params = method.getParameterTypes();
-                int flags = method.getFlags();
-                if (params.length == 0 && Flags.isPublic(flags)) {
-                    hasPublicNoArgConstructor = true;
-                }
+        for (JakartaElementModel constructorModel : typeModel.getConstructors()) {
+            hasUserDefinedConstructor = true;
+            String[] params = ((IMethod) constructorModel.getElement()).getParameterTypes();
+            int flags = constructorModel.getFlags();
+            if (params.length == 0 && Flags.isPublic(flags)) {
+                hasPublicNoArgConstructor = true;
             }
         }
 
@@ -436,18 +432,18 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * Finds a WebSocket EndPoint annotation and extracts all variable parameters in
      * the EndPoint URI
      *
-     * @param type representing the class
+     * @param typeModel representing the class
      * @return List of variable parameters in the EndPoint URI if one exists, null
      *         otherwise
      */
-    private List<String> findAndProcessEndpointURI(IType type) throws JavaModelException {
+    private List<String> findAndProcessEndpointURI(JakartaTypeModel typeModel) throws JavaModelException {
         String endpointURI = null;
-        IAnnotation[] typeAnnotations = type.getAnnotations();
-        String[] targetAnnotations = { Constants.SERVER_ENDPOINT_ANNOTATION, Constants.CLIENT_ENDPOINT_ANNOTATION };
-        for (IAnnotation annotation : typeAnnotations) {
-            String matchedAnnotation = DiagnosticUtils.getMatchedJavaElementName(type, annotation.getElementName(),
-                                                                                 targetAnnotations);
-            if (matchedAnnotation != null) {
+        IAnnotation[] typeAnnotations = typeModel.getAnnotations();
+        String[] annotationFQNames = typeModel.getAnnotationFQNames();
+        for (int i = 0; i < typeAnnotations.length; i++) {
+            IAnnotation annotation = typeAnnotations[i];
+            if (Constants.SERVER_ENDPOINT_ANNOTATION.equals(annotationFQNames[i])
+                || Constants.CLIENT_ENDPOINT_ANNOTATION.equals(annotationFQNames[i])) {
                 IMemberValuePair[] valuePairs = annotation.getMemberValuePairs();
                 for (IMemberValuePair pair : valuePairs) {
                     if (pair.getMemberName().equals(Constants.ANNOTATION_VALUE)
@@ -490,12 +486,13 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
      * https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
      * are met: class is annotated or class implements Endpoint class
      *
-     * @param type the type representing the class
+     * @param typeModel the type representing the class
      * @return the conditions for a class to be a WebSocket endpoint
      * @throws JavaModelException
      */
-    private HashMap<String, Boolean> isWSEndpoint(IType type) throws JavaModelException {
+    private HashMap<String, Boolean> isWSEndpoint(JakartaTypeModel typeModel) throws JavaModelException {
         HashMap<String, Boolean> wsEndpoint = new HashMap<>();
+        IType type = typeModel.getType();
 
         // check trivial case
         if (!type.isClass()) {
@@ -506,9 +503,7 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
 
         // Check that class follows
         // https://jakarta.ee/specifications/websocket/2.0/websocket-spec-2.0.html#applications
-        List<String> endpointAnnotations = DiagnosticUtils.getMatchedJavaElementNames(type,
-                                                                                      Stream.of(type.getAnnotations()).map(annotation -> annotation.getElementName()).toArray(String[]::new),
-                                                                                      Constants.WS_ANNOTATION_CLASS);
+        List<String> endpointAnnotations = typeModel.getMatchedAnnotationNames(Constants.WS_ANNOTATION_CLASS);
 
         boolean useSuperclass = false;
         try {
@@ -523,17 +518,6 @@ public class WebSocketDiagnosticsParticipant implements IJavaDiagnosticsParticip
         return wsEndpoint;
     }
 
-    private boolean isParamPath(IType type, ILocalVariable param) throws JavaModelException {
-        IAnnotation[] allVariableAnnotations = param.getAnnotations();
-        for (IAnnotation variableAnnotation : allVariableAnnotations) {
-            if (DiagnosticUtils.isMatchedJavaElement(type, variableAnnotation.getElementName(),
-                                                     Constants.PATH_PARAM_ANNOTATION)) {
-                return true;
-            }
-        }
-        return false;
-    }
-
     private Constants.MESSAGE_FORMAT getMessageFormat(String typeName, boolean longName) {
         if (longName) {
             switch (typeName) {
@@ -0,0 +1,7 @@
+package io.openliberty.sample.jakarta.resolution;
+
+public class BaseResolution {
+
+	public @interface Marker {
+	}
+}
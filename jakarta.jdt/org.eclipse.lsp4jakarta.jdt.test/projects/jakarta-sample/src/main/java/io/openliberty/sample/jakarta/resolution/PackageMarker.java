@@ -0,0 +1,4 @@
+package io.openliberty.sample.jakarta.resolution;
+
+public @interface PackageMarker {
+}
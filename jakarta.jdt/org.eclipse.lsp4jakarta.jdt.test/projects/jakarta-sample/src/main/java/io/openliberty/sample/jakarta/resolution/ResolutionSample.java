@@ -0,0 +1,25 @@
+package io.openliberty.sample.jakarta.resolution;
+
+import static java.util.Map.Entry;
+
+import jakarta.inject.*;
+
+public class ResolutionSample extends BaseResolution {
+
+	@Marker
+	private String inherited;
+
+	@PackageMarker
+	private String samePackage;
+
+	@Named
+	private String onDemand;
+
+	@Inject
+	private String shadowed;
+
+	private Entry<String, String> staticImport;
+
+	public @interface Inject {
+	}
+}
@@ -31,6 +31,7 @@ import org.eclipse.lsp4j.DiagnosticSeverity;
 import org.eclipse.lsp4j.TextEdit;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
 import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
 import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
 import org.eclipse.lsp4jakarta.jdt.test.core.BaseJakartaTest;
@@ -77,6 +78,30 @@ public class ManagedBeanTest extends BaseJakartaTest {
         assertJavaCodeAction(codeActionParams2, IJDT_UTILS, ca3);
     }
 
+    @Test
+    public void managedBeanAnnotationsWithParallelParticipants() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(new Path("src/main/java/io/openliberty/sample/jakarta/cdi/ManagedBean.java"));
+        String uri = javaFile.getLocation().toFile().toURI().toString();
+
+        JakartaJavaDiagnosticsSettings settings = new JakartaJavaDiagnosticsSettings(null);
+        settings.setParallelParticipants(true);
+        JakartaJavaDiagnosticsParams diagnosticsParams = new JakartaJavaDiagnosticsParams(Arrays.asList(uri), settings);
+
+        // same diagnostics, in the same order, as the sequential collection
+        Diagnostic d1 = d(9, 12, 13,
+                          "The @Dependent annotation must be the only scope defined by a managed bean with a non-static public field.",
+                          DiagnosticSeverity.Error, "jakarta-cdi", "InvalidManagedBeanWithNonStaticPublicField");
+        Diagnostic d2 = d(6, 12, 13,
+                          "The @Dependent annotation must be the only scope defined by a managed bean with a non-static public field.",
+                          DiagnosticSeverity.Error, "jakarta-cdi", "InvalidManagedBeanWithNonStaticPublicField");
+        Diagnostic d3 = d(5, 13, 24,
+                          "The @Dependent annotation must be the only scope defined by a Managed bean class of generic type.",
+                          DiagnosticSeverity.Error, "jakarta-cdi", "InvalidGenericManagedBeanClassWithNoDependentScope");
+
+        assertJavaDiagnostics(diagnosticsParams, IJDT_UTILS, d1, d2, d3);
+    }
+
     @Test
     public void ManagedBeanWithDependent() throws Exception {
         IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
@@ -0,0 +1,153 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.te;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.ResourceOperation;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaBulkQuickFixResult;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.junit.Test;
+
+/**
+ * Tests the jakarta/java/bulkQuickFix request, which fixes the diagnostics with
+ * a given code in all the Java files of a project, by chunks of Java files.
+ */
+public class BulkQuickFixTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final String CODE = "ResourceMethodMultipleEntityParams";
+
+    private static final String FIXED_FILE = "MultipleEntityParamsResourceMethod.java";
+
+    @Test
+    public void wholeProject() throws Exception {
+        String uri = getUri();
+
+        JakartaJavaBulkQuickFixResult result = bulkQuickFix(uri, CODE, null, 0, 0);
+        assertEquals(2, result.getFixedDiagnostics());
+        assertEquals(1, result.getFixedFiles());
+        assertTrue(result.getTotalFiles() > 1);
+        assertEquals(-1, result.getNextOffset());
+        // the most relevant quick fix of each diagnostic
+        assertEquals(Arrays.asList(te(22, 112, 22, 130, ""), te(34, 56, 34, 77, "")), getTextEdits(result.getEdit(), FIXED_FILE));
+    }
+
+    @Test
+    public void chunks() throws Exception {
+        String uri = getUri();
+        int limit = 5;
+
+        int offset = 0;
+        int fixedDiagnostics = 0;
+        int fixedFiles = 0;
+        int chunks = 0;
+        List<TextEdit> textEdits = new ArrayList<>();
+        JakartaJavaBulkQuickFixResult result;
+        do {
+            result = bulkQuickFix(uri, CODE, null, offset, limit);
+            fixedDiagnostics += result.getFixedDiagnostics();
+            fixedFiles += result.getFixedFiles();
+            textEdits.addAll(getTextEdits(result.getEdit(), FIXED_FILE));
+            if (result.getNextOffset() != -1) {
+                assertEquals(offset + limit, result.getNextOffset());
+            }
+            offset = result.getNextOffset();
+            chunks++;
+        } while (offset != -1);
+
+        assertEquals((result.getTotalFiles() + limit - 1) / limit, chunks);
+        assertEquals(2, fixedDiagnostics);
+        assertEquals(1, fixedFiles);
+        assertEquals(Arrays.asList(te(22, 112, 22, 130, ""), te(34, 56, 34, 77, "")), textEdits);
+    }
+
+    @Test
+    public void otherSource() throws Exception {
+        JakartaJavaBulkQuickFixResult result = bulkQuickFix(getUri(), CODE, "jakarta-cdi", 0, 0);
+        assertEquals(0, result.getFixedDiagnostics());
+        assertEquals(0, result.getFixedFiles());
+        assertTrue(getTextEdits(result.getEdit(), FIXED_FILE).isEmpty());
+    }
+
+    @Test
+    public void unknownProject() throws Exception {
+        assertNull(bulkQuickFix("file:///unknown/Unknown.java", CODE, null, 0, 0));
+    }
+
+    private static JakartaJavaBulkQuickFixResult bulkQuickFix(String uri, String code, String source, int offset, int limit) throws Exception {
+        JakartaJavaBulkQuickFixParams params = new JakartaJavaBulkQuickFixParams();
+        params.setUri(uri);
+        params.setCode(code);
+        params.setSource(source);
+        params.setOffset(offset);
+        params.setLimit(limit);
+        params.setParallelism(2);
+        params.setResourceOperationSupported(true);
+        JakartaJavaBulkQuickFixResult result = PropertiesManagerForJava.getInstance().bulkQuickFix(params, IJDT_UTILS, new NullProgressMonitor());
+        if (result != null) {
+            assertNotNull(result.getEdit());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the text edits of the given Java file in the given workspace edit.
+     */
+    private static List<TextEdit> getTextEdits(WorkspaceEdit edit, String fileName) {
+        List<TextEdit> textEdits = new ArrayList<>();
+        if (edit.getDocumentChanges() != null) {
+            for (Either<TextDocumentEdit, ResourceOperation> documentChange : edit.getDocumentChanges()) {
+                if (documentChange.isLeft() && documentChange.getLeft().getTextDocument().getUri().endsWith(fileName)) {
+                    textEdits.addAll(documentChange.getLeft().getEdits());
+                }
+            }
+        }
+        if (edit.getChanges() != null) {
+            edit.getChanges().forEach((uri, edits) -> {
+                if (uri.endsWith(fileName)) {
+                    textEdits.addAll(edits);
+                }
+            });
+        }
+        return textEdits;
+    }
+
+    private String getUri() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        // the Java file uri selects its project
+        IFile javaFile = javaProject.getProject().getFile(
+                                                          new Path("src/main/java/io/openliberty/sample/jakarta/jaxrs/" + FIXED_FILE));
+        return javaFile.getLocation().toFile().toURI().toString();
+    }
+}
@@ -0,0 +1,93 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4jakarta.jdt.internal.DiagnosticUtils;
+import org.junit.Test;
+
+/**
+ * Tests the name resolution of {@link DiagnosticUtils}, which combines the
+ * import table of the compilation unit with {@link IType#resolveType(String)}.
+ */
+public class DiagnosticUtilsTest extends BaseJakartaTest {
+
+    private static final String PACKAGE = "io.openliberty.sample.jakarta.resolution";
+
+    @Test
+    public void inheritedMemberType() throws Exception {
+        ICompilationUnit unit = getCompilationUnit();
+        IAnnotation annotation = getAnnotation(unit, "inherited");
+
+        assertTrue(DiagnosticUtils.isMatchedAnnotation(unit, annotation, PACKAGE + ".BaseResolution.Marker"));
+        assertFalse(DiagnosticUtils.isMatchedAnnotation(unit, annotation, "jakarta.ws.rs.Marker"));
+    }
+
+    @Test
+    public void samePackageType() throws Exception {
+        ICompilationUnit unit = getCompilationUnit();
+        IAnnotation annotation = getAnnotation(unit, "samePackage");
+
+        assertTrue(DiagnosticUtils.isMatchedAnnotation(unit, annotation, PACKAGE + ".PackageMarker"));
+        assertFalse(DiagnosticUtils.isMatchedAnnotation(unit, annotation, "jakarta.ejb.PackageMarker"));
+    }
+
+    @Test
+    public void onDemandImportAndJavaLang() throws Exception {
+        ICompilationUnit unit = getCompilationUnit();
+        IAnnotation annotation = getAnnotation(unit, "onDemand");
+        IType type = unit.getType("ResolutionSample");
+
+        assertTrue(DiagnosticUtils.isMatchedAnnotation(unit, annotation, "jakarta.inject.Named"));
+        assertFalse(DiagnosticUtils.isMatchedAnnotation(unit, annotation, "java.lang.Named"));
+        assertTrue(DiagnosticUtils.isMatchedJavaElement(type, "String", "java.lang.String"));
+    }
+
+    @Test
+    public void declaredTypeShadowsOnDemandImport() throws Exception {
+        ICompilationUnit unit = getCompilationUnit();
+        IAnnotation annotation = getAnnotation(unit, "shadowed");
+
+        assertFalse(DiagnosticUtils.isMatchedAnnotation(unit, annotation, "jakarta.inject.Inject"));
+        assertTrue(DiagnosticUtils.isMatchedAnnotation(unit, annotation, PACKAGE + ".ResolutionSample.Inject"));
+    }
+
+    @Test
+    public void staticImportOfMemberType() throws Exception {
+        ICompilationUnit unit = getCompilationUnit();
+        IType type = unit.getType("ResolutionSample");
+
+        assertTrue(DiagnosticUtils.isMatchedJavaElement(type, "Entry", "java.util.Map.Entry"));
+        assertFalse(DiagnosticUtils.isMatchedJavaElement(type, "Entry", "jakarta.inject.Entry"));
+    }
+
+    private ICompilationUnit getCompilationUnit() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(
+                                                          new Path("src/main/java/io/openliberty/sample/jakarta/resolution/ResolutionSample.java"));
+        return (ICompilationUnit) JavaCore.create(javaFile);
+    }
+
+    private static IAnnotation getAnnotation(ICompilationUnit unit, String fieldName) throws Exception {
+        return unit.getType("ResolutionSample").getField(fieldName).getAnnotations()[0];
+    }
+}
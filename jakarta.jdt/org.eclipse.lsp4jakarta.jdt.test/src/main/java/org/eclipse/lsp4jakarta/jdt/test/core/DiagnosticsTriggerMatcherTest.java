@@ -0,0 +1,99 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.DiagnosticsTriggerMatcher;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
+import org.junit.Test;
+
+/**
+ * Tests the selection of the diagnostics participants by the trigger tokens
+ * declared in <code>plugin.xml</code>.
+ */
+public class DiagnosticsTriggerMatcherTest extends BaseJakartaTest {
+
+    @Test
+    public void untriggeredDefinitionsOnly() {
+        List<JavaDiagnosticsDefinition> definitions = getDefinitions();
+        BitSet selected = getMatcher().match("public class Foo {\n    private String name;\n}\n");
+
+        for (int i = 0; i < definitions.size(); i++) {
+            assertEquals(definitions.get(i).getTriggers().length == 0, selected.get(i));
+        }
+    }
+
+    @Test
+    public void triggeredDefinition() {
+        List<JavaDiagnosticsDefinition> definitions = getDefinitions();
+        BitSet selected = getMatcher().match("@WebServlet(\"/hello\")\npublic class Foo extends HttpServlet {}\n");
+
+        assertTrue(selected.get(indexOf(definitions, "WebServlet")));
+        assertFalse(selected.get(indexOf(definitions, "WebFilter")));
+        assertFalse(selected.get(indexOf(definitions, "ServerEndpoint")));
+    }
+
+    @Test
+    public void anyTriggerOfDefinition() {
+        List<JavaDiagnosticsDefinition> definitions = getDefinitions();
+        BitSet selected = getMatcher().match("@ClientEndpoint\npublic class Foo {}\n");
+
+        assertTrue(selected.get(indexOf(definitions, "ServerEndpoint")));
+    }
+
+    @Test
+    public void overlappingTriggers() {
+        List<JavaDiagnosticsDefinition> definitions = getDefinitions();
+        // "MapKey" ends where "Json" starts, and "Entity" is found inside a longer name
+        BitSet selected = getMatcher().match("MapKeyJsonEntityManager");
+
+        assertTrue(selected.get(indexOf(definitions, "MapKey")));
+        assertTrue(selected.get(indexOf(definitions, "Json")));
+        assertTrue(selected.get(indexOf(definitions, "Entity")));
+        assertFalse(selected.get(indexOf(definitions, "WebListener")));
+    }
+
+    @Test
+    public void nonAsciiCharacters() {
+        List<JavaDiagnosticsDefinition> definitions = getDefinitions();
+        BitSet selected = getMatcher().match("// éè中\n@WebFilterépublic class Foo {}\n");
+
+        assertTrue(selected.get(indexOf(definitions, "WebFilter")));
+        assertFalse(selected.get(indexOf(definitions, "WebServlet")));
+    }
+
+    private static List<JavaDiagnosticsDefinition> getDefinitions() {
+        return JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions();
+    }
+
+    private static DiagnosticsTriggerMatcher getMatcher() {
+        return JavaFeaturesRegistry.getInstance().getDiagnosticsTriggerMatcher();
+    }
+
+    private static int indexOf(List<JavaDiagnosticsDefinition> definitions, String trigger) {
+        for (int i = 0; i < definitions.size(); i++) {
+            if (Arrays.asList(definitions.get(i).getTriggers()).contains(trigger)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("No diagnostics participant is triggered by '" + trigger + "'");
+    }
+}
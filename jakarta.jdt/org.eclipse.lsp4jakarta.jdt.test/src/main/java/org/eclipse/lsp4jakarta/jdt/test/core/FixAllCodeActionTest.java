@@ -0,0 +1,156 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.d;
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.r;
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.te;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.CodeAction;
+import org.eclipse.lsp4j.CodeActionContext;
+import org.eclipse.lsp4j.CodeActionKind;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4j.ResourceOperation;
+import org.eclipse.lsp4j.TextDocumentEdit;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextEdit;
+import org.eclipse.lsp4j.WorkspaceEdit;
+import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
+import org.eclipse.lsp4jakarta.commons.codeaction.CodeActionResolveData;
+import org.eclipse.lsp4jakarta.commons.codeaction.JakartaCodeActionKind;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.junit.Test;
+
+/**
+ * Tests the {@link JakartaCodeActionKind#SOURCE_FIX_ALL} code action, which
+ * applies the most relevant quick fix of each Jakarta problem of a Java file.
+ */
+public class FixAllCodeActionTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    @Test
+    public void fixAllResolved() throws Exception {
+        String uri = getUri("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java");
+
+        CodeAction fixAll = getFixAll(uri, JakartaCodeActionKind.SOURCE_FIX_ALL);
+        assertEquals("Fix all Jakarta problems", fixAll.getTitle());
+        assertNull(fixAll.getEdit());
+
+        CodeAction resolved = PropertiesManagerForJava.getInstance().resolveCodeAction(fixAll, IJDT_UTILS, new NullProgressMonitor());
+        Diagnostic d = d(20, 17, 30, "Only public methods can be exposed as resource methods.",
+                         DiagnosticSeverity.Error, "jakarta-jaxrs", "NonPublicResourceMethod");
+        assertEquals(1, resolved.getDiagnostics().size());
+        assertEquals(d.getRange(), resolved.getDiagnostics().get(0).getRange());
+        assertEquals(d.getCode(), resolved.getDiagnostics().get(0).getCode());
+        assertEquals(Arrays.asList(te(20, 4, 20, 11, "public")), getTextEdits(resolved.getEdit()));
+    }
+
+    @Test
+    public void fixAllMergesQuickFixes() throws Exception {
+        String uri = getUri("src/main/java/io/openliberty/sample/jakarta/jaxrs/MultipleEntityParamsResourceMethod.java");
+
+        // the parent kind requests the fix all code action too
+        CodeAction fixAll = getFixAll(uri, CodeActionKind.Source);
+
+        CodeAction resolved = PropertiesManagerForJava.getInstance().resolveCodeAction(fixAll, IJDT_UTILS, new NullProgressMonitor());
+        assertEquals(2, resolved.getDiagnostics().size());
+        assertEquals(Arrays.asList(te(22, 112, 22, 130, ""), te(34, 56, 34, 77, "")), getTextEdits(resolved.getEdit()));
+    }
+
+    @Test
+    public void noFixAllForQuickFixes() throws Exception {
+        String uri = getUri("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java");
+
+        List<? extends CodeAction> codeActions = getCodeActions(uri, CodeActionKind.QuickFix, null);
+        assertTrue(codeActions.stream().noneMatch(ca -> JakartaCodeActionKind.SOURCE_FIX_ALL.equals(ca.getKind())));
+    }
+
+    @Test
+    public void documentFormatInCacheKey() throws Exception {
+        String uri = getUri("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java");
+
+        // the same request with another document format is not served from the cache
+        CodeAction markdown = getFixAll(uri, JakartaCodeActionKind.SOURCE_FIX_ALL, DocumentFormat.Markdown);
+        assertEquals("Markdown", ((CodeActionResolveData) markdown.getData()).getExtendedDataEntry("documentFormat"));
+        CodeAction plainText = getFixAll(uri, JakartaCodeActionKind.SOURCE_FIX_ALL, DocumentFormat.PlainText);
+        assertEquals("PlainText", ((CodeActionResolveData) plainText.getData()).getExtendedDataEntry("documentFormat"));
+    }
+
+    private CodeAction getFixAll(String uri, String only) throws Exception {
+        return getFixAll(uri, only, null);
+    }
+
+    private CodeAction getFixAll(String uri, String only, DocumentFormat documentFormat) throws Exception {
+        List<CodeAction> fixAll = new ArrayList<>();
+        for (CodeAction codeAction : getCodeActions(uri, only, documentFormat)) {
+            if (JakartaCodeActionKind.SOURCE_FIX_ALL.equals(codeAction.getKind())) {
+                fixAll.add(codeAction);
+            }
+        }
+        assertEquals(1, fixAll.size());
+        assertNotNull(fixAll.get(0).getData());
+        return fixAll.get(0);
+    }
+
+    private static List<? extends CodeAction> getCodeActions(String uri, String only, DocumentFormat documentFormat) throws Exception {
+        CodeActionContext context = new CodeActionContext(Collections.emptyList(), Arrays.asList(only));
+        JakartaJavaCodeActionParams params = new JakartaJavaCodeActionParams(new TextDocumentIdentifier(uri), r(0, 0, 0), context);
+        params.setResourceOperationSupported(true);
+        params.setResolveSupported(true);
+        if (documentFormat != null) {
+            params.setDocumentFormat(documentFormat);
+        }
+        return PropertiesManagerForJava.getInstance().codeAction(params, IJDT_UTILS, new NullProgressMonitor());
+    }
+
+    private static List<TextEdit> getTextEdits(WorkspaceEdit edit) {
+        List<TextEdit> textEdits = new ArrayList<>();
+        if (edit.getDocumentChanges() != null) {
+            for (Either<TextDocumentEdit, ResourceOperation> documentChange : edit.getDocumentChanges()) {
+                if (documentChange.isLeft()) {
+                    textEdits.addAll(documentChange.getLeft().getEdits());
+                }
+            }
+        }
+        if (edit.getChanges() != null) {
+            edit.getChanges().values().forEach(textEdits::addAll);
+        }
+        textEdits.forEach(te -> te.setNewText(JakartaForJavaAssert.replaceNewLineCharacters(te.getNewText())));
+        return textEdits;
+    }
+
+    private String getUri(String path) throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(new Path(path));
+        return javaFile.getLocation().toFile().toURI().toString();
+    }
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.JavaFeaturesRegistry;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IncrementalJavaDiagnostics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsDefinition;
+import org.junit.Test;
+
+/**
+ * Tests the reuse of the diagnostics of the participants which read the
+ * declarations only, by {@link IncrementalJavaDiagnostics}.
+ */
+public class IncrementalJavaDiagnosticsTest extends BaseJakartaTest {
+
+    private static final String SOURCE = "package io.openliberty.sample.jakarta.jaxrs;\n" + //
+                                         "\n" + //
+                                         "import jakarta.ws.rs.HEAD;\n" + //
+                                         "\n" + //
+                                         "public class NotPublicResourceMethod {\n" + //
+                                         "\n" + //
+                                         "    @HEAD\n" + //
+                                         "    private void privateMethod() {\n" + //
+                                         "    }\n" + //
+                                         "\n" + //
+                                         "    @HEAD\n" + //
+                                         "    private void otherMethod() {\n" + //
+                                         "    }\n" + //
+                                         "}\n";
+
+    @Test
+    public void bodyOnlyEditReusesMovedDiagnostics() throws Exception {
+        ICompilationUnit workingCopy = getWorkingCopy();
+        try {
+            String uri = getUri(workingCopy);
+            JavaDiagnosticsDefinition definition = getDeclarationsOnlyDefinition();
+            putDiagnostic(uri, workingCopy, definition, JakartaForJavaAssert.d(11, 17, 28, "otherMethod", DiagnosticSeverity.Error, "jakarta-jaxrs", "NonPublicResourceMethod"));
+
+            // Add a line to the body of privateMethod
+            int offset = SOURCE.indexOf("privateMethod() {\n") + "privateMethod() {\n".length();
+            setContents(workingCopy, SOURCE.substring(0, offset) + "        int i = 0;\n" + SOURCE.substring(offset));
+
+            List<Diagnostic> diagnostics = getDiagnostics(uri, workingCopy, definition);
+            assertNotNull(diagnostics);
+            assertEquals(1, diagnostics.size());
+            Diagnostic diagnostic = diagnostics.get(0);
+            assertEquals(12, diagnostic.getRange().getStart().getLine());
+            assertEquals(17, diagnostic.getRange().getStart().getCharacter());
+            assertEquals(12, diagnostic.getRange().getEnd().getLine());
+            assertEquals(28, diagnostic.getRange().getEnd().getCharacter());
+            assertEquals("otherMethod", diagnostic.getMessage());
+        } finally {
+            workingCopy.discardWorkingCopy();
+        }
+    }
+
+    @Test
+    public void signatureEditDoesNotReuseDiagnostics() throws Exception {
+        ICompilationUnit workingCopy = getWorkingCopy();
+        try {
+            String uri = getUri(workingCopy);
+            JavaDiagnosticsDefinition definition = getDeclarationsOnlyDefinition();
+            putDiagnostic(uri, workingCopy, definition, JakartaForJavaAssert.d(11, 17, 28, "otherMethod", DiagnosticSeverity.Error, "jakarta-jaxrs", "NonPublicResourceMethod"));
+
+            setContents(workingCopy, SOURCE.replace("otherMethod()", "otherMethod(int i)"));
+
+            assertNull(getDiagnostics(uri, workingCopy, definition));
+        } finally {
+            workingCopy.discardWorkingCopy();
+        }
+    }
+
+    private ICompilationUnit getWorkingCopy() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(
+                                                          new Path("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java"));
+        ICompilationUnit workingCopy = ((ICompilationUnit) JavaCore.create(javaFile)).getWorkingCopy(null);
+        setContents(workingCopy, SOURCE);
+        return workingCopy;
+    }
+
+    private static String getUri(ICompilationUnit workingCopy) {
+        return workingCopy.getResource().getLocation().toFile().toURI().toString();
+    }
+
+    private static void setContents(ICompilationUnit workingCopy, String contents) throws Exception {
+        workingCopy.getBuffer().setContents(contents);
+        workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+    }
+
+    private static JavaDiagnosticsDefinition getDeclarationsOnlyDefinition() {
+        for (JavaDiagnosticsDefinition definition : JavaFeaturesRegistry.getInstance().getJavaDiagnosticsDefinitions()) {
+            if (definition.isDeclarationsOnly()) {
+                return definition;
+            }
+        }
+        throw new IllegalStateException("No diagnostics participant reads the declarations only");
+    }
+
+    private static void putDiagnostic(String uri, ICompilationUnit workingCopy, JavaDiagnosticsDefinition definition,
+                                      Diagnostic diagnostic) {
+        IncrementalJavaDiagnostics.Outline outline = createOutline(uri, workingCopy);
+        assertNotNull(outline);
+        IncrementalJavaDiagnostics.getInstance().put(outline, Collections.singletonMap(definition, Collections.singletonList(diagnostic)));
+    }
+
+    private static List<Diagnostic> getDiagnostics(String uri, ICompilationUnit workingCopy, JavaDiagnosticsDefinition definition) {
+        IncrementalJavaDiagnostics.Outline outline = createOutline(uri, workingCopy);
+        assertNotNull(outline);
+        return IncrementalJavaDiagnostics.getInstance().get(outline, definition);
+    }
+
+    private static IncrementalJavaDiagnostics.Outline createOutline(String uri, ICompilationUnit workingCopy) {
+        JavaDiagnosticsCache.Key key = JavaDiagnosticsCache.getInstance().createKey(uri, workingCopy, DocumentFormat.Markdown, null);
+        return IncrementalJavaDiagnostics.getInstance().createOutline(uri, workingCopy, key);
+    }
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.eclipse.lsp4jakarta.jdt.test.core.JakartaForJavaAssert.d;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticSeverity;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.junit.Test;
+
+/**
+ * Tests the diagnostics cache keyed by the content of a Java file, the
+ * settings and the stamps of the Java projects.
+ */
+public class JavaDiagnosticsCacheTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    private static final String CACHED_FILE = "src/main/java/io/openliberty/sample/jakarta/jaxrs/NoPublicConstructorClass.java";
+
+    private static final String OTHER_FILE = "src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java";
+
+    private static final List<Diagnostic> DIAGNOSTICS = Arrays.asList(d(0, 0, 7, "message", DiagnosticSeverity.Error, "jakarta-jaxrs", "code"));
+
+    @Test
+    public void cachedForSameContentAndSettings() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        String uri = put(javaProject, DocumentFormat.Markdown);
+
+        assertEquals(DIAGNOSTICS, JavaDiagnosticsCache.getInstance().get(uri, IJDT_UTILS, DocumentFormat.Markdown, null));
+        assertNull(JavaDiagnosticsCache.getInstance().get(uri, IJDT_UTILS, DocumentFormat.PlainText, null));
+    }
+
+    @Test
+    public void invalidatedByStructuralChange() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        String uri = put(javaProject, DocumentFormat.Markdown);
+        long stamp = JavaDiagnosticsCache.getInstance().getProjectStamp(javaProject);
+
+        ICompilationUnit workingCopy = getWorkingCopy(javaProject, OTHER_FILE);
+        try {
+            String contents = workingCopy.getBuffer().getContents();
+            int offset = contents.lastIndexOf('}');
+            workingCopy.getBuffer().replace(offset, 0, "    private String field;\n");
+            workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+            assertNotEquals(stamp, JavaDiagnosticsCache.getInstance().getProjectStamp(javaProject));
+            assertNull(JavaDiagnosticsCache.getInstance().get(uri, IJDT_UTILS, DocumentFormat.Markdown, null));
+        } finally {
+            workingCopy.discardWorkingCopy();
+        }
+    }
+
+    @Test
+    public void keptAfterBodyChange() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        ICompilationUnit workingCopy = getWorkingCopy(javaProject, OTHER_FILE);
+        try {
+            String uri = put(javaProject, DocumentFormat.Markdown);
+            long stamp = JavaDiagnosticsCache.getInstance().getProjectStamp(javaProject);
+
+            String contents = workingCopy.getBuffer().getContents();
+            int offset = contents.indexOf("privateMethod() {") + "privateMethod() {".length();
+            workingCopy.getBuffer().replace(offset, 0, "\n        int i = 0;");
+            workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+            assertEquals(stamp, JavaDiagnosticsCache.getInstance().getProjectStamp(javaProject));
+            assertNotNull(JavaDiagnosticsCache.getInstance().get(uri, IJDT_UTILS, DocumentFormat.Markdown, null));
+        } finally {
+            workingCopy.discardWorkingCopy();
+        }
+    }
+
+    private static String put(IJavaProject javaProject, DocumentFormat documentFormat) throws Exception {
+        IFile javaFile = javaProject.getProject().getFile(new Path(CACHED_FILE));
+        String uri = javaFile.getLocation().toFile().toURI().toString();
+        ICompilationUnit unit = (ICompilationUnit) JavaCore.create(javaFile);
+        JavaDiagnosticsCache.Key key = JavaDiagnosticsCache.getInstance().createKey(uri, unit, documentFormat, null);
+        assertNotNull(key);
+        JavaDiagnosticsCache.getInstance().put(key, DIAGNOSTICS);
+        return uri;
+    }
+
+    private static ICompilationUnit getWorkingCopy(IJavaProject javaProject, String path) throws Exception {
+        IFile javaFile = javaProject.getProject().getFile(new Path(path));
+        ICompilationUnit unit = (ICompilationUnit) JavaCore.create(javaFile);
+        // a primary working copy, like the documents opened in the client
+        unit.becomeWorkingCopy(null);
+        return unit;
+    }
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.core.utils.LineStartTable;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.junit.Test;
+
+/**
+ * Tests the conversion of offsets to LSP positions by {@link LineStartTable}.
+ */
+public class LineStartTableTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    @Test
+    public void lineDelimiters() {
+        // "\n", "\r\n" and "\r" delimiters, and an empty last line
+        LineStartTable table = LineStartTable.create("a\nbc\r\nd\re\n");
+
+        assertEquals(5, table.getLineCount());
+        assertEquals(0, table.getLineStart(0));
+        assertEquals(2, table.getLineStart(1));
+        assertEquals(6, table.getLineStart(2));
+        assertEquals(8, table.getLineStart(3));
+        assertEquals(10, table.getLineStart(4));
+        assertEquals(-1, table.getLineStart(5));
+        assertEquals(-1, table.getLineStart(-1));
+
+        assertEquals(new Position(1, 2), table.toPosition(4));
+        // the "\n" of "\r\n" is on the line of the "\r"
+        assertEquals(new Position(1, 3), table.toPosition(5));
+        assertEquals(new Position(2, 0), table.toPosition(6));
+        assertEquals(new Position(3, 0), table.toPosition(8));
+        assertEquals(new Position(4, 0), table.toPosition(10));
+    }
+
+    @Test
+    public void offsetOutOfText() {
+        LineStartTable table = LineStartTable.create("ab\ncd");
+
+        assertEquals(new Position(1, 2), table.toPosition(5));
+        assertNull(table.toPosition(6));
+        assertNull(table.toPosition(-1));
+
+        assertEquals(new Range(new Position(1, 0), new Position(1, 2)), table.toRange(3, 2));
+        assertEquals(new Range(new Position(1, 1), new Position(0, 0)), table.toRange(4, 10));
+        assertEquals(new Range(new Position(0, 0), new Position(0, 0)), table.toRange(0, 0));
+    }
+
+    @Test
+    public void sameRangesAsJDTUtils() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(
+                                                          new Path("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java"));
+        ICompilationUnit unit = (ICompilationUnit) JavaCore.create(javaFile);
+        String source = unit.getSource();
+        LineStartTable table = LineStartTable.create(source);
+
+        for (int offset = 0; offset <= source.length() + 1; offset++) {
+            for (int length = 0; length <= 3; length++) {
+                assertEquals("Range of " + offset + ", " + length, IJDT_UTILS.toRange(unit, offset, length), table.toRange(offset, length));
+            }
+        }
+    }
+}
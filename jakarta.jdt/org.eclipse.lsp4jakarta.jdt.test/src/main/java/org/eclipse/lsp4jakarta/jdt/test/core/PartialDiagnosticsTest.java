@@ -0,0 +1,114 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.jdt.test.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.DocumentFormat;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.jdt.core.PropertiesManagerForJava;
+import org.eclipse.lsp4jakarta.jdt.core.utils.IJDTUtils;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.IncrementalJavaDiagnostics;
+import org.eclipse.lsp4jakarta.jdt.internal.core.java.diagnostics.JavaDiagnosticsCache;
+import org.eclipse.lsp4jakarta.jdt.internal.core.ls.JDTUtilsLSImpl;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the partial diagnostics returned when the time budget of the settings
+ * is spent before all the diagnostics participants are called.
+ */
+public class PartialDiagnosticsTest extends BaseJakartaTest {
+
+    protected static IJDTUtils IJDT_UTILS = JDTUtilsLSImpl.getInstance();
+
+    /**
+     * Monitor which spends more than the 1ms time budget each time the
+     * cancellation is checked, which is done before each participant is called.
+     */
+    private static class SlowMonitor extends NullProgressMonitor {
+
+        @Override
+        public boolean isCanceled() {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.isCanceled();
+        }
+    }
+
+    @Before
+    public void clearCaches() {
+        JavaDiagnosticsCache.getInstance().clear();
+        IncrementalJavaDiagnostics.getInstance().clear();
+    }
+
+    @Test
+    public void budgetSpent() throws Exception {
+        String uri = getUri();
+
+        JakartaPublishDiagnosticsParams partial = diagnostics(uri, 1, new SlowMonitor());
+        assertTrue(partial.isPartial());
+        // partial diagnostics are not cached
+        assertNull(JavaDiagnosticsCache.getInstance().get(uri, IJDT_UTILS, DocumentFormat.Markdown, createSettings(1)));
+
+        JakartaPublishDiagnosticsParams complete = diagnostics(uri, 0, new NullProgressMonitor());
+        assertFalse(complete.isPartial());
+        assertTrue(complete.getDiagnostics().containsAll(partial.getDiagnostics()));
+    }
+
+    @Test
+    public void noBudget() throws Exception {
+        String uri = getUri();
+
+        JakartaPublishDiagnosticsParams complete = diagnostics(uri, 0, new SlowMonitor());
+        assertFalse(complete.isPartial());
+        assertEquals(1, complete.getDiagnostics().size());
+    }
+
+    private static JakartaPublishDiagnosticsParams diagnostics(String uri, int timeBudget, NullProgressMonitor monitor) throws Exception {
+        JakartaJavaDiagnosticsParams params = new JakartaJavaDiagnosticsParams(Arrays.asList(uri), createSettings(timeBudget));
+        params.setDocumentFormat(DocumentFormat.Markdown);
+        List<PublishDiagnosticsParams> diagnostics = PropertiesManagerForJava.getInstance().diagnostics(params, IJDT_UTILS, monitor);
+        assertEquals(1, diagnostics.size());
+        return (JakartaPublishDiagnosticsParams) diagnostics.get(0);
+    }
+
+    private static JakartaJavaDiagnosticsSettings createSettings(int timeBudget) {
+        JakartaJavaDiagnosticsSettings settings = new JakartaJavaDiagnosticsSettings(null);
+        settings.setTimeBudget(timeBudget);
+        return settings;
+    }
+
+    private String getUri() throws Exception {
+        IJavaProject javaProject = loadJavaProject("jakarta-sample", "");
+        IFile javaFile = javaProject.getProject().getFile(
+                                                          new Path("src/main/java/io/openliberty/sample/jakarta/jaxrs/NotPublicResourceMethod.java"));
+        return javaFile.getLocation().toFile().toURI().toString();
+    }
+}
@@ -28,7 +28,6 @@ import org.eclipse.lsp4j.SetTraceParams;
 import org.eclipse.lsp4j.jsonrpc.CompletableFutures;
 import org.eclipse.lsp4j.services.LanguageClient;
 import org.eclipse.lsp4j.services.LanguageServer;
-import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4j.services.WorkspaceService;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfo;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaFileInfoParams;
@@ -45,6 +44,7 @@ import org.eclipse.lsp4jakarta.settings.AllJakartaSettings;
 import org.eclipse.lsp4jakarta.settings.InitializationOptionsSettings;
 import org.eclipse.lsp4jakarta.settings.JakartaGeneralClientSettings;
 import org.eclipse.lsp4jakarta.settings.JakartaTraceSettings;
+import org.eclipse.lsp4jakarta.settings.JakartaValidationSettings;
 import org.eclipse.lsp4jakarta.settings.SharedSettings;
 import org.eclipse.lsp4jakarta.settings.capabilities.JakartaCapabilityManager;
 import org.eclipse.lsp4jakarta.settings.capabilities.ServerCapabilitiesInitializer;
@@ -129,6 +129,10 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
             if (newTrace != null) {
                 textDocumentService.updateTraceSettings(newTrace);
             }
+            JakartaValidationSettings newValidation = clientSettings.getValidation();
+            if (newValidation != null) {
+                textDocumentService.updateValidationSettings(newValidation);
+            }
         }
     }
 
@@ -170,7 +174,7 @@ public class JakartaLanguageServer implements LanguageServer, ProcessLanguageSer
      * {@inheritDoc}
      */
     @Override
-    public TextDocumentService getTextDocumentService() {
+    public JakartaTextDocumentService getTextDocumentService() {
         return this.textDocumentService;
     }
 
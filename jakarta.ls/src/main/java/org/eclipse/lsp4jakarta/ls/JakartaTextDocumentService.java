@@ -16,9 +16,18 @@ package org.eclipse.lsp4jakarta.ls;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -30,16 +39,30 @@ import org.eclipse.lsp4j.CompletionItem;
 import org.eclipse.lsp4j.CompletionList;
 import org.eclipse.lsp4j.CompletionParams;
 import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticServerCancellationData;
 import org.eclipse.lsp4j.DidChangeTextDocumentParams;
 import org.eclipse.lsp4j.DidCloseTextDocumentParams;
 import org.eclipse.lsp4j.DidOpenTextDocumentParams;
 import org.eclipse.lsp4j.DidSaveTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
 import org.eclipse.lsp4j.Hover;
 import org.eclipse.lsp4j.HoverParams;
 import org.eclipse.lsp4j.MarkupKind;
+import org.eclipse.lsp4j.PreviousResultId;
 import org.eclipse.lsp4j.PublishDiagnosticsParams;
+import org.eclipse.lsp4j.RelatedFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.RelatedUnchangedDocumentDiagnosticReport;
 import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceFullDocumentDiagnosticReport;
+import org.eclipse.lsp4j.WorkspaceUnchangedDocumentDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
 import org.eclipse.lsp4j.jsonrpc.messages.Either;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
 import org.eclipse.lsp4j.services.TextDocumentService;
 import org.eclipse.lsp4jakarta.commons.DocumentFormat;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCodeActionParams;
@@ -47,6 +70,7 @@ import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaCompletionResult;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsSettings;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
 import org.eclipse.lsp4jakarta.commons.JavaCursorContextResult;
 import org.eclipse.lsp4jakarta.ls.commons.BadLocationException;
 import org.eclipse.lsp4jakarta.ls.commons.TextDocument;
@@ -56,6 +80,7 @@ import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments;
 import org.eclipse.lsp4jakarta.ls.java.JakartaTextDocuments.JakartaTextDocument;
 import org.eclipse.lsp4jakarta.ls.java.JavaTextDocumentSnippetRegistry;
 import org.eclipse.lsp4jakarta.settings.JakartaTraceSettings;
+import org.eclipse.lsp4jakarta.settings.JakartaValidationSettings;
 import org.eclipse.lsp4jakarta.settings.SharedSettings;
 import org.eclipse.lsp4jakarta.snippets.JavaSnippetCompletionContext;
 import org.eclipse.lsp4jakarta.snippets.SnippetContextForJava;
@@ -64,6 +89,9 @@ public class JakartaTextDocumentService implements TextDocumentService {
 
     private static final Logger LOGGER = Logger.getLogger(JakartaTextDocumentService.class.getName());
 
+    /** Delay in milliseconds before the follow-up validation of partial diagnostics. */
+    private static final long FOLLOW_UP_VALIDATION_DELAY = 1000;
+
     private final JakartaLanguageServer jakartaLanguageServer;
     private final SharedSettings sharedSettings;
 
@@ -72,10 +100,31 @@ public class JakartaTextDocumentService implements TextDocumentService {
 
     private ValidatorDelayer<JakartaTextDocument> validatorDelayer;
 
+    // Number of validations triggered per uri, used to drop outdated follow-up
+    // validations
+    private final Map<String, Integer> validationGenerations;
+
+    // In-flight diagnostics requests per uri, canceled when a newer version of
+    // the document is validated
+    private final Map<String, CompletableFuture<?>> pendingDiagnosticsRequests;
+
+    // Incremented when a change may affect the diagnostics of all the opened
+    // documents (saved file, validation settings). With the document version,
+    // it makes the result id of pulled diagnostics.
+    private final AtomicInteger dependencyStamp;
+
+    // Completed when the diagnostics of an opened document may have changed,
+    // used to hold workspace/diagnostic requests which have nothing new to report
+    private final AtomicReference<CompletableFuture<Void>> diagnosticsChanged;
+
     public JakartaTextDocumentService(JakartaLanguageServer jls, SharedSettings sharedSettings, JakartaTextDocuments jakartaTextDocuments) {
         this.jakartaLanguageServer = jls;
         this.sharedSettings = sharedSettings;
         this.documents = jakartaTextDocuments;
+        this.validationGenerations = new ConcurrentHashMap<>();
+        this.pendingDiagnosticsRequests = new ConcurrentHashMap<>();
+        this.dependencyStamp = new AtomicInteger();
+        this.diagnosticsChanged = new AtomicReference<>(new CompletableFuture<>());
         this.validatorDelayer = new ValidatorDelayer<>((javaTextDocument) -> {
             triggerValidationFor(javaTextDocument);
         });
@@ -85,6 +134,13 @@ public class JakartaTextDocumentService implements TextDocumentService {
     public void didClose(DidCloseTextDocumentParams params) {
         documents.onDidCloseTextDocument(params);
         String uri = params.getTextDocument().getUri();
+        validationGenerations.remove(uri);
+        validatorDelayer.cleanPendingValidation(uri);
+        cancelPendingDiagnostics(uri);
+        if (isPullDiagnostics()) {
+            notifyDiagnosticsChanged();
+            return;
+        }
         // clear diagnostics
         jakartaLanguageServer.getLanguageClient().publishDiagnostics(new PublishDiagnosticsParams(uri, new ArrayList<Diagnostic>()));
     }
@@ -163,6 +219,10 @@ public class JakartaTextDocumentService implements TextDocumentService {
         codeActionParams.setContext(params.getContext());
         codeActionParams.setResourceOperationSupported(jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isResourceOperationSupported());
         codeActionParams.setResolveSupported(jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isCodeActionResolveSupported());
+        // The fix all code action collects the diagnostics of the document as the
+        // validation does, without time budget
+        codeActionParams.setDiagnosticsSettings(createJavaDiagnosticsSettings(false));
+        codeActionParams.setDocumentFormat(getDiagnosticsDocumentFormat());
 
         // Pass the JakartaJavaCodeActionParams to IDE client, to be forwarded to the
         // JDT LS extension.
@@ -187,6 +247,221 @@ public class JakartaTextDocumentService implements TextDocumentService {
         return CompletableFuture.completedFuture(null);
     }
 
+    /**
+     * Returns the diagnostics of the given Java file pulled by the client.
+     *
+     * <p>
+     * The report has a result id made of the document version and of the
+     * dependency stamp. When the client sends back the result id of the current
+     * state, the diagnostics are not computed and an unchanged report is
+     * returned.
+     * </p>
+     */
+    @Override
+    public CompletableFuture<DocumentDiagnosticReport> diagnostic(DocumentDiagnosticParams params) {
+        String uri = params.getTextDocument().getUri();
+        JakartaTextDocument document = documents.get(uri);
+        if (document == null) {
+            return CompletableFuture.completedFuture(new DocumentDiagnosticReport(new RelatedFullDocumentDiagnosticReport(new ArrayList<>())));
+        }
+        String resultId = getResultId(document);
+        if (resultId.equals(params.getPreviousResultId())) {
+            return CompletableFuture.completedFuture(new DocumentDiagnosticReport(new RelatedUnchangedDocumentDiagnosticReport(resultId)));
+        }
+        RelatedFullDocumentDiagnosticReport emptyReport = new RelatedFullDocumentDiagnosticReport(new ArrayList<>());
+        emptyReport.setResultId(resultId);
+        return document.executeIfInJakartaProject((projectInfo, cancelChecker) -> {
+            return pullJavaDiagnostics(uri).handle((diagnostics, error) -> {
+                if (isCancellation(error) || (error == null && (diagnostics == null || diagnostics.isEmpty()))) {
+                    // The validation was canceled, the client must pull again
+                    throw createServerCancelledError(uri);
+                }
+                if (error != null) {
+                    throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+                }
+                JakartaPublishDiagnosticsParams diagnostic = diagnostics.get(0);
+                RelatedFullDocumentDiagnosticReport report = new RelatedFullDocumentDiagnosticReport(diagnostic.getDiagnostics());
+                if (!diagnostic.isPartial()) {
+                    report.setResultId(resultId);
+                }
+                return new DocumentDiagnosticReport(report);
+            });
+        }, new DocumentDiagnosticReport(emptyReport), true);
+    }
+
+    /**
+     * Returns the diagnostics of the opened Java files which belong to a Jakarta
+     * project, pulled by the client with workspace/diagnostic.
+     *
+     * <p>
+     * Only the files whose result id changed since the given previous result ids
+     * are validated, the others get an unchanged report. When no file changed,
+     * the response is held until an opened file changes.
+     * </p>
+     *
+     * @param params the workspace diagnostic parameters.
+     * @return the diagnostics reports of the opened Java files.
+     */
+    public CompletableFuture<WorkspaceDiagnosticReport> workspaceDiagnostic(WorkspaceDiagnosticParams params) {
+        CompletableFuture<WorkspaceDiagnosticReport> response = new CompletableFuture<>();
+        collectWorkspaceDiagnostics(params, response);
+        return response;
+    }
+
+    /**
+     * Completes the given response of the workspace/diagnostic request with the
+     * diagnostics of the opened Java files, or waits for an opened file to change
+     * when no file changed. Nothing is collected once the response is canceled by
+     * the client.
+     */
+    private void collectWorkspaceDiagnostics(WorkspaceDiagnosticParams params, CompletableFuture<WorkspaceDiagnosticReport> response) {
+        if (response.isDone()) {
+            return;
+        }
+        CompletableFuture<Void> changed = diagnosticsChanged.get();
+        Map<String, String> previousResultIds = new HashMap<>();
+        if (params.getPreviousResultIds() != null) {
+            for (PreviousResultId previousResultId : params.getPreviousResultIds()) {
+                previousResultIds.put(previousResultId.getUri(), previousResultId.getValue());
+            }
+        }
+
+        // Keep the opened documents which belong to a Jakarta project
+        List<CompletableFuture<JakartaTextDocument>> jakartaDocuments = documents.all().stream() //
+                        .map(document -> document.executeIfInJakartaProject((projectInfo, cancelChecker) -> CompletableFuture.completedFuture(document), null, true)) //
+                        .collect(Collectors.toList());
+        CompletableFuture.allOf(jakartaDocuments.toArray(new CompletableFuture[jakartaDocuments.size()])).thenCompose(unused -> {
+            if (response.isDone()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            List<WorkspaceDocumentDiagnosticReport> items = new ArrayList<>();
+            List<String> uris = new ArrayList<>();
+            Map<String, String> resultIds = new HashMap<>();
+            Map<String, Integer> versions = new HashMap<>();
+            for (CompletableFuture<JakartaTextDocument> jakartaDocument : jakartaDocuments) {
+                JakartaTextDocument document = jakartaDocument.join();
+                if (document == null) {
+                    continue;
+                }
+                String uri = document.getUri();
+                String resultId = getResultId(document);
+                if (resultId.equals(previousResultIds.get(uri))) {
+                    items.add(new WorkspaceDocumentDiagnosticReport(new WorkspaceUnchangedDocumentDiagnosticReport(resultId, uri, document.getVersion())));
+                } else {
+                    uris.add(uri);
+                    resultIds.put(uri, resultId);
+                    versions.put(uri, document.getVersion());
+                }
+            }
+            if (uris.isEmpty()) {
+                // Nothing new to report, answer when an opened document changes. The
+                // dependent is completed when the client cancels the request, so that
+                // the next change doesn't collect the diagnostics of an orphan request
+                CompletableFuture<Void> rerun = changed.thenRun(() -> collectWorkspaceDiagnostics(params, response));
+                response.whenComplete((result, error) -> rerun.complete(null));
+                return CompletableFuture.completedFuture(null);
+            }
+            CompletableFuture<List<JakartaPublishDiagnosticsParams>> request = pullJavaDiagnostics(uris);
+            response.whenComplete((result, error) -> {
+                if (response.isCancelled()) {
+                    request.cancel(true);
+                }
+            });
+            return request.thenApply(diagnostics -> {
+                if (diagnostics == null) {
+                    return new WorkspaceDiagnosticReport(items);
+                }
+                for (JakartaPublishDiagnosticsParams diagnostic : diagnostics) {
+                    String uri = diagnostic.getUri();
+                    WorkspaceFullDocumentDiagnosticReport report = new WorkspaceFullDocumentDiagnosticReport(diagnostic.getDiagnostics(), uri, versions.get(uri));
+                    if (!diagnostic.isPartial()) {
+                        report.setResultId(resultIds.get(uri));
+                    }
+                    items.add(new WorkspaceDocumentDiagnosticReport(report));
+                }
+                return new WorkspaceDiagnosticReport(items);
+            });
+        }).whenComplete((result, error) -> {
+            if (error != null) {
+                response.completeExceptionally(error);
+            } else if (result != null) {
+                response.complete(result);
+            }
+        });
+    }
+
+    /**
+     * Returns the diagnostics of the given Java file uri without time budget. The
+     * request cancels the pending request of the uri, and is canceled when a
+     * newer version of the document is validated.
+     *
+     * @param uri Java file uri to validate.
+     * @return the diagnostics of the given Java file uri.
+     */
+    private CompletableFuture<List<JakartaPublishDiagnosticsParams>> pullJavaDiagnostics(String uri) {
+        JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri), false);
+        CompletableFuture<List<JakartaPublishDiagnosticsParams>> request = jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams);
+        registerPendingDiagnostics(uri, request);
+        return request.whenComplete((diagnostics, error) -> {
+            pendingDiagnosticsRequests.remove(uri, request);
+        });
+    }
+
+    /**
+     * Returns the diagnostics of the given Java files uris without time budget.
+     *
+     * <p>
+     * The request is not canceled when one of the documents changes: the report
+     * of the other documents is still valid, and the result id of the changed
+     * document makes the next workspace/diagnostic request validate it again.
+     * </p>
+     *
+     * @param uris Java files uris to validate.
+     * @return the diagnostics of the given Java files uris, in the order of the
+     *         uris.
+     */
+    private CompletableFuture<List<JakartaPublishDiagnosticsParams>> pullJavaDiagnostics(List<String> uris) {
+        JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(uris, false);
+        return jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams);
+    }
+
+    /**
+     * Returns the error which asks the client to pull again the diagnostics of
+     * the given Java file uri, because their validation was canceled.
+     *
+     * @param uri Java file uri.
+     * @return the server cancelled error.
+     */
+    private static ResponseErrorException createServerCancelledError(String uri) {
+        ResponseError error = new ResponseError(ResponseErrorCode.ServerCancelled, "The validation of '" + uri + "' was canceled",
+                                                new DiagnosticServerCancellationData(true));
+        return new ResponseErrorException(error);
+    }
+
+    private String getResultId(JakartaTextDocument document) {
+        return document.getVersion() + ":" + dependencyStamp.get();
+    }
+
+    boolean isPullDiagnostics() {
+        return jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isPullDiagnosticsSupported();
+    }
+
+    /**
+     * Invalidates the pulled diagnostics of all the opened documents and asks
+     * the client to pull them again.
+     */
+    void dependenciesChanged() {
+        dependencyStamp.incrementAndGet();
+        notifyDiagnosticsChanged();
+        if (jakartaLanguageServer.getCapabilityManager().getClientCapabilities().isDiagnosticsRefreshSupported()) {
+            jakartaLanguageServer.getLanguageClient().refreshDiagnostics();
+        }
+    }
+
+    private void notifyDiagnosticsChanged() {
+        diagnosticsChanged.getAndSet(new CompletableFuture<>()).complete(null);
+    }
+
     @Override
     public void didOpen(DidOpenTextDocumentParams params) {
         validate(documents.onDidOpenTextDocument(params), false);
@@ -199,11 +474,23 @@ public class JakartaTextDocumentService implements TextDocumentService {
 
     @Override
     public void didSave(DidSaveTextDocumentParams params) {
+        if (isPullDiagnostics()) {
+            // the saved file may change the diagnostics of all opened java files
+            dependenciesChanged();
+            return;
+        }
         // validate all opened java files which belong to a Jakarta project
         triggerValidationForAll(null);
     }
 
     private void validate(JakartaTextDocument javaTextDocument, boolean delay) {
+        // The diagnostics being computed for a previous version are outdated
+        cancelPendingDiagnostics(javaTextDocument.getUri());
+        if (isPullDiagnostics()) {
+            // the client pulls the diagnostics of the documents it shows
+            notifyDiagnosticsChanged();
+            return;
+        }
         if (delay) {
             validatorDelayer.validateWithDelay(javaTextDocument);
         } else {
@@ -239,6 +526,14 @@ public class JakartaTextDocumentService implements TextDocumentService {
     /**
      * Validate all given Java files uris.
      *
+     * <p>
+     * The uris are dispatched over at most 'parallelism' lanes. Each lane
+     * validates its uris one after the other and the diagnostics of each uri are
+     * published as soon as they are received. The validation generation of each
+     * uri is taken when the uris are dispatched, so that a lane skips the uris
+     * which were validated again, or closed, while it was waiting.
+     * </p>
+     *
      * @param uris Java files uris to validate.
      */
     private void triggerValidationFor(List<String> uris) {
@@ -246,24 +541,175 @@ public class JakartaTextDocumentService implements TextDocumentService {
             return;
         }
 
-        JakartaJavaDiagnosticsParams javaParams = new JakartaJavaDiagnosticsParams(uris, new JakartaJavaDiagnosticsSettings(null));
-
-        boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
-        if (markdownSupported) {
-            javaParams.setDocumentFormat(DocumentFormat.Markdown);
+        int parallelism = Math.max(1, Math.min(sharedSettings.getValidationSettings().getParallelism(), uris.size()));
+        for (int lane = 0; lane < parallelism; lane++) {
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < uris.size(); i += parallelism) {
+                String uri = uris.get(i);
+                int generation = validationGenerations.merge(uri, 1, Integer::sum);
+                future = future.thenCompose(unused -> isCurrentGeneration(uri, generation) ? triggerValidationFor(uri, generation, false) : CompletableFuture.completedFuture(null));
+            }
         }
+    }
 
-        jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams).thenApply(diagnostics -> {
+    /**
+     * Returns true if no other validation of the given Java file uri was
+     * triggered since the given generation and the document is still opened,
+     * and false otherwise.
+     *
+     * @param uri Java file uri.
+     * @param generation the validation generation.
+     * @return true if the given generation is the current one.
+     */
+    private boolean isCurrentGeneration(String uri, int generation) {
+        Integer currentGeneration = validationGenerations.get(uri);
+        return currentGeneration != null && currentGeneration == generation && documents.get(uri) != null;
+    }
+
+    /**
+     * Validate the given Java file uri and publish its diagnostics.
+     *
+     * <p>
+     * When the diagnostics are partial because the time budget was spent, a
+     * follow-up validation without budget is scheduled.
+     * </p>
+     *
+     * @param uri Java file uri to validate.
+     * @param generation the validation generation of the uri.
+     * @param followUp true if the validation completes partial diagnostics and
+     *            must not be limited by the time budget.
+     * @return the future completed when the diagnostics are published.
+     */
+    private CompletableFuture<Void> triggerValidationFor(String uri, int generation, boolean followUp) {
+        JakartaJavaDiagnosticsParams javaParams = createJavaDiagnosticsParams(Arrays.asList(uri), !followUp);
+
+        CompletableFuture<List<JakartaPublishDiagnosticsParams>> request = jakartaLanguageServer.getLanguageClient().getJavaDiagnostics(javaParams);
+        registerPendingDiagnostics(uri, request);
+        return request.handle((diagnostics, error) -> {
+            pendingDiagnosticsRequests.remove(uri, request);
+            if (isCancellation(error)) {
+                return null;
+            }
+            if (error != null) {
+                LOGGER.log(Level.WARNING, "Error while validating '" + uri + "'", error);
+                return null;
+            }
             if (diagnostics == null) {
                 return null;
             }
-            for (PublishDiagnosticsParams diagnostic : diagnostics) {
-                jakartaLanguageServer.getLanguageClient().publishDiagnostics(diagnostic);
+            for (JakartaPublishDiagnosticsParams diagnostic : diagnostics) {
+                // Empty partial diagnostics would clear the previous diagnostics of the
+                // document until the follow-up validation publishes the full ones
+                if (!diagnostic.isPartial() || !diagnostic.getDiagnostics().isEmpty()) {
+                    jakartaLanguageServer.getLanguageClient().publishDiagnostics(new PublishDiagnosticsParams(diagnostic.getUri(), diagnostic.getDiagnostics()));
+                }
+                if (diagnostic.isPartial()) {
+                    scheduleFollowUpValidation(diagnostic.getUri(), generation);
+                }
             }
             return null;
         });
     }
 
+    /**
+     * Returns the parameters of the diagnostics request for the given Java files
+     * uris.
+     *
+     * @param uris Java files uris to validate.
+     * @param timeBudget true if the validation is limited by the time budget of
+     *            the validation settings.
+     * @return the parameters of the diagnostics request.
+     */
+    private JakartaJavaDiagnosticsParams createJavaDiagnosticsParams(List<String> uris, boolean timeBudget) {
+        JakartaJavaDiagnosticsParams javaParams = new JakartaJavaDiagnosticsParams(uris, createJavaDiagnosticsSettings(timeBudget));
+        DocumentFormat documentFormat = getDiagnosticsDocumentFormat();
+        if (documentFormat != null) {
+            javaParams.setDocumentFormat(documentFormat);
+        }
+        return javaParams;
+    }
+
+    /**
+     * Returns the diagnostics settings of the client.
+     *
+     * @param timeBudget true if the validation is limited by the time budget of
+     *            the validation settings.
+     * @return the diagnostics settings of the client.
+     */
+    private JakartaJavaDiagnosticsSettings createJavaDiagnosticsSettings(boolean timeBudget) {
+        JakartaJavaDiagnosticsSettings settings = new JakartaJavaDiagnosticsSettings(null);
+        settings.setParallelParticipants(sharedSettings.getValidationSettings().isParallelParticipants());
+        settings.setParallelism(sharedSettings.getValidationSettings().getParallelism());
+        if (timeBudget) {
+            settings.setTimeBudget(sharedSettings.getValidationSettings().getTimeBudget());
+        }
+        return settings;
+    }
+
+    /**
+     * Returns the document format of the diagnostics messages supported by the
+     * client and null if the default format must be used.
+     *
+     * @return the document format of the diagnostics messages and null
+     *         otherwise.
+     */
+    private DocumentFormat getDiagnosticsDocumentFormat() {
+        boolean markdownSupported = sharedSettings.getHoverSettings().isContentFormatSupported(MarkupKind.MARKDOWN);
+        return markdownSupported ? DocumentFormat.Markdown : null;
+    }
+
+    /**
+     * Cancels the in-flight diagnostics request of the given Java file uri, if
+     * any. The cancellation is sent to the client, which stops the Java
+     * participants of the request.
+     *
+     * @param uri Java file uri.
+     */
+    private void cancelPendingDiagnostics(String uri) {
+        CompletableFuture<?> request = pendingDiagnosticsRequests.remove(uri);
+        if (request != null) {
+            request.cancel(true);
+        }
+    }
+
+    /**
+     * Registers the given in-flight diagnostics request of the given Java file
+     * uri, and cancels the request it replaces, if any.
+     *
+     * @param uri Java file uri.
+     * @param request the diagnostics request.
+     */
+    private void registerPendingDiagnostics(String uri, CompletableFuture<?> request) {
+        CompletableFuture<?> previousRequest = pendingDiagnosticsRequests.put(uri, request);
+        if (previousRequest != null && previousRequest != request) {
+            previousRequest.cancel(true);
+        }
+    }
+
+    private static boolean isCancellation(Throwable error) {
+        if (error instanceof CompletionException) {
+            error = error.getCause();
+        }
+        return error instanceof CancellationException;
+    }
+
+    /**
+     * Schedules a low priority validation of the given Java file uri, which runs
+     * after a delay and only if no other validation of the uri was triggered
+     * meanwhile and the document is still opened.
+     *
+     * @param uri Java file uri with partial diagnostics.
+     * @param generation the validation generation of the partial diagnostics.
+     */
+    private void scheduleFollowUpValidation(String uri, int generation) {
+        CompletableFuture.delayedExecutor(FOLLOW_UP_VALIDATION_DELAY, TimeUnit.MILLISECONDS).execute(() -> {
+            if (!isCurrentGeneration(uri, generation)) {
+                return;
+            }
+            triggerValidationFor(uri, generation, true);
+        });
+    }
+
     protected void cleanDiagnostics() {
         // clear existing diagnostics
         documents.all().forEach(doc -> {
@@ -295,4 +741,16 @@ public class JakartaTextDocumentService implements TextDocumentService {
         JakartaTraceSettings trace = sharedSettings.getTraceSettings();
         trace.update(newTrace);
     }
+
+    /**
+     * Updates the validation settings defined by the client.
+     *
+     * @param newValidation The new validation settings.
+     */
+    public void updateValidationSettings(JakartaValidationSettings newValidation) {
+        JakartaValidationSettings validation = sharedSettings.getValidationSettings();
+        validation.update(newValidation);
+        // the pulled diagnostics computed with the previous settings are outdated
+        dependencyStamp.incrementAndGet();
+    }
 }
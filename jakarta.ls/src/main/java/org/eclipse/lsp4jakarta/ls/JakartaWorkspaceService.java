@@ -13,8 +13,12 @@
 
 package org.eclipse.lsp4jakarta.ls;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.lsp4j.DidChangeConfigurationParams;
 import org.eclipse.lsp4j.DidChangeWatchedFilesParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
 import org.eclipse.lsp4j.services.WorkspaceService;
 
 public class JakartaWorkspaceService implements WorkspaceService {
@@ -28,6 +32,11 @@ public class JakartaWorkspaceService implements WorkspaceService {
     @Override
     public void didChangeConfiguration(DidChangeConfigurationParams params) {
         jakartaLanguageServer.updateSettings(params.getSettings());
+        JakartaTextDocumentService textDocumentService = jakartaLanguageServer.getTextDocumentService();
+        if (textDocumentService.isPullDiagnostics()) {
+            // the settings may change the diagnostics of all opened java files
+            textDocumentService.dependenciesChanged();
+        }
     }
 
     @Override
@@ -35,4 +44,9 @@ public class JakartaWorkspaceService implements WorkspaceService {
         // Do nothing
     }
 
+    @Override
+    public CompletableFuture<WorkspaceDiagnosticReport> diagnostic(WorkspaceDiagnosticParams params) {
+        return jakartaLanguageServer.getTextDocumentService().workspaceDiagnostic(params);
+    }
+
 }
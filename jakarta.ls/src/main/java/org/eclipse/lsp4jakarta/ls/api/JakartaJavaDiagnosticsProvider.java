@@ -15,9 +15,9 @@ package org.eclipse.lsp4jakarta.ls.api;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
-import org.eclipse.lsp4j.PublishDiagnosticsParams;
 import org.eclipse.lsp4j.jsonrpc.services.JsonRequest;
 import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
 
 /**
  * Jakarta Java diagnostics provider.
@@ -25,5 +25,5 @@ import org.eclipse.lsp4jakarta.commons.JakartaJavaDiagnosticsParams;
 public interface JakartaJavaDiagnosticsProvider {
 
     @JsonRequest("jakarta/java/diagnostics")
-    CompletableFuture<List<PublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams javaParams);
+    CompletableFuture<List<JakartaPublishDiagnosticsParams>> getJavaDiagnostics(JakartaJavaDiagnosticsParams javaParams);
 }
\ No newline at end of file
@@ -35,6 +35,8 @@ public class JakartaGeneralClientSettings {
 
     private JakartaTraceSettings trace;
 
+    private JakartaValidationSettings validation;
+
     /**
      * Returns the trace settings.
      *
@@ -53,6 +55,24 @@ public class JakartaGeneralClientSettings {
         this.trace = trace;
     }
 
+    /**
+     * Returns the validation settings.
+     *
+     * @return the validation settings.
+     */
+    public JakartaValidationSettings getValidation() {
+        return validation;
+    }
+
+    /**
+     * Set the validation settings.
+     *
+     * @param validation the validation settings.
+     */
+    public void setValidation(JakartaValidationSettings validation) {
+        this.validation = validation;
+    }
+
     /**
      * Returns the general settings from the given initialization options
      *
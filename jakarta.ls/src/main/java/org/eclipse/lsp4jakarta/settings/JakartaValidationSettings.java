@@ -0,0 +1,116 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0, or the Apache License, Version 2.0
+* which is available at https://www.apache.org/licenses/LICENSE-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0 OR Apache-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.settings;
+
+/**
+ * Jakarta validation settings.
+ *
+ * eg: {"validation" : {"parallelParticipants": true, "parallelism": 4, "timeBudget": 2000}}
+ */
+public class JakartaValidationSettings {
+
+    /** Default number of documents validated concurrently. */
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    /** True if the diagnostics participants collect in parallel. */
+    private boolean parallelParticipants;
+
+    /** Maximum number of documents validated concurrently. */
+    private int parallelism;
+
+    /** Time budget in milliseconds to validate one document, 0 for no budget. */
+    private int timeBudget;
+
+    /**
+     * Constructor.
+     */
+    public JakartaValidationSettings() {
+        setParallelism(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Returns true if the diagnostics participants collect their diagnostics in
+     * parallel and false otherwise.
+     *
+     * @return true if the diagnostics participants collect their diagnostics in
+     *         parallel and false otherwise.
+     */
+    public boolean isParallelParticipants() {
+        return parallelParticipants;
+    }
+
+    /**
+     * Sets whether the diagnostics participants collect their diagnostics in
+     * parallel.
+     *
+     * @param parallelParticipants true to collect in parallel.
+     */
+    public void setParallelParticipants(boolean parallelParticipants) {
+        this.parallelParticipants = parallelParticipants;
+    }
+
+    /**
+     * Returns the maximum number of documents validated concurrently.
+     *
+     * @return the maximum number of documents validated concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the maximum number of documents validated concurrently. Values lower
+     * than 1 are ignored.
+     *
+     * @param parallelism the maximum number of documents validated concurrently.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism >= 1) {
+            this.parallelism = parallelism;
+        }
+    }
+
+    /**
+     * Returns the time budget in milliseconds to validate one document. When the
+     * budget is spent, the partial diagnostics are published and a follow-up
+     * validation without budget is scheduled. A value lower than or equal to 0
+     * means no budget.
+     *
+     * @return the time budget in milliseconds to validate one document.
+     */
+    public int getTimeBudget() {
+        return timeBudget;
+    }
+
+    /**
+     * Sets the time budget in milliseconds to validate one document, 0 for no
+     * budget.
+     *
+     * @param timeBudget the time budget in milliseconds.
+     */
+    public void setTimeBudget(int timeBudget) {
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * Update the validation settings with the given new validation settings.
+     *
+     * @param newValidation the new validation settings.
+     */
+    public void update(JakartaValidationSettings newValidation) {
+        this.setParallelParticipants(newValidation.isParallelParticipants());
+        this.setParallelism(newValidation.getParallelism());
+        this.setTimeBudget(newValidation.getTimeBudget());
+    }
+}
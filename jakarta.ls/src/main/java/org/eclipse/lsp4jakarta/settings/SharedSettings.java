@@ -25,11 +25,13 @@ public class SharedSettings {
     private final JakartaCompletionCapabilities completionCapabilities;
     private final JakartaHoverSettings hoverSettings;
     private final JakartaTraceSettings traceSettings;
+    private final JakartaValidationSettings validationSettings;
 
     public SharedSettings() {
         this.completionCapabilities = new JakartaCompletionCapabilities();
         this.hoverSettings = new JakartaHoverSettings();
         this.traceSettings = new JakartaTraceSettings();
+        this.validationSettings = new JakartaValidationSettings();
     }
 
     /**
@@ -58,4 +60,13 @@ public class SharedSettings {
     public JakartaTraceSettings getTraceSettings() {
         return traceSettings;
     }
+
+    /**
+     * Returns the validation settings.
+     *
+     * @return the validation settings.
+     */
+    public JakartaValidationSettings getValidationSettings() {
+        return validationSettings;
+    }
 }
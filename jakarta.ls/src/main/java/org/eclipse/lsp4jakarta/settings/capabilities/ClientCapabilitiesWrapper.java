@@ -93,6 +93,29 @@ public class ClientCapabilitiesWrapper {
                && capabilities.getWorkspace().getWorkspaceEdit().getResourceOperations().contains(ResourceOperationKind.Delete);
     }
 
+    /**
+     * Returns true if the client supports pulling the diagnostics of a document
+     * (textDocument/diagnostic) and false otherwise.
+     *
+     * @return true if the client supports pull diagnostics and false otherwise
+     */
+    public boolean isPullDiagnosticsSupported() {
+        return v3Supported && getTextDocument().getDiagnostic() != null;
+    }
+
+    /**
+     * Returns true if the client supports the workspace/diagnostic/refresh
+     * request and false otherwise.
+     *
+     * @return true if the client supports refreshing the pulled diagnostics and
+     *         false otherwise
+     */
+    public boolean isDiagnosticsRefreshSupported() {
+        return capabilities.getWorkspace() != null && capabilities.getWorkspace().getDiagnostics() != null
+               && capabilities.getWorkspace().getDiagnostics().getRefreshSupport() != null
+               && capabilities.getWorkspace().getDiagnostics().getRefreshSupport().booleanValue();
+    }
+
     /**
      * Returns true if the client supports both code action data and resolving
      * workspace edits for code actions, and false otherwise.
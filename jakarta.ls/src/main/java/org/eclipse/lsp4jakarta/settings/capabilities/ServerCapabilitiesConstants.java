@@ -18,6 +18,7 @@ import java.util.UUID;
 
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CompletionOptions;
+import org.eclipse.lsp4j.DiagnosticRegistrationOptions;
 
 /**
  * Server Capabilities Constants
@@ -39,6 +40,10 @@ public class ServerCapabilitiesConstants {
 
     public static final CodeActionOptions DEFAULT_CODEACTION_OPTIONS = createDefaultCodeActionOptions();
 
+    // Diagnostics of a Java file depend on the other files of the project, and
+    // are also provided for all the opened files with workspace/diagnostic
+    public static final DiagnosticRegistrationOptions DEFAULT_DIAGNOSTIC_OPTIONS = new DiagnosticRegistrationOptions(true, true);
+
     private static CodeActionOptions createDefaultCodeActionOptions() {
         CodeActionOptions options = new CodeActionOptions();
         options.setResolveProvider(Boolean.TRUE);
@@ -0,0 +1,217 @@
+/*******************************************************************************
+* Copyright (c) 2026 IBM Corporation and others.
+*
+* This program and the accompanying materials are made available under the
+* terms of the Eclipse Public License v. 2.0 which is available at
+* http://www.eclipse.org/legal/epl-2.0.
+*
+* SPDX-License-Identifier: EPL-2.0
+*
+* Contributors:
+*     IBM Corporation - initial API and implementation
+*******************************************************************************/
+package org.eclipse.lsp4jakarta.ls;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.lsp4j.ClientCapabilities;
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.lsp4j.DiagnosticCapabilities;
+import org.eclipse.lsp4j.DiagnosticServerCancellationData;
+import org.eclipse.lsp4j.DidChangeTextDocumentParams;
+import org.eclipse.lsp4j.DidOpenTextDocumentParams;
+import org.eclipse.lsp4j.DocumentDiagnosticParams;
+import org.eclipse.lsp4j.DocumentDiagnosticReport;
+import org.eclipse.lsp4j.HoverCapabilities;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.PreviousResultId;
+import org.eclipse.lsp4j.Range;
+import org.eclipse.lsp4j.TextDocumentClientCapabilities;
+import org.eclipse.lsp4j.TextDocumentContentChangeEvent;
+import org.eclipse.lsp4j.TextDocumentIdentifier;
+import org.eclipse.lsp4j.TextDocumentItem;
+import org.eclipse.lsp4j.VersionedTextDocumentIdentifier;
+import org.eclipse.lsp4j.WorkspaceDiagnosticParams;
+import org.eclipse.lsp4j.WorkspaceDiagnosticReport;
+import org.eclipse.lsp4j.jsonrpc.ResponseErrorException;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseError;
+import org.eclipse.lsp4j.jsonrpc.messages.ResponseErrorCode;
+import org.eclipse.lsp4jakarta.commons.JakartaPublishDiagnosticsParams;
+import org.eclipse.lsp4jakarta.commons.ProjectLabelInfoEntry;
+import org.eclipse.lsp4jakarta.ls.api.JakartaLanguageClientAPI;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the textDocument/diagnostic requests (pull diagnostics) of
+ * {@link JakartaTextDocumentService}, with a client whose Java diagnostics are
+ * provided by the test.
+ */
+public class PullDiagnosticsTest {
+
+    private static final String URI = "file:///project/src/main/java/Foo.java";
+
+    private JakartaLanguageServer server;
+
+    private final AtomicInteger diagnosticsRequests = new AtomicInteger();
+
+    private final AtomicReference<CompletableFuture<List<JakartaPublishDiagnosticsParams>>> nextDiagnostics = new AtomicReference<>();
+
+    @Before
+    public void setUp() {
+        server = new JakartaLanguageServer();
+        server.setLanguageClient(createClient());
+        ClientCapabilities capabilities = new ClientCapabilities();
+        TextDocumentClientCapabilities textDocument = new TextDocumentClientCapabilities();
+        textDocument.setDiagnostic(new DiagnosticCapabilities());
+        textDocument.setHover(new HoverCapabilities());
+        capabilities.setTextDocument(textDocument);
+        server.getCapabilityManager().setClientCapabilities(capabilities, null);
+        server.getTextDocumentService().updateClientCapabilities(capabilities, null);
+        server.getTextDocumentService().didOpen(new DidOpenTextDocumentParams(new TextDocumentItem(URI, "java", 1, "public class Foo {}")));
+    }
+
+    @Test
+    public void unchangedReportForSameResultId() throws Exception {
+        nextDiagnostics.set(CompletableFuture.completedFuture(Collections.singletonList(createDiagnostics())));
+        DocumentDiagnosticReport full = pull(null);
+        assertTrue(full.isRelatedFullDocumentDiagnosticReport());
+        assertEquals(1, full.getRelatedFullDocumentDiagnosticReport().getItems().size());
+        String resultId = full.getRelatedFullDocumentDiagnosticReport().getResultId();
+        assertNotNull(resultId);
+        assertEquals(1, diagnosticsRequests.get());
+
+        DocumentDiagnosticReport unchanged = pull(resultId);
+        assertTrue(unchanged.isRelatedUnchangedDocumentDiagnosticReport());
+        assertEquals(resultId, unchanged.getRelatedUnchangedDocumentDiagnosticReport().getResultId());
+        // the diagnostics were not computed again
+        assertEquals(1, diagnosticsRequests.get());
+    }
+
+    @Test
+    public void fullReportAfterChange() throws Exception {
+        nextDiagnostics.set(CompletableFuture.completedFuture(Collections.singletonList(createDiagnostics())));
+        String resultId = pull(null).getRelatedFullDocumentDiagnosticReport().getResultId();
+
+        change(2);
+        nextDiagnostics.set(CompletableFuture.completedFuture(Collections.singletonList(createDiagnostics())));
+        DocumentDiagnosticReport report = pull(resultId);
+        assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+        assertNotEquals(resultId, report.getRelatedFullDocumentDiagnosticReport().getResultId());
+        assertEquals(2, diagnosticsRequests.get());
+    }
+
+    @Test
+    public void partialDiagnosticsHaveNoResultId() throws Exception {
+        JakartaPublishDiagnosticsParams diagnostics = createDiagnostics();
+        diagnostics.setPartial(true);
+        nextDiagnostics.set(CompletableFuture.completedFuture(Collections.singletonList(diagnostics)));
+        DocumentDiagnosticReport report = pull(null);
+        assertTrue(report.isRelatedFullDocumentDiagnosticReport());
+        assertNull(report.getRelatedFullDocumentDiagnosticReport().getResultId());
+    }
+
+    @Test
+    public void changeCancelsPendingPullWithRetrigger() throws Exception {
+        CompletableFuture<List<JakartaPublishDiagnosticsParams>> pending = new CompletableFuture<>();
+        nextDiagnostics.set(pending);
+        CompletableFuture<DocumentDiagnosticReport> report = server.getTextDocumentService().diagnostic(new DocumentDiagnosticParams(new TextDocumentIdentifier(URI)));
+        waitForRequest(1);
+
+        change(2);
+        assertTrue(pending.isCancelled());
+        try {
+            report.get(10, TimeUnit.SECONDS);
+            fail("The pull diagnostics request should fail with ServerCancelled");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            assertTrue(cause instanceof ResponseErrorException);
+            ResponseError error = ((ResponseErrorException) cause).getResponseError();
+            assertEquals(ResponseErrorCode.ServerCancelled.getValue(), error.getCode());
+            assertTrue(((DiagnosticServerCancellationData) error.getData()).isRetriggerRequest());
+        }
+    }
+
+    @Test
+    public void canceledWorkspacePullIsNotCollectedOnChange() throws Exception {
+        nextDiagnostics.set(CompletableFuture.completedFuture(Collections.singletonList(createDiagnostics())));
+        WorkspaceDiagnosticReport full = server.getTextDocumentService().workspaceDiagnostic(new WorkspaceDiagnosticParams(Collections.emptyList())).get(10,
+                                                                                                                                                        TimeUnit.SECONDS);
+        String resultId = full.getItems().get(0).getWorkspaceFullDocumentDiagnosticReport().getResultId();
+        assertEquals(1, diagnosticsRequests.get());
+
+        // nothing changed, the request is held until a change
+        CompletableFuture<WorkspaceDiagnosticReport> held = server.getTextDocumentService().workspaceDiagnostic(new WorkspaceDiagnosticParams(Arrays.asList(new PreviousResultId(URI,
+                                                                                                                                                                             resultId))));
+        Thread.sleep(100);
+        assertFalse(held.isDone());
+        held.cancel(true);
+
+        change(2);
+        Thread.sleep(100);
+        // the canceled request doesn't collect the diagnostics of the change
+        assertEquals(1, diagnosticsRequests.get());
+    }
+
+    private DocumentDiagnosticReport pull(String previousResultId) throws Exception {
+        DocumentDiagnosticParams params = new DocumentDiagnosticParams(new TextDocumentIdentifier(URI));
+        params.setPreviousResultId(previousResultId);
+        return server.getTextDocumentService().diagnostic(params).get(10, TimeUnit.SECONDS);
+    }
+
+    private void change(int version) {
+        server.getTextDocumentService().didChange(new DidChangeTextDocumentParams(new VersionedTextDocumentIdentifier(URI, version),
+                                                                                  Arrays.asList(new TextDocumentContentChangeEvent("public class Foo { }"))));
+    }
+
+    private void waitForRequest(int count) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while (diagnosticsRequests.get() < count && System.currentTimeMillis() < end) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, diagnosticsRequests.get());
+    }
+
+    private static JakartaPublishDiagnosticsParams createDiagnostics() {
+        Diagnostic diagnostic = new Diagnostic(new Range(new Position(0, 0), new Position(0, 6)), "message");
+        return new JakartaPublishDiagnosticsParams(URI, Arrays.asList(diagnostic));
+    }
+
+    private JakartaLanguageClientAPI createClient() {
+        return (JakartaLanguageClientAPI) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { JakartaLanguageClientAPI.class },
+                                                                 (proxy, method, args) -> {
+                                                                     switch (method.getName()) {
+                                                                         case "getJavaProjectLabels":
+                                                                             return CompletableFuture.completedFuture(new ProjectLabelInfoEntry("file:///project", "project",
+                                                                                                                                                Arrays.asList("jakarta")));
+                                                                         case "getJavaDiagnostics":
+                                                                             diagnosticsRequests.incrementAndGet();
+                                                                             return nextDiagnostics.get();
+                                                                         case "hashCode":
+                                                                             return System.identityHashCode(proxy);
+                                                                         case "equals":
+                                                                             return proxy == args[0];
+                                                                         case "toString":
+                                                                             return "client";
+                                                                         default:
+                                                                             return CompletableFuture.class.equals(method.getReturnType()) ? CompletableFuture.completedFuture(null) : null;
+                                                                     }
+                                                                 });
+    }
+}